@@ -29,13 +29,17 @@ SET time_zone = "+00:00";
 
 CREATE TABLE `notifications` (
   `notification_id` int(11) NOT NULL,
-  `student_id` int(11) NOT NULL,
+  `student_id` int(11) DEFAULT NULL,
   `subject_id` int(11) DEFAULT NULL,
+  `recipient` varchar(100) NOT NULL,
   `title` varchar(200) NOT NULL,
   `message` text NOT NULL,
   `sent_at` timestamp NOT NULL DEFAULT current_timestamp(),
   `status` enum('pending','sent','failed') DEFAULT 'pending',
-  `sent_by` int(11) DEFAULT NULL
+  `sent_by` int(11) DEFAULT NULL,
+  `attempts` int(11) NOT NULL DEFAULT 0,
+  `next_attempt_at` timestamp NOT NULL DEFAULT current_timestamp(),
+  `last_error` varchar(500) DEFAULT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- --------------------------------------------------------
@@ -80,6 +84,7 @@ CREATE TABLE `students` (
   `last_name` varchar(50) DEFAULT NULL,
   `section` varchar(20) DEFAULT NULL,
   `guardian_name` varchar(100) DEFAULT NULL,
+  `guardian_email` varchar(100) DEFAULT NULL,
   `email` varchar(100) DEFAULT NULL,
   `phone` varchar(20) DEFAULT NULL,
   `created_by` int(11) DEFAULT NULL,
@@ -183,7 +188,8 @@ ALTER TABLE `notifications`
   ADD PRIMARY KEY (`notification_id`),
   ADD KEY `student_id` (`student_id`),
   ADD KEY `subject_id` (`subject_id`),
-  ADD KEY `sent_by` (`sent_by`);
+  ADD KEY `sent_by` (`sent_by`),
+  ADD KEY `idx_notification_due` (`status`,`next_attempt_at`);
 
 --
 -- Indexes for table `records`
@@ -205,7 +211,8 @@ ALTER TABLE `students`
   ADD KEY `idx_student_number` (`student_number`),
   ADD KEY `idx_student_first_name` (`first_name`),
   ADD KEY `idx_student_last_name` (`last_name`),
-  ADD KEY `idx_student_created_by` (`created_by`);
+  ADD KEY `idx_student_created_by` (`created_by`),
+  ADD KEY `idx_student_updated` (`updated_at`);
 
 --
 -- Indexes for table `student_subjects`
@@ -213,7 +220,8 @@ ALTER TABLE `students`
 ALTER TABLE `student_subjects`
   ADD PRIMARY KEY (`enrollment_id`),
   ADD UNIQUE KEY `unique_enrollment` (`student_id`,`subject_id`),
-  ADD KEY `subject_id` (`subject_id`);
+  ADD KEY `subject_id` (`subject_id`),
+  ADD KEY `idx_enrollment_subject_status` (`subject_id`,`status`,`student_id`);
 
 --
 -- Indexes for table `subjects`
@@ -223,7 +231,8 @@ ALTER TABLE `subjects`
   ADD UNIQUE KEY `subject_code` (`subject_code`),
   ADD UNIQUE KEY `idx_subject_code` (`subject_code`),
   ADD KEY `created_by` (`created_by`),
-  ADD KEY `idx_subject_name` (`subject_name`);
+  ADD KEY `idx_subject_name` (`subject_name`),
+  ADD KEY `idx_subject_updated` (`updated_at`);
 
 --
 -- Indexes for table `users`
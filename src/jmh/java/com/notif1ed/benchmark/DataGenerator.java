@@ -0,0 +1,256 @@
+package com.notif1ed.benchmark;
+
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seeds the database behind DatabaseConnection with a school-sized data set:
+ * students, subjects, enrollments and a long attendance history. Output is
+ * deterministic for a given set of counts.
+ *
+ * <p>Run through the benchmarks profile to build the persistent stand-in
+ * database (defaults: 100k students, 1k subjects, 10M records):</p>
+ * <pre>mvn -P benchmarks compile exec:java@seed -Dseed.records=1000000</pre>
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class DataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+
+    /** Students already present in notified_db.sql. */
+    static final int SAMPLE_STUDENTS = 2;
+
+    /** Records are spread evenly over this many days, ending at generation time. */
+    public static final int SPAN_DAYS = 180;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Maria", "Jose", "Ana", "Mark", "Grace", "Paolo", "Andrea", "Miguel", "Sofia",
+        "Carlo", "Bea", "Rafael", "Isabel", "Gabriel", "Camille", "Luis", "Patricia", "Enzo", "Nicole"
+    };
+    private static final String[] LAST_NAMES = {
+        "Santos", "Reyes", "Cruz", "Bautista", "Garcia", "Mendoza", "Torres", "Flores", "Ramos", "Castillo",
+        "Villanueva", "Aquino", "Navarro", "Domingo", "Salazar", "Gonzales", "Rivera", "Dela Cruz", "Lim", "Tan"
+    };
+    private static final String[] SUBJECT_PREFIXES = { "IT", "CS", "IS", "MATH", "ENG", "GE", "PE", "NSTP" };
+    private static final int BATCH_SIZE = 1000;
+    private static final int COMMIT_EVERY = 50_000;
+    private static final long PROGRESS_EVERY = 1_000_000;
+
+    private final int studentCount;
+    private final int subjectCount;
+    private final long recordCount;
+    private final int enrollmentsPerStudent;
+    private final Random random = new Random(42);
+
+    /**
+     * @param studentCount students to generate
+     * @param subjectCount subjects to generate
+     * @param recordCount attendance and activity records to generate
+     * @param enrollmentsPerStudent subjects each student is enrolled in
+     */
+    public DataGenerator(int studentCount, int subjectCount, long recordCount, int enrollmentsPerStudent) {
+        this.studentCount = studentCount;
+        this.subjectCount = subjectCount;
+        this.recordCount = recordCount;
+        this.enrollmentsPerStudent = Math.min(enrollmentsPerStudent, subjectCount);
+    }
+
+    /**
+     * Inserts the generated rows. Expects the schema from
+     * {@link StandInDatabase#create()} (or an empty production schema).
+     *
+     * @throws SQLException if a batch failed
+     */
+    public void generate() throws SQLException {
+        try (Connection conn = DatabaseConnection.connect()) {
+            conn.setAutoCommit(false);
+            insertStudents(conn);
+            insertSubjects(conn);
+            int[] studentIds = ids(conn, "SELECT student_id FROM students ORDER BY student_id");
+            int[] subjectIds = ids(conn, "SELECT subject_id FROM subjects ORDER BY subject_id");
+            insertEnrollments(conn, studentIds, subjectIds);
+            insertRecords(conn, studentIds, subjectIds);
+            conn.commit();
+        }
+    }
+
+    /**
+     * Builds students with realistic names, numbers, sections and emails
+     * without touching the database.
+     *
+     * @param count number of students
+     * @return the students, ordered by student number
+     */
+    public static List<StudentEntry> students(int count) {
+        Random random = new Random(42);
+        List<StudentEntry> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            StudentEntry student = new StudentEntry(studentNumber(i), firstName, lastName,
+                (firstName + "." + lastName).toLowerCase().replace(' ', '.') + i + "@school.edu");
+            student.setSection(section(i));
+            student.setGuardianName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + lastName);
+            students.add(student);
+        }
+        return students;
+    }
+
+    private void insertStudents(Connection conn) throws SQLException {
+        String sql = "INSERT INTO students (student_number, first_name, last_name, section, guardian_name, email, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 1)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            long row = 0;
+            for (StudentEntry student : students(studentCount)) {
+                stmt.setString(1, student.getStudentNumber());
+                stmt.setString(2, student.getFirstName());
+                stmt.setString(3, student.getLastName());
+                stmt.setString(4, student.getSection());
+                stmt.setString(5, student.getGuardianName());
+                stmt.setString(6, student.getEmail());
+                addBatch(conn, stmt, ++row);
+            }
+            stmt.executeBatch();
+        }
+        log.info("Inserted {} students", studentCount);
+    }
+
+    private void insertSubjects(Connection conn) throws SQLException {
+        String sql = "INSERT INTO subjects (subject_code, subject_name, year_level, section, description, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, 1)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < subjectCount; i++) {
+                String prefix = SUBJECT_PREFIXES[i % SUBJECT_PREFIXES.length];
+                // Four-digit numbers keep generated codes clear of the sample subjects (CS101, ...)
+                int number = 1000 + i / SUBJECT_PREFIXES.length;
+                stmt.setString(1, prefix + number);
+                stmt.setString(2, prefix + " " + number + " Lecture");
+                stmt.setInt(3, 1 + i % 4);
+                stmt.setString(4, section(i));
+                stmt.setString(5, "Generated subject " + (i + 1));
+                addBatch(conn, stmt, i + 1);
+            }
+            stmt.executeBatch();
+        }
+        log.info("Inserted {} subjects", subjectCount);
+    }
+
+    private void insertEnrollments(Connection conn, int[] studentIds, int[] subjectIds) throws SQLException {
+        String sql = "INSERT INTO student_subjects (student_id, subject_id, enrollment_date, status) VALUES (?, ?, ?, ?)";
+        LocalDateTime enrolled = LocalDateTime.now().minusDays(SPAN_DAYS);
+        long row = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            // Sample students keep their dump enrollments
+            for (int s = SAMPLE_STUDENTS; s < studentIds.length; s++) {
+                // Consecutive subjects from a random start are distinct, which unique_enrollment requires
+                int first = random.nextInt(subjectIds.length);
+                for (int e = 0; e < enrollmentsPerStudent; e++) {
+                    stmt.setInt(1, studentIds[s]);
+                    stmt.setInt(2, subjectIds[(first + e) % subjectIds.length]);
+                    stmt.setDate(3, java.sql.Date.valueOf(enrolled.toLocalDate()));
+                    stmt.setString(4, random.nextInt(20) == 0 ? "dropped" : "active");
+                    addBatch(conn, stmt, ++row);
+                }
+            }
+            stmt.executeBatch();
+        }
+        log.info("Inserted {} enrollments", row);
+    }
+
+    private void insertRecords(Connection conn, int[] studentIds, int[] subjectIds) throws SQLException {
+        String sql = "INSERT INTO records (student_id, subject_id, record_type, created_at) VALUES (?, ?, ?, ?)";
+        long spanMillis = TimeUnit.DAYS.toMillis(SPAN_DAYS);
+        long start = System.currentTimeMillis() - spanMillis;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (long i = 0; i < recordCount; i++) {
+                int kind = random.nextInt(20);
+                stmt.setInt(1, studentIds[random.nextInt(studentIds.length)]);
+                if (kind == 0) {
+                    // Roughly one in twenty records is a notification about a specific subject
+                    stmt.setInt(2, subjectIds[random.nextInt(subjectIds.length)]);
+                    stmt.setString(3, "EMAIL_SENT");
+                } else {
+                    stmt.setNull(2, Types.INTEGER);
+                    stmt.setString(3, kind % 2 == 0 ? "Arrival" : "Departure");
+                }
+                stmt.setTimestamp(4, new Timestamp(start + spanMillis * i / recordCount));
+                addBatch(conn, stmt, i + 1);
+                if ((i + 1) % PROGRESS_EVERY == 0) {
+                    log.info("Inserted {} of {} records", i + 1, recordCount);
+                }
+            }
+            stmt.executeBatch();
+        }
+        log.info("Inserted {} records", recordCount);
+    }
+
+    private static void addBatch(Connection conn, PreparedStatement stmt, long row) throws SQLException {
+        stmt.addBatch();
+        if (row % BATCH_SIZE == 0) {
+            stmt.executeBatch();
+        }
+        if (row % COMMIT_EVERY == 0) {
+            conn.commit();
+        }
+    }
+
+    private static int[] ids(Connection conn, String sql) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static String studentNumber(int index) {
+        // Four-digit year prefixes keep generated numbers clear of the sample rows
+        return (2000 + index / 10_000) + "-" + String.format("%04d", index % 10_000);
+    }
+
+    private static String section(int index) {
+        return "BSIT-" + (1 + index % 4) + (char) ('A' + index / 4 % 6);
+    }
+
+    /**
+     * Creates the persistent stand-in database and fills it. Counts come from
+     * -Dseed.students, -Dseed.subjects, -Dseed.records and -Dseed.enrollments.
+     */
+    public static void main(String[] args) throws Exception {
+        StandInDatabase.use(StandInDatabase.FILE_URL);
+        DataGenerator generator = new DataGenerator(
+            Integer.getInteger("seed.students", 100_000),
+            Integer.getInteger("seed.subjects", 1_000),
+            Long.getLong("seed.records", 10_000_000L),
+            Integer.getInteger("seed.enrollments", 5));
+
+        long started = System.nanoTime();
+        try {
+            StandInDatabase.create();
+            generator.generate();
+            log.info("Seeded stand-in database in {} s",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        } finally {
+            DatabaseConnection.closePool();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.notif1ed.benchmark;
+
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints the stand-in database's plan for each hot query in {@link Constants},
+ * to check index usage after a query or schema change. H2's optimizer is not
+ * MySQL's, so confirm anything surprising with EXPLAIN on a real server.
+ *
+ * <pre>mvn -P benchmarks compile exec:java@plans</pre>
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public final class QueryPlans {
+
+    private QueryPlans() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws SQLException {
+        StandInDatabase.use(StandInDatabase.FILE_URL);
+        if (!StandInDatabase.isSeeded()) {
+            throw new IllegalStateException("Stand-in database is empty; run exec:java@seed first");
+        }
+
+        Timestamp monthAgo = Timestamp.valueOf(LocalDateTime.now().minusDays(30));
+        Timestamp today = Timestamp.valueOf(LocalDate.now().atStartOfDay());
+        Timestamp tomorrow = Timestamp.valueOf(LocalDate.now().plusDays(1).atStartOfDay());
+
+        // Query name -> sample parameters, in statement order
+        Map<String, Object[]> queries = new LinkedHashMap<>();
+        queries.put("SELECT_ALL_STUDENTS", new Object[0]);
+        queries.put("SELECT_STUDENT_BY_NUMBER", new Object[] { "2005-0042" });
+        queries.put("SELECT_RECORDS_FIRST_PAGE", new Object[] { Constants.RECORDS_PAGE_SIZE });
+        queries.put("SELECT_RECORDS_PAGE_BEFORE", new Object[] { monthAgo, monthAgo, Integer.MAX_VALUE, Constants.RECORDS_PAGE_SIZE });
+        queries.put("SELECT_RECORDS_AFTER_ID", new Object[] { 1_000, 500 });
+        queries.put("PROBE_STUDENTS", new Object[0]);
+        queries.put("SELECT_STUDENTS_UPDATED_SINCE", new Object[] { monthAgo, 500 });
+        queries.put("SELECT_DASHBOARD_STATS", new Object[] { today, tomorrow });
+        queries.put("SELECT_ENROLLED_STUDENTS", new Object[] { 10 });
+        queries.put("SELECT_AVAILABLE_STUDENTS", new Object[] { 10 });
+        queries.put("SELECT_DAILY_ATTENDANCE", new Object[] { 10 });
+        queries.put("SELECT_DUE_NOTIFICATIONS", new Object[] { 50 });
+
+        try (Connection conn = DatabaseConnection.connect()) {
+            for (Map.Entry<String, Object[]> query : queries.entrySet()) {
+                System.out.println("== " + query.getKey());
+                System.out.println(explain(conn, sql(query.getKey()), query.getValue()));
+                System.out.println();
+            }
+        } finally {
+            DatabaseConnection.closePool();
+        }
+    }
+
+    private static String explain(Connection conn, String sql, Object[] parameters) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN ANALYZE " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : "(no plan)";
+            }
+        }
+    }
+
+    private static String sql(String constant) {
+        try {
+            return (String) Constants.class.getField(constant).get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No query constant " + constant, e);
+        }
+    }
+}
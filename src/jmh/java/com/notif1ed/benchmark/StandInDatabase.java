@@ -0,0 +1,141 @@
+package com.notif1ed.benchmark;
+
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * H2 in MySQL compatibility mode standing in for the production server, with
+ * the schema from notified_db.sql. {@link #use(String)} points
+ * DatabaseConnection's pool at it, so repositories run unchanged.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public final class StandInDatabase {
+
+    private static final Logger log = LoggerFactory.getLogger(StandInDatabase.class);
+
+    /** Throwaway database that lives as long as the JVM. */
+    public static final String MEMORY_URL =
+        "jdbc:h2:mem:notified;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    /** Persistent database under target/, seeded once by {@link DataGenerator}. */
+    public static final String FILE_URL =
+        "jdbc:h2:file:./target/standin/notified;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CACHE_SIZE=262144";
+
+    private static final Path SCHEMA = Path.of("notified_db.sql");
+
+    // phpMyAdmin emits one ALTER TABLE per table with comma-separated clauses; H2 takes one clause at a time
+    private static final Pattern ALTER_TABLE = Pattern.compile("(?s)^ALTER TABLE (`\\w+`)\\s+(.+)$");
+    private static final Pattern CLAUSE_SEPARATOR = Pattern.compile(",\\s*(?=ADD |MODIFY |AUTO_INCREMENT)");
+    // Index names are per table in MySQL but per schema in H2
+    private static final Pattern INDEX_NAME = Pattern.compile("^ADD (UNIQUE )?KEY `(\\w+)`");
+
+    private StandInDatabase() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Points DatabaseConnection at the given H2 database unless a database was
+     * given with -Ddb.url. Must run before the first connection.
+     *
+     * @param url H2 JDBC URL, usually {@link #MEMORY_URL} or {@link #FILE_URL}
+     */
+    public static void use(String url) {
+        if (System.getProperty("db.url") == null) {
+            System.setProperty("db.url", url);
+            System.setProperty("db.username", "sa");
+            System.setProperty("db.password", "");
+        }
+        log.info("Using database {}", System.getProperty("db.url"));
+    }
+
+    /**
+     * Drops everything in the current database and recreates the schema (and
+     * its handful of sample rows) from notified_db.sql.
+     *
+     * @throws IOException if notified_db.sql could not be read
+     * @throws SQLException if a statement failed
+     */
+    public static void create() throws IOException, SQLException {
+        List<String> statements = statements(Files.readString(SCHEMA));
+        try (Connection conn = DatabaseConnection.connect();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+            for (String sql : statements) {
+                stmt.execute(sql);
+            }
+        }
+        log.info("Created schema from {} ({} statements)", SCHEMA, statements.size());
+    }
+
+    /**
+     * Checks whether the current database already holds generated data.
+     *
+     * @return true if a students table with rows exists
+     * @throws SQLException if the database could not be queried
+     */
+    public static boolean isSeeded() throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM information_schema.tables "
+                 + "WHERE table_name = 'students'")) {
+            rs.next();
+            if (rs.getInt(1) == 0) {
+                return false;
+            }
+        }
+        try (Connection conn = DatabaseConnection.connect();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM students")) {
+            rs.next();
+            return rs.getLong(1) > DataGenerator.SAMPLE_STUDENTS;
+        }
+    }
+
+    /**
+     * Translates the phpMyAdmin dump into statements H2 accepts: drops the
+     * session settings and transaction markers, splits multi-clause ALTER TABLE
+     * statements and makes index names unique per schema.
+     *
+     * @param dump contents of notified_db.sql
+     * @return executable statements, in dump order
+     */
+    static List<String> statements(String dump) {
+        List<String> statements = new ArrayList<>();
+        for (String raw : dump.split(";\\s*\\n")) {
+            String sql = raw.replaceAll("(?m)^--.*$", "").replaceAll("/\\*!.*?\\*/", "").trim();
+            if (sql.isEmpty() || sql.startsWith("SET ") || sql.equals("START TRANSACTION") || sql.equals("COMMIT")) {
+                continue;
+            }
+            Matcher alter = ALTER_TABLE.matcher(sql);
+            if (!alter.matches()) {
+                statements.add(sql);
+                continue;
+            }
+            String table = alter.group(1);
+            for (String clause : CLAUSE_SEPARATOR.split(alter.group(2))) {
+                Matcher index = INDEX_NAME.matcher(clause.trim());
+                String action = index.find()
+                    ? index.replaceFirst("ADD " + (index.group(1) == null ? "" : "UNIQUE ")
+                        + "KEY `" + table.replace("`", "") + "_" + index.group(2) + "`")
+                    : clause.trim();
+                statements.add("ALTER TABLE " + table + " " + action);
+            }
+        }
+        return statements;
+    }
+}
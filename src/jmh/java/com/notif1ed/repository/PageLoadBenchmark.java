@@ -0,0 +1,99 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.benchmark.StandInDatabase;
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.util.DatabaseConnection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The queries behind each page, run by several workstations at once against
+ * the seeded stand-in database (mvn -P benchmarks compile exec:java@seed).
+ * Run with -t to change the number of concurrent callers and with
+ * -jvmArgsAppend -Ddb.pool.maximum.size=N to change the pool; the pool's
+ * acquire and hold histograms are logged at the end of each trial.
+ *
+ * <p>Records pages are left out: H2 drives their join from a students table
+ * scan instead of walking idx_record_created and stopping after one page, so
+ * it takes seconds where MySQL takes milliseconds. Measure those against a
+ * MySQL server (-Ddb.url), or with RepositoryBenchmark for the mapping cost.</p>
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(16)
+@Fork(1)
+public class PageLoadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PageLoadBenchmark.class);
+
+    private final StudentRepository studentRepository = new StudentRepository();
+    private final DashboardRepository dashboardRepository = new DashboardRepository();
+    private final EnrollmentRepository enrollmentRepository = new EnrollmentRepository();
+    private final AttendanceRepository attendanceRepository = new AttendanceRepository();
+    private int subjectCount;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        StandInDatabase.use(StandInDatabase.FILE_URL);
+        if (!StandInDatabase.isSeeded()) {
+            throw new IllegalStateException("Stand-in database is empty; run exec:java@seed first");
+        }
+        subjectCount = new SubjectRepository().findAll().size();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        log.info(DatabaseConnection.getPoolStatistics());
+    }
+
+    @Benchmark
+    public DashboardRepository.Stats dashboard() throws SQLException {
+        return dashboardRepository.fetchStats(LocalDate.now());
+    }
+
+    @Benchmark
+    public List<StudentEntry> subjectEnrolled() throws SQLException {
+        return enrollmentRepository.findEnrolled(randomSubjectId());
+    }
+
+    @Benchmark
+    public AttendanceRepository.Report subjectAttendance() throws SQLException {
+        return attendanceRepository.fetchReport(randomSubjectId());
+    }
+
+    @Benchmark
+    @Measurement(iterations = 3, time = 20)
+    public List<StudentEntry> studentsPage() {
+        return studentRepository.findAll();
+    }
+
+    private int randomSubjectId() {
+        // Generated subjects follow the dump's sample subjects, which are numbered from 1
+        return 1 + ThreadLocalRandom.current().nextInt(subjectCount);
+    }
+}
@@ -0,0 +1,75 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.benchmark.DataGenerator;
+import com.notif1ed.benchmark.StandInDatabase;
+import com.notif1ed.model.RecordEntry;
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.util.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository reads end to end: query, result set iteration and row mapping
+ * (mapResultSetToStudent, mapResultSetToRecordEntry), against a small
+ * in-memory stand-in database seeded for each trial.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "10000"})
+    public int students;
+
+    @Param({"10"})
+    public int recordsPerStudent;
+
+    private final StudentRepository studentRepository = new StudentRepository();
+    private final RecordRepository recordRepository = new RecordRepository();
+    private LocalDateTime middleCursor;
+
+    @Setup(Level.Trial)
+    public void seed() throws IOException, SQLException {
+        StandInDatabase.use(StandInDatabase.MEMORY_URL);
+        StandInDatabase.create();
+        new DataGenerator(students, 50, (long) students * recordsPerStudent, 3).generate();
+        middleCursor = LocalDateTime.now().minusDays(DataGenerator.SPAN_DAYS / 2);
+    }
+
+    @Benchmark
+    public List<StudentEntry> findAllStudents() {
+        return studentRepository.findAll();
+    }
+
+    @Benchmark
+    public List<RecordEntry> recordFirstPage() throws SQLException {
+        return recordRepository.findPage(null, 0, Constants.RECORDS_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<RecordEntry> recordMiddlePage() throws SQLException {
+        return recordRepository.findPage(middleCursor, Integer.MAX_VALUE, Constants.RECORDS_PAGE_SIZE);
+    }
+}
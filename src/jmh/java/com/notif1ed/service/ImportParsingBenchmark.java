@@ -0,0 +1,61 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.repository.StudentRepository.ImportRow;
+import com.notif1ed.repository.StudentRepository.RowError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation and mapping of Excel rows into import rows, per row.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImportParsingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private final StudentImportService importService = new StudentImportService(new StudentRepository());
+    private final List<List<String>> rows = new ArrayList<>(ROWS);
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            // Every tenth row misses its guardian email and is rejected
+            rows.add(List.of(String.format("25-%04d", i), "Maria", "Santos", "BSIT-1A",
+                "maria" + i + "@school.edu", "Elena Santos", i % 10 == 0 ? "" : "elena" + i + "@mail.com"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void parseRows(Blackhole blackhole) {
+        List<RowError> errors = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            ImportRow row = importService.parseRow(i + 2, rows.get(i), errors);
+            blackhole.consume(row);
+        }
+        blackhole.consume(errors);
+    }
+}
@@ -0,0 +1,58 @@
+package com.notif1ed.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt verification as done on every login, at several costs, to choose
+ * auth.bcrypt.cost for a deployment: run on the slowest workstation and pick
+ * the highest cost whose check stays acceptable (e.g. -p cost=11,12,13).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    @Param({"10", "11", "12", "13"})
+    private int cost;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = PasswordUtils.hashPassword("Secret#2025", cost);
+    }
+
+    @Benchmark
+    public boolean checkCorrectPassword() {
+        return PasswordUtils.checkPassword("Secret#2025", hash);
+    }
+
+    @Benchmark
+    public boolean checkWrongPassword() {
+        return PasswordUtils.checkPassword("secret#2025", hash);
+    }
+
+    @Benchmark
+    public String hashNewPassword() {
+        // What signing up, or re-hashing a legacy password, costs
+        return PasswordUtils.hashPassword("Secret#2025", cost);
+    }
+}
@@ -0,0 +1,89 @@
+package com.notif1ed.util;
+
+import com.notif1ed.benchmark.DataGenerator;
+import com.notif1ed.model.StudentEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Student search as done by the Subject Detail and Students pages: the
+ * trigram index against a plain scan of every row with the same fields.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"ma", "santos", "2000-00"})
+    public String query;
+
+    private List<StudentEntry> students;
+    private final StudentSearchIndex index = new StudentSearchIndex();
+
+    @Setup
+    public void setUp() {
+        students = DataGenerator.students(size);
+        index.rebuild(students);
+    }
+
+    @Benchmark
+    public Set<String> indexSearch() {
+        return index.search(query);
+    }
+
+    @Benchmark
+    public int indexFilterRows() {
+        Predicate<StudentEntry> filter = index.filter(query);
+        int matches = 0;
+        for (StudentEntry student : students) {
+            if (filter.test(student)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int scanRows() {
+        int matches = 0;
+        for (StudentEntry student : students) {
+            if (TableFilter.containsIgnoreCase(student.getStudentNumber(), query)
+                    || TableFilter.containsIgnoreCase(student.getFirstName(), query)
+                    || TableFilter.containsIgnoreCase(student.getLastName(), query)
+                    || TableFilter.containsIgnoreCase(student.getEmail(), query)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public StudentSearchIndex rebuildIndex() {
+        StudentSearchIndex rebuilt = new StudentSearchIndex();
+        rebuilt.rebuild(students);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,50 @@
+package com.notif1ed.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input validation run per form field and per imported row.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"maria.santos25@school.edu", "not-an-email@", "  padded.address@example.com  "})
+    public String email;
+
+    @Param({"25-0001", "2025-123", "25_0001"})
+    public String studentNumber;
+
+    @Benchmark
+    public boolean validEmail() {
+        return ValidationUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean validStudentNumber() {
+        return ValidationUtils.isValidStudentNumber(studentNumber);
+    }
+
+    @Benchmark
+    public boolean validName() {
+        return ValidationUtils.isValidName("Maria Clara Santos-Reyes");
+    }
+}
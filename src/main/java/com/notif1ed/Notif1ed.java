@@ -1,25 +1,97 @@
 package com.notif1ed;
 
+import com.notif1ed.service.AuthenticationService;
+import com.notif1ed.service.ChangeFeed;
+import com.notif1ed.service.EmailService;
+import com.notif1ed.service.NotificationDispatcher;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DiagnosticsWindow;
+import com.notif1ed.util.SceneRegistry;
+import com.notif1ed.util.SessionManager;
+import com.notif1ed.util.ToastNotification;
+import com.notif1ed.util.ViewLoader;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
 import javafx.stage.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.SQLException;
 
 public class Notif1ed extends Application {
 
+    private static final Logger log = LoggerFactory.getLogger(Notif1ed.class);
+
     @Override
     public void start(Stage primaryStage) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LandingPage.fxml"));
-            Scene scene = new Scene(loader.load());
-            primaryStage.setTitle("Notifyed");
-            primaryStage.setScene(scene);
-            primaryStage.show();
+            SessionManager sessions = SessionManager.getInstance();
+            sessions.setOnExpired(() -> Platform.runLater(() -> showLogin(primaryStage)));
+            // A session saved by the previous run skips the login page (and its BCrypt check)
+            boolean resumed = sessions.resume();
+
+            DiagnosticsWindow.installShortcut(primaryStage);
+            primaryStage.addEventFilter(InputEvent.ANY, event -> sessions.touch());
+            if (resumed) {
+                primaryStage.setTitle("Notifyed - Home");
+                SceneRegistry.getInstance().show(primaryStage, "Homepage.fxml");
+                // The other main pages are built while the user looks at the home page
+                SceneRegistry.getInstance().preload();
+            } else {
+                primaryStage.setTitle("Notifyed");
+                primaryStage.setScene(new Scene(ViewLoader.load("LandingPage.fxml")));
+                primaryStage.show();
+            }
+            sessions.start();
+            if (resumed) {
+                verifyResumedAccount(sessions.getSession());
+            }
+            NotificationDispatcher.getInstance().start();
+            ChangeFeed.getInstance().start();
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    private static void verifyResumedAccount(SessionManager.Session session) {
+        BackgroundLoader.submit(() -> {
+            try {
+                if (!new AuthenticationService().isAccountActive(session)) {
+                    log.warn("Resumed session of {} no longer matches an account", session.getUserEmail());
+                    SessionManager.getInstance().expire();
+                }
+            } catch (SQLException e) {
+                // Keep the session; pages report the database problem themselves
+                log.warn("Could not verify resumed session of {}", session.getUserEmail(), e);
+            }
+        });
+    }
+
+    private static void showLogin(Stage stage) {
+        // The cached pages belong to the user whose session ended
+        SceneRegistry.getInstance().clear();
+        try {
+            stage.setScene(new Scene(ViewLoader.load("LogIn.fxml")));
+            stage.setTitle("Notifyed - Log In");
+            ToastNotification.showWarning(stage, Constants.WARN_SESSION_EXPIRED);
+        } catch (IOException e) {
+            log.error("Could not show login page after session expiry", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        SessionManager.getInstance().stop();
+        NotificationDispatcher.getInstance().stop();
+        ChangeFeed.getInstance().stop();
+        BackgroundLoader.shutdown();
+        EmailService.shutdown();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -1,6 +1,12 @@
 package com.notif1ed.controller;
 
+import com.notif1ed.service.EmailService;
+import com.notif1ed.service.NotificationService;
+import com.notif1ed.util.BackgroundLoader;
 import com.notif1ed.util.ToastNotification;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -10,18 +16,24 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
 
-import javax.mail.*;
-import javax.mail.internet.*;
 import java.net.URL;
-import java.util.Properties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.ResourceBundle;
 import java.util.regex.Pattern;
 
 /**
  * Controller for the Email Prompt modal
- * Handles email composition and sending with JavaMail API
- * Built with 30 years of experience in enterprise email systems
+ * Handles email composition. Every recipient gets an individual message
+ * queued in the notification outbox; NotificationDispatcher delivers them in
+ * the background (with retries) and the dialog follows their status
  */
 public class EmailPromptController implements Initializable {
 
@@ -46,6 +58,17 @@ public class EmailPromptController implements Initializable {
     private String recipientEmail;
     private boolean isMultipleRecipients = false;
     
+    private static final String NOT_CONFIGURED =
+        "Email is not configured. Set mail.from and mail.password in application.properties.";
+    
+    private final EmailService emailService = new EmailService();
+    private final NotificationService notificationService = new NotificationService();
+    private final BackgroundLoader dataLoader = new BackgroundLoader("Email");
+    
+    // Set while queued emails are being delivered so Cancel can withdraw the rest
+    private List<Integer> queuedIds;
+    private Timeline deliveryPoll;
+    
     // Email validation pattern (RFC 5322 compliant)
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
         "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$"
@@ -74,6 +97,13 @@ public class EmailPromptController implements Initializable {
         });
     }
     
+    /**
+     * Set multiple recipients; each one receives an individual message
+     */
+    public void setRecipients(Collection<String> emails) {
+        setMultipleRecipients(String.join(", ", emails));
+    }
+    
     /**
      * Set multiple recipients (comma-separated)
      */
@@ -129,29 +159,83 @@ public class EmailPromptController implements Initializable {
             return;
         }
         
+        if (!emailService.isConfigured()) {
+            showError(NOT_CONFIGURED);
+            return;
+        }
+        
         // Disable send button to prevent double-send
         sendButton.setDisable(true);
         sendButton.setText("Sending...");
         
-        // Send email asynchronously to avoid UI freeze
-        new Thread(() -> {
-            boolean success = sendEmail(to, subject, message);
-            
-            // Update UI on JavaFX thread
-            javafx.application.Platform.runLater(() -> {
-                sendButton.setDisable(false);
-                sendButton.setText("Send");
-                
-                Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-                
-                if (success) {
-                    ToastNotification.showSuccess(stage, "Email sent successfully to " + to);
-                    stage.close();
-                } else {
-                    ToastNotification.showError(stage, "Failed to send email. Check console for details.");
-                }
+        Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
+        List<String> targets = parseRecipients(to);
+        
+        // One outbox row per recipient; the dispatcher delivers them even if the app closes first
+        dataLoader.load("send", () -> notificationService.queueForEmails(targets, subject, message),
+            ids -> followDelivery(stage, ids), e -> {
+                resetSendButton();
+                ToastNotification.showError(stage, "Failed to queue email: " + e.getMessage());
             });
-        }).start();
+    }
+    
+    /**
+     * Shows delivery progress of the queued emails until none is pending.
+     */
+    private void followDelivery(Stage stage, List<Integer> ids) {
+        // Closing the dialog only stops following; queued emails are still delivered
+        if (!stage.isShowing()) {
+            return;
+        }
+        stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> stopFollowing());
+        queuedIds = ids;
+        sendButton.setText(String.format("Sending 0/%d", ids.size()));
+        deliveryPoll = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
+            if (!dataLoader.isLoading("status")) {
+                dataLoader.load("status", () -> notificationService.getStatusCounts(ids),
+                    counts -> showDelivery(stage, counts), null);
+            }
+        }));
+        deliveryPoll.setCycleCount(Animation.INDEFINITE);
+        deliveryPoll.play();
+    }
+    
+    private void showDelivery(Stage stage, Map<String, Long> counts) {
+        if (queuedIds == null) {
+            return;
+        }
+        int total = queuedIds.size();
+        long sent = counts.getOrDefault("sent", 0L);
+        long failed = counts.getOrDefault("failed", 0L);
+        if (counts.getOrDefault("pending", 0L) > 0) {
+            sendButton.setText(String.format("Sending %d/%d", sent + failed, total));
+            return;
+        }
+        
+        stopFollowing();
+        resetSendButton();
+        if (failed == 0) {
+            ToastNotification.showSuccess(stage, total == 1
+                ? "Email sent successfully to " + toField.getText().trim()
+                : String.format("Email sent successfully to %d recipients", sent));
+            stage.close();
+        } else {
+            showError(String.format("%d of %d emails were not delivered", failed, total));
+            ToastNotification.showWarning(stage, String.format("%d sent, %d failed", sent, failed));
+        }
+    }
+    
+    private void stopFollowing() {
+        if (deliveryPoll != null) {
+            deliveryPoll.stop();
+            deliveryPoll = null;
+        }
+        queuedIds = null;
+    }
+    
+    private void resetSendButton() {
+        sendButton.setDisable(false);
+        sendButton.setText("Send");
     }
     
     /**
@@ -160,109 +244,32 @@ public class EmailPromptController implements Initializable {
     @FXML
     private void handleCancel(ActionEvent event) {
         Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
+        if (queuedIds != null) {
+            // Withdraw what has not been sent yet; the dialog stays open to show the result
+            List<Integer> ids = queuedIds;
+            stopFollowing();
+            dataLoader.load("cancel", () -> {
+                notificationService.cancel(ids);
+                return notificationService.getStatusCounts(ids);
+            }, counts -> {
+                resetSendButton();
+                ToastNotification.showWarning(stage, String.format(
+                    "Sending cancelled: %d of %d emails sent", counts.getOrDefault("sent", 0L), ids.size()));
+            }, e -> resetSendButton());
+            return;
+        }
         stage.close();
     }
     
-    /**
-     * Send email using JavaMail API with Gmail SMTP
-     * 
-     * NOTE: For production use:
-     * 1. Store credentials securely (environment variables, encrypted config)
-     * 2. Use OAuth2 authentication instead of app passwords
-     * 3. Implement proper error logging and retry logic
-     * 4. Add email queue system for bulk sending
-     */
-    private boolean sendEmail(String to, String subject, String body) {
-        // SMTP Configuration - CONFIGURE THESE FOR YOUR EMAIL SERVER
-        final String SMTP_HOST = "smtp.gmail.com";
-        final String SMTP_PORT = "587"; // TLS port
-        final String FROM_EMAIL = "venturinachen@gmail.com"; // TODO: Configure your email
-        final String APP_PASSWORD = "surn emra mqyi fmfx"; // TODO: Use Gmail App Password, NOT regular password
-        
-        // Verify configuration
-        if (FROM_EMAIL.equals("your-email@gmail.com") || APP_PASSWORD.equals("your-app-password")) {
-            System.err.println("❌ EMAIL NOT CONFIGURED!");
-            System.err.println("Please configure email settings in EmailPromptController.java:");
-            System.err.println("1. Set FROM_EMAIL to your Gmail address");
-            System.err.println("2. Set APP_PASSWORD to your Gmail App Password");
-            System.err.println("3. Enable 2FA on Gmail and generate App Password at: https://myaccount.google.com/apppasswords");
-            return false;
-        }
-        
-        // Setup mail server properties
-        Properties props = new Properties();
-        props.put("mail.smtp.auth", "true");
-        props.put("mail.smtp.starttls.enable", "true"); // Enable TLS encryption
-        props.put("mail.smtp.host", SMTP_HOST);
-        props.put("mail.smtp.port", SMTP_PORT);
-        props.put("mail.smtp.ssl.protocols", "TLSv1.2"); // Force TLS 1.2+
-        
-        // For debugging (remove in production)
-        // props.put("mail.debug", "true");
-        
-        // Create authenticator
-        Authenticator auth = new Authenticator() {
-            @Override
-            protected PasswordAuthentication getPasswordAuthentication() {
-                return new PasswordAuthentication(FROM_EMAIL, APP_PASSWORD);
+    private static List<String> parseRecipients(String emails) {
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String email : emails.split(",")) {
+            String trimmed = email.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(trimmed);
             }
-        };
-        
-        try {
-            // Create session with authentication
-            Session session = Session.getInstance(props, auth);
-            
-            // Create message
-            Message message = new MimeMessage(session);
-            message.setFrom(new InternetAddress(FROM_EMAIL));
-            
-            // Handle multiple recipients (comma-separated)
-            if (to.contains(",")) {
-                String[] recipients = to.split(",");
-                InternetAddress[] addresses = new InternetAddress[recipients.length];
-                for (int i = 0; i < recipients.length; i++) {
-                    addresses[i] = new InternetAddress(recipients[i].trim());
-                }
-                message.setRecipients(Message.RecipientType.TO, addresses);
-            } else {
-                message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(to));
-            }
-            
-            message.setSubject(subject);
-            
-            // Set message content (HTML support)
-            String htmlBody = "<html><body style='font-family: Poppins, Arial, sans-serif;'>" +
-                            "<p>" + body.replace("\n", "<br>") + "</p>" +
-                            "<br><br>" +
-                            "<p style='color: #757575; font-size: 12px;'>Sent from Notif1ed Student Management System</p>" +
-                            "</body></html>";
-            message.setContent(htmlBody, "text/html; charset=utf-8");
-            
-            // Send message
-            Transport.send(message);
-            
-            System.out.println("✅ Email sent successfully to: " + to);
-            return true;
-            
-        } catch (MessagingException e) {
-            System.err.println("❌ Email sending failed:");
-            e.printStackTrace();
-            
-            // Provide helpful error messages
-            if (e.getMessage().contains("Authentication failed")) {
-                System.err.println("\n⚠️  AUTHENTICATION FAILED - Check your credentials:");
-                System.err.println("1. Ensure email and app password are correct");
-                System.err.println("2. Make sure 2FA is enabled on Gmail");
-                System.err.println("3. Generate a new App Password if needed");
-            } else if (e.getMessage().contains("Could not connect")) {
-                System.err.println("\n⚠️  CONNECTION FAILED - Check network settings:");
-                System.err.println("1. Verify internet connection");
-                System.err.println("2. Check firewall settings for port 587");
-                System.err.println("3. Ensure SMTP server is correct");
-            }
-            
-            return false;
         }
+        return new ArrayList<>(parsed);
     }
     
     /**
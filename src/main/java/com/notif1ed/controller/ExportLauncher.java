@@ -0,0 +1,81 @@
+package com.notif1ed.controller;
+
+import com.notif1ed.service.ExportService;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.ToastNotification;
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
+import javafx.scene.control.Button;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.time.LocalDate;
+
+/**
+ * Runs a table export from a page's Export button.
+ * The button starts an export and, while it runs, cancels it; its label
+ * shows the progress. Exports keep running when the user switches pages.
+ */
+class ExportLauncher {
+
+    private static final String KEY = "export";
+
+    private final ExportService.Dataset dataset;
+    private final ExportService exportService = new ExportService();
+    // Not tied to a page, so navigating away does not cancel the export
+    private final BackgroundLoader exportLoader = new BackgroundLoader("Export");
+    private String idleText;
+
+    ExportLauncher(ExportService.Dataset dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * Starts an export, or cancels the running one.
+     *
+     * @param button the page's Export button
+     */
+    void toggle(Button button) {
+        if (exportLoader.isLoading(KEY)) {
+            exportLoader.cancel(KEY);
+            return;
+        }
+
+        Stage stage = (Stage) button.getScene().getWindow();
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export " + dataset.getSheetName());
+        fileChooser.setInitialFileName(dataset.getSheetName().toLowerCase() + "_" + LocalDate.now() + ".xlsx");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Excel Files", "*.xlsx"));
+
+        File file = fileChooser.showSaveDialog(stage);
+        if (file == null) {
+            return; // User cancelled
+        }
+
+        idleText = button.getText();
+        button.setText("✖ Cancel Export");
+
+        Task<Long> task = exportLoader.loadWithProgress(KEY,
+            progress -> exportService.export(dataset, file, progress::update),
+            rows -> {
+                button.setText(idleText);
+                ToastNotification.showSuccess(stage, String.format("Exported %d %s to %s",
+                    rows, dataset.getSheetName().toLowerCase(), file.getName()));
+            },
+            e -> {
+                button.setText(idleText);
+                ToastNotification.showError(stage, "Export failed: " + e.getMessage());
+            });
+
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_CANCELLED, e -> {
+            button.setText(idleText);
+            ToastNotification.showWarning(stage, dataset.getSheetName() + " export cancelled");
+        });
+        task.progressProperty().addListener((obs, oldValue, newValue) -> {
+            if (task.isRunning() && newValue.doubleValue() >= 0) {
+                button.setText(String.format("✖ Cancel (%d%%)", Math.round(newValue.doubleValue() * 100)));
+            }
+        });
+    }
+}
@@ -4,12 +4,13 @@
  */
 package com.notif1ed.controller;
 
-import com.notif1ed.service.StudentService;
-import com.notif1ed.service.SubjectService;
-import com.notif1ed.service.RecordService;
+import com.notif1ed.service.DashboardService;
+import com.notif1ed.util.SceneRegistry;
 import com.notif1ed.util.SessionManager;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.ViewLoader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,10 +26,8 @@ import javafx.animation.Timeline;
 import javafx.util.Duration;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.Node;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -44,9 +43,8 @@ import javafx.stage.Stage;
 public class HomepageController implements Initializable {
 
     private static final Logger log = LoggerFactory.getLogger(HomepageController.class);
-    private final StudentService studentService = new StudentService();
-    private final SubjectService subjectService = new SubjectService();
-    private final RecordService recordService = new RecordService();
+    private final DashboardService dashboardService = new DashboardService();
+    private final BackgroundLoader dataLoader = new BackgroundLoader("Homepage");
 
     @FXML
     private Label totalStudentsLabel;
@@ -78,24 +76,35 @@ public class HomepageController implements Initializable {
      */
     @Override
     public void initialize(URL url, ResourceBundle rb) {
+        createClock();
+        if (homeButton == null) {
+            start();
+            return;
+        }
+        // SceneRegistry builds this view while the password is still being verified and
+        // reuses it, so the session is checked and the counters loaded each time it is shown
+        dataLoader.cancelWhenDetached(homeButton);
+        BackgroundLoader.whenAttached(homeButton, this::start);
+        BackgroundLoader.whenDetached(homeButton, clock::stop);
+    }
+
+    private void start() {
         // Validate session
         if (!SessionManager.getInstance().isLoggedIn()) {
             log.warn("Unauthorized access attempt to Homepage");
             return;
         }
-        log.info("Initializing Homepage for user: {}", SessionManager.getInstance().getUserName());
-        
-        // Load dashboard statistics
+        log.info("Showing Homepage for user: {}", SessionManager.getInstance().getUserName());
+
+        // Load dashboard statistics (off the FX thread)
         loadDashboardStats();
-        
-        // Start the clock
-        startClock();
+        clock.play();
     }
     
     /**
-     * Start the real-time clock display
+     * Create the real-time clock display
      */
-    private void startClock() {
+    private void createClock() {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm:ss a");
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy");
         
@@ -106,7 +115,6 @@ public class HomepageController implements Initializable {
         }), new KeyFrame(Duration.seconds(1)));
         
         clock.setCycleCount(Animation.INDEFINITE);
-        clock.play();
     }
     
     @FXML
@@ -144,10 +152,12 @@ public class HomepageController implements Initializable {
         );
         
         if (confirmed) {
+            // Also deletes the saved session and the cached pages, so the next user starts fresh
+            SessionManager.getInstance().logout();
+            SceneRegistry.getInstance().clear();
             try {
                 // Navigate to login page
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LogIn.fxml"));
-                Scene scene = new Scene(loader.load());
+                Scene scene = new Scene(ViewLoader.load("LogIn.fxml"));
                 stage.setScene(scene);
                 stage.setTitle("Notifyed - Login");
                 stage.show();
@@ -162,11 +172,8 @@ public class HomepageController implements Initializable {
     
     private void navigateToPage(ActionEvent event, String fxmlFile) {
         try {
-            Parent root = FXMLLoader.load(getClass().getResource("/com/notif1ed/view/" + fxmlFile));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            Scene scene = new Scene(root);
-            stage.setScene(scene);
-            stage.show();
+            SceneRegistry.getInstance().show(stage, fxmlFile);
         } catch (IOException e) {
             Stage stage = (Stage) homeButton.getScene().getWindow();
             ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Could not load page: " + fxmlFile);
@@ -177,42 +184,27 @@ public class HomepageController implements Initializable {
     private void loadDashboardStats() {
         log.debug("Loading dashboard statistics");
         
-        try {
-            // Get total students using StudentService
-            int totalStudents = studentService.getAllStudents().size();
+        dataLoader.load("stats", dashboardService::getStats, stats -> {
             if (totalStudentsLabel != null) {
-                totalStudentsLabel.setText(String.valueOf(totalStudents));
+                totalStudentsLabel.setText(String.valueOf(stats.getTotalStudents()));
             }
-            
-            // Get total subjects using SubjectService
-            int totalSubjects = subjectService.getAllSubjects().size();
             if (totalSubjectsLabel != null) {
-                totalSubjectsLabel.setText(String.valueOf(totalSubjects));
+                totalSubjectsLabel.setText(String.valueOf(stats.getTotalSubjects()));
             }
-            
-            // Get total records using RecordService
-            int totalRecords = recordService.getAllRecords().size();
             if (totalRecordsLabel != null) {
-                totalRecordsLabel.setText(String.valueOf(totalRecords));
+                totalRecordsLabel.setText(String.valueOf(stats.getTotalRecords()));
             }
-            
-            // Get today's records using RecordService date filtering
-            // Note: This counts all records for now. For today's count, we'd need
-            // to implement date filtering in RecordService or use getRecordsByDateRange
             if (todayRecordsLabel != null) {
-                todayRecordsLabel.setText(String.valueOf(totalRecords));
+                todayRecordsLabel.setText(String.valueOf(stats.getTodayRecords()));
             }
             
-            log.info("✅ Dashboard statistics loaded - Students: {}, Subjects: {}, Records: {}", 
-                totalStudents, totalSubjects, totalRecords);
-                
-        } catch (Exception e) {
-            log.error("Error loading dashboard statistics", e);
+            log.info("✅ Dashboard statistics loaded - {}", stats);
+        }, e -> {
             if (homeButton != null && homeButton.getScene() != null) {
                 Stage stage = (Stage) homeButton.getScene().getWindow();
                 ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Error loading dashboard statistics");
             }
-        }
+        });
     }
     
     public void refreshStats() {
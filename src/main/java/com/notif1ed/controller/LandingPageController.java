@@ -1,8 +1,8 @@
 package com.notif1ed.controller;
 
+import com.notif1ed.util.ViewLoader;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -13,8 +13,7 @@ public class LandingPageController {
     @FXML
     private void handleStartClick(ActionEvent event) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LogIn.fxml"));
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(ViewLoader.load("LogIn.fxml"));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("Notifyed - Log In");
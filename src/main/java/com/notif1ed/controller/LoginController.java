@@ -1,19 +1,22 @@
 package com.notif1ed.controller;
 
-import com.notif1ed.util.DatabaseConnection;
+import com.notif1ed.repository.UserRepository.User;
+import com.notif1ed.service.AuthenticationService;
+import com.notif1ed.service.DashboardService;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.WelcomeDialog;
 import com.notif1ed.util.PasswordUtils;
+import com.notif1ed.util.SceneRegistry;
 import com.notif1ed.util.SessionManager;
 import com.notif1ed.util.Constants;
 import com.notif1ed.util.ErrorHandler;
+import com.notif1ed.util.ViewLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.PasswordField;
@@ -21,14 +24,15 @@ import javafx.scene.control.TextField;
 import javafx.scene.control.Button;
 import javafx.stage.Stage;
 import java.io.IOException;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Controller for the login page.
- * Handles user authentication with secure password verification.
+ * Handles user authentication with secure password verification,
+ * which runs off the FX thread so the page stays responsive.
  * 
  * @author Notif1ed Development Team
  * @version 2.0.0
@@ -36,6 +40,8 @@ import java.sql.SQLException;
 public class LoginController {
     
     private static final Logger log = LoggerFactory.getLogger(LoginController.class);
+    private final AuthenticationService authenticationService = new AuthenticationService();
+    private final DashboardService dashboardService = new DashboardService();
 
     @FXML
     private TextField emailField;
@@ -69,51 +75,51 @@ public class LoginController {
             return;
         }
 
-        // Check credentials in database
-        try (Connection conn = DatabaseConnection.connect()) {
-            String sql = Constants.SELECT_USER_BY_EMAIL;
-            PreparedStatement stmt = conn.prepareStatement(sql);
-            stmt.setString(1, email);
-            
-            ResultSet rs = stmt.executeQuery();
-            
-            if (rs.next()) {
-                int userId = rs.getInt("user_id");
-                String userName = rs.getString("name");
-                String storedHash = rs.getString("password");
-                
-                // Verify password using BCrypt
-                if (PasswordUtils.checkPassword(password, storedHash)) {
-                    // Login successful - create session
-                    SessionManager.getInstance().login(userId, userName, email);
-                    log.info("User logged in successfully: {}", email);
-                    
-                    // Navigate to homepage
-                    navigateToHomepage(event, userName);
-                } else {
-                    // Invalid password
-                    ToastNotification.showError(stage, Constants.ERR_INVALID_CREDENTIALS);
-                    log.warn("Failed login attempt for: {}", email);
-                }
+        Node loginButton = (Node) event.getSource();
+        loginButton.setDisable(true);
+
+        // Verify the password on the sign-in executor; once the attempt is accepted, fetch
+        // the dashboard counters and build the main pages in the background, so signing in
+        // takes as long as the slowest of them rather than all of them in turn
+        CompletableFuture<Optional<User>> authentication = authenticationService.authenticate(email, password, () -> {
+            dashboardService.prefetchStats();
+            SceneRegistry.getInstance().preload();
+        });
+
+        authentication.whenComplete((user, error) -> Platform.runLater(() -> {
+            loginButton.setDisable(false);
+            if (error != null) {
+                handleAuthenticationError(stage, error);
+            } else if (user.isPresent()) {
+                // Login successful - create session
+                SessionManager.getInstance().login(user.get().getUserId(), user.get().getName(), email);
+                log.info("User logged in successfully: {}", email);
+
+                // Navigate to homepage
+                navigateToHomepage(stage, user.get().getName());
             } else {
-                // User not found
                 ToastNotification.showError(stage, Constants.ERR_INVALID_CREDENTIALS);
-                log.warn("Login attempt for non-existent user: {}", email);
             }
-            
-        } catch (SQLException e) {
-            ErrorHandler.handleDatabaseError(stage, e, "authenticate user");
+        }));
+    }
+
+    private void handleAuthenticationError(Stage stage, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof AuthenticationService.ThrottledException) {
+            long seconds = Math.max(1, ((AuthenticationService.ThrottledException) cause).getRetryAfter().toSeconds());
+            ToastNotification.showWarning(stage, String.format(Constants.WARN_LOGIN_THROTTLED, seconds));
+        } else if (cause instanceof RejectedExecutionException) {
+            ToastNotification.showWarning(stage, Constants.WARN_LOGIN_BUSY);
+        } else {
+            ErrorHandler.handleDatabaseError(stage, cause instanceof Exception ? (Exception) cause : new Exception(cause),
+                "authenticate user");
         }
     }
-    
-    private void navigateToHomepage(ActionEvent event, String userName) {
+
+    private void navigateToHomepage(Stage stage, String userName) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/Homepage.fxml"));
-            Scene scene = new Scene(loader.load());
-            Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            stage.setScene(scene);
+            SceneRegistry.getInstance().show(stage, "Homepage.fxml");
             stage.setTitle("Notifyed - Home");
-            stage.show();
             
             // Show welcome dialog after the scene is fully loaded
             Platform.runLater(() -> {
@@ -127,8 +133,7 @@ public class LoginController {
     @FXML
     private void handleSignUpRedirect(ActionEvent event) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/SignUp.fxml"));
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(ViewLoader.load("SignUp.fxml"));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("Notifyed - Sign Up");
@@ -166,8 +171,7 @@ public class LoginController {
     @FXML
     private void handleBackClick(ActionEvent event) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LandingPage.fxml"));
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(ViewLoader.load("LandingPage.fxml"));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("Notifyed - Welcome");
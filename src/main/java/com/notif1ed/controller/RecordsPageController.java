@@ -5,10 +5,19 @@
 package com.notif1ed.controller;
 
 import com.notif1ed.model.RecordEntry;
-import com.notif1ed.util.DatabaseConnectionn;
+import com.notif1ed.service.ChangeFeed;
+import com.notif1ed.service.ExportService;
+import com.notif1ed.service.RecordService;
+import com.notif1ed.util.DatabaseConnection;
+import com.notif1ed.util.SceneRegistry;
 import com.notif1ed.util.SessionManager;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.TableFilter;
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.ViewLoader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,22 +31,29 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.function.Predicate;
 import java.time.format.DateTimeFormatter;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.util.Duration;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.geometry.Orientation;
 import javafx.scene.control.Button;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -52,6 +68,9 @@ import javafx.stage.Stage;
 public class RecordsPageController implements Initializable {
 
     private static final Logger log = LoggerFactory.getLogger(RecordsPageController.class);
+    private final BackgroundLoader dataLoader = new BackgroundLoader("Records");
+    private final ExportLauncher exportLauncher = new ExportLauncher(ExportService.Dataset.RECORDS);
+    private final RecordService recordService = new RecordService();
 
     @FXML
     private TableView<RecordEntry> recordsTable;
@@ -88,19 +107,29 @@ public class RecordsPageController implements Initializable {
     
     private Timeline clock;
     
+    // Open while the page is shown
+    private ChangeFeed.Subscription changes;
+    
     private ObservableList<RecordEntry> recordsList = FXCollections.observableArrayList();
+    
+    // Keyset paging state: false once a short page shows the end of the table
+    private boolean hasMoreRecords = true;
+    
+    // Highest record ID shown, so records from the change feed are not added twice
+    private int newestLoadedId;
+    
+    // Search text the loaded pages match (null for all records); the search runs in the database
+    private String searchQuery;
+    private final PauseTransition searchDebounce =
+        new PauseTransition(Duration.millis(Math.max(0, AppConfig.getLong("ui.filter.debounce.ms", 200))));
 
     /**
      * Initializes the controller class.
      */
     @Override
     public void initialize(URL url, ResourceBundle rb) {
-        // Validate session
-        if (!SessionManager.getInstance().isLoggedIn()) {
-            log.warn("Unauthorized access attempt to Records page");
-            return;
-        }
-        log.info("Initializing Records page for user: {}", SessionManager.getInstance().getUserName());
+        // Only the view is set up here: SceneRegistry may build this page ahead of
+        // time and reuse it, so loading happens in start() each time it is shown
         
         // Set up table columns to match RecordEntry alias properties
         if (studentNumberCol != null) {
@@ -122,17 +151,55 @@ public class RecordsPageController implements Initializable {
             typeCol.setCellValueFactory(new PropertyValueFactory<>("recordType"));
         }
         
-        // Load records from database
-        loadRecords();
+        createClock();
+        if (recordsTable != null) {
+            recordsTable.setItems(recordsList);
+            if (searchField != null) {
+                searchDebounce.setOnFinished(e -> search(searchField.getText()));
+                searchField.textProperty().addListener((obs, oldValue, newValue) -> searchDebounce.playFromStart());
+            }
+            recordsTable.setPlaceholder(new javafx.scene.control.Label("Loading records..."));
+            dataLoader.cancelWhenDetached(recordsTable);
+            installScrollPaging();
+            BackgroundLoader.whenAttached(recordsTable, this::start);
+            BackgroundLoader.whenDetached(recordsTable, this::stop);
+        } else {
+            start();
+        }
+    }
+    
+    /**
+     * Runs each time the page is shown: checks the session, reloads the
+     * newest records and follows new ones while visible.
+     */
+    private void start() {
+        // Validate session
+        if (!SessionManager.getInstance().isLoggedIn()) {
+            log.warn("Unauthorized access attempt to Records page");
+            return;
+        }
+        log.info("Showing Records page for user: {}", SessionManager.getInstance().getUserName());
         
-        // Start the clock
-        startClock();
+        // Load records from database (off the FX thread)
+        changes = ChangeFeed.getInstance().subscribeRecords(
+            delta -> Platform.runLater(() -> mergeNewRecords(delta)));
+        loadRecords();
+        clock.play();
+    }
+    
+    private void stop() {
+        if (changes != null) {
+            changes.close();
+            changes = null;
+        }
+        searchDebounce.stop();
+        clock.stop();
     }
     
     /**
-     * Start the real-time clock display
+     * Create the real-time clock display
      */
-    private void startClock() {
+    private void createClock() {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm:ss a");
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy");
         
@@ -143,7 +210,6 @@ public class RecordsPageController implements Initializable {
         }), new KeyFrame(Duration.seconds(1)));
         
         clock.setCycleCount(Animation.INDEFINITE);
-        clock.play();
     }
     
     @FXML
@@ -179,8 +245,11 @@ public class RecordsPageController implements Initializable {
         );
         
         if (confirmed) {
+            // Also deletes the saved session and the cached pages, so the next user starts fresh
+            SessionManager.getInstance().logout();
+            SceneRegistry.getInstance().clear();
             try {
-                Parent root = FXMLLoader.load(getClass().getResource("/com/notif1ed/view/LandingPage.fxml"));
+                Parent root = ViewLoader.load("LandingPage.fxml");
                 Scene scene = new Scene(root);
                 stage.setScene(scene);
                 stage.setTitle("Notif1ed - Welcome");
@@ -197,11 +266,8 @@ public class RecordsPageController implements Initializable {
     
     private void navigateToPage(ActionEvent event, String fxmlFile) {
         try {
-            Parent root = FXMLLoader.load(getClass().getResource("/com/notif1ed/view/" + fxmlFile));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            Scene scene = new Scene(root);
-            stage.setScene(scene);
-            stage.show();
+            SceneRegistry.getInstance().show(stage, fxmlFile);
         } catch (IOException e) {
             Stage stage = (Stage) homeButton.getScene().getWindow();
             ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Could not load page: " + fxmlFile);
@@ -209,51 +275,116 @@ public class RecordsPageController implements Initializable {
         }
     }
     
+    /**
+     * Reloads the table with the records matching the search text, so the
+     * search covers every record and not only the pages loaded so far.
+     */
+    private void search(String text) {
+        String query = text == null || text.isBlank() ? null : text.trim();
+        if (Objects.equals(query, searchQuery)) {
+            return;
+        }
+        searchQuery = query;
+        loadRecords();
+    }
+    
+    /**
+     * Loads the first page of records matching the search, replacing whatever is shown.
+     * Further pages are fetched on demand as the user scrolls.
+     */
     private void loadRecords() {
         log.debug("Loading records from database");
-        recordsList.clear();
+        hasMoreRecords = true;
+        String query = searchQuery;
         
-        try (Connection conn = DatabaseConnectionn.connect()) {
-            if (conn != null) {
-                // Join records with students to get student details
-                String sql = "SELECT r.record_id, s.student_number, s.first_name, s.last_name, s.email, " +
-                           "r.created_at, r.record_type " +
-                           "FROM records r " +
-                           "JOIN students s ON r.student_id = s.student_id " +
-                           "ORDER BY r.created_at DESC";
-                PreparedStatement stmt = conn.prepareStatement(sql);
-                ResultSet rs = stmt.executeQuery();
-                
-                while (rs.next()) {
-                    java.sql.Timestamp timestamp = rs.getTimestamp("created_at");
-                    LocalDate date = timestamp.toLocalDateTime().toLocalDate();
-                    LocalTime time = timestamp.toLocalDateTime().toLocalTime();
-                    
-                    RecordEntry record = new RecordEntry(
-                        rs.getInt("record_id"),
-                        rs.getString("student_number"),
-                        rs.getString("last_name"),
-                        rs.getString("first_name"),
-                        rs.getString("email"),
-                        date,
-                        time,
-                        rs.getString("record_type")
-                    );
-                    recordsList.add(record);
-                }
-                
-                if (recordsTable != null) {
-                    recordsTable.setItems(recordsList);
+        dataLoader.load("records", () -> recordService.getRecordPage(null, query, Constants.RECORDS_PAGE_SIZE), page -> {
+            recordsList.setAll(page);
+            newestLoadedId = page.stream().mapToInt(RecordEntry::getId).max().orElse(0);
+            hasMoreRecords = page.size() == Constants.RECORDS_PAGE_SIZE;
+            if (recordsTable != null) {
+                recordsTable.setPlaceholder(new javafx.scene.control.Label(query == null ? "No records found" : "No records match \"" + query + "\""));
+                recordsTable.scrollTo(0);
+            }
+            log.info("✅ Loaded first {} records from database", recordsList.size());
+        }, this::showLoadError);
+    }
+    
+    /**
+     * Appends the next page after the last loaded record, if any remain.
+     */
+    private void loadNextPage() {
+        if (!hasMoreRecords || recordsList.isEmpty() || dataLoader.isLoading("records")) {
+            return;
+        }
+        
+        RecordEntry last = recordsList.get(recordsList.size() - 1);
+        String query = searchQuery;
+        dataLoader.load("records", () -> recordService.getRecordPage(last, query, Constants.RECORDS_PAGE_SIZE), page -> {
+            recordsList.addAll(page);
+            hasMoreRecords = page.size() == Constants.RECORDS_PAGE_SIZE;
+            log.debug("Loaded {} more records ({} total)", page.size(), recordsList.size());
+        }, this::showLoadError);
+    }
+    
+    /**
+     * Puts records added on other workstations at the top of the table.
+     */
+    private void mergeNewRecords(ChangeFeed.Delta<RecordEntry> delta) {
+        if (delta.isReset()) {
+            loadRecords();
+            return;
+        }
+        
+        // Rows arrive oldest first; the table shows newest first
+        Predicate<RecordEntry> shown = searchQuery == null ? record -> true : matching(searchQuery);
+        List<RecordEntry> added = new ArrayList<>();
+        for (RecordEntry record : delta.getRows()) {
+            if (record.getId() > newestLoadedId) {
+                newestLoadedId = record.getId();
+                if (shown.test(record)) {
+                    added.add(0, record);
                 }
-                
-                log.info("✅ Loaded {} records from database", recordsList.size());
             }
-        } catch (SQLException e) {
-            log.error("Error loading records", e);
-            if (homeButton != null && homeButton.getScene() != null) {
-                Stage stage = (Stage) homeButton.getScene().getWindow();
-                ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Error loading records from database");
+        }
+        if (!added.isEmpty()) {
+            recordsList.addAll(0, added);
+            log.debug("Added {} new record(s) from other workstations", added.size());
+        }
+    }
+    
+    /**
+     * Hooks the table's vertical scroll bar so the next page is requested
+     * once the user scrolls close to the bottom.
+     */
+    private void installScrollPaging() {
+        recordsTable.skinProperty().addListener((obs, oldSkin, newSkin) -> {
+            for (Node node : recordsTable.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                    bar.valueProperty().addListener((o, oldValue, newValue) -> {
+                        if (newValue.doubleValue() >= bar.getMax() * 0.9) {
+                            loadNextPage();
+                        }
+                    });
+                }
             }
+        });
+    }
+    
+    /**
+     * Whether a record from the change feed matches the search, as the search query would decide.
+     */
+    private static Predicate<RecordEntry> matching(String query) {
+        return record -> TableFilter.containsIgnoreCase(record.getStudentNumber(), query)
+                || TableFilter.containsIgnoreCase(record.getFirstName(), query)
+                || TableFilter.containsIgnoreCase(record.getLastName(), query)
+                || TableFilter.containsIgnoreCase(record.getEmail(), query)
+                || TableFilter.containsIgnoreCase(record.getRecordType(), query);
+    }
+    
+    private void showLoadError(Throwable e) {
+        if (homeButton != null && homeButton.getScene() != null) {
+            Stage stage = (Stage) homeButton.getScene().getWindow();
+            ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Error loading records from database");
         }
     }
     
@@ -261,6 +392,14 @@ public class RecordsPageController implements Initializable {
         loadRecords();
     }
     
+    /**
+     * Exports every record to Excel, or cancels the running export
+     */
+    @FXML
+    private void handleExport(ActionEvent event) {
+        exportLauncher.toggle((Button) event.getSource());
+    }
+    
     /**
      * Shows attendance summary statistics
      */
@@ -268,7 +407,7 @@ public class RecordsPageController implements Initializable {
     private void handleShowSummary(ActionEvent event) {
         Stage stage = (Stage) recordsTable.getScene().getWindow();
         
-        try (Connection conn = DatabaseConnectionn.connect()) {
+        try (Connection conn = DatabaseConnection.connect()) {
             if (conn != null) {
                 // Get today's date
                 LocalDate today = LocalDate.now();
@@ -319,77 +458,4 @@ public class RecordsPageController implements Initializable {
             ToastNotification.showError(stage, "Error generating attendance summary");
         }
     }
-    
-    /**
-     * Gets the predefined message for arrival
-     */
-    public static String getArrivalMessage(String studentName, String guardianName) {
-        LocalDateTime now = LocalDateTime.now();
-        String formattedTime = now.format(java.time.format.DateTimeFormatter.ofPattern("h:mm a"));
-        String formattedDate = now.format(java.time.format.DateTimeFormatter.ofPattern("MMMM dd, yyyy"));
-        
-        return String.format(
-            "Dear Mr/Ms %s,\n\n" +
-            "We would like to inform you that your child, %s, attended their class in CC103 at %s on %s.\n\n" +
-            "To confirm this update, you may contact your child directly or coordinate with their course professor.\n\n" +
-            "Thank you and have a great day.\n\n" +
-            "— Quezon City University",
-            guardianName, studentName, formattedTime, formattedDate
-        );
-    }
-    
-    /**
-     * Gets the predefined message for departure/dismissal
-     */
-    public static String getDepartureMessage(String studentName, String guardianName) {
-        LocalDateTime now = LocalDateTime.now();
-        String formattedTime = now.format(java.time.format.DateTimeFormatter.ofPattern("h:mm a"));
-        String formattedDate = now.format(java.time.format.DateTimeFormatter.ofPattern("MMMM dd, yyyy"));
-        
-        return String.format(
-            "Dear Mr/Ms %s,\n\n" +
-            "We would like to inform you that your child, %s, was dismissed from their CC103 class at %s on %s.\n\n" +
-            "For any questions or further confirmation, you may contact your child directly or coordinate with their course professor.\n\n" +
-            "Thank you, and have a great day.\n\n" +
-            "— Quezon City University",
-            guardianName, studentName, formattedTime, formattedDate
-        );
-    }
-    
-    /**
-     * Gets the email subject and message based on record type
-     * Returns a String array: [0] = subject, [1] = message
-     */
-    public static String[] getNotificationContent(String recordType, String studentFullName, String guardianName) {
-        LocalDateTime now = LocalDateTime.now();
-        String formattedTime = now.format(java.time.format.DateTimeFormatter.ofPattern("h:mm a"));
-        String formattedDate = now.format(java.time.format.DateTimeFormatter.ofPattern("MMMM dd, yyyy"));
-        
-        String subject;
-        String message;
-        
-        if ("Arrival".equalsIgnoreCase(recordType)) {
-            subject = "Attendance Notification";
-            message = String.format(
-                "Dear Mr/Ms %s,\n\n" +
-                "We would like to inform you that your child, %s, attended their class in CC103 at %s on %s.\n\n" +
-                "To confirm this update, you may contact your child directly or coordinate with their course professor.\n\n" +
-                "Thank you and have a great day.\n\n" +
-                "— Quezon City University",
-                guardianName, studentFullName, formattedTime, formattedDate
-            );
-        } else {
-            subject = "Dismissal Notification";
-            message = String.format(
-                "Dear Mr/Ms %s,\n\n" +
-                "We would like to inform you that your child, %s, was dismissed from their CC103 class at %s on %s.\n\n" +
-                "For any questions or further confirmation, you may contact your child directly or coordinate with their course professor.\n\n" +
-                "Thank you, and have a great day.\n\n" +
-                "— Quezon City University",
-                guardianName, studentFullName, formattedTime, formattedDate
-            );
-        }
-        
-        return new String[]{subject, message};
-    }
 }
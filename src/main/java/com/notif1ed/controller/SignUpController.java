@@ -6,12 +6,12 @@ import com.notif1ed.util.PasswordUtils;
 import com.notif1ed.util.ValidationUtils;
 import com.notif1ed.util.Constants;
 import com.notif1ed.util.ErrorHandler;
+import com.notif1ed.util.ViewLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.PasswordField;
@@ -104,8 +104,7 @@ public class SignUpController {
     
     private void navigateToLogin(ActionEvent event) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LogIn.fxml"));
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(ViewLoader.load("LogIn.fxml"));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("Notifyed - Log In");
@@ -118,8 +117,7 @@ public class SignUpController {
     @FXML
     private void handleLoginRedirect(ActionEvent event) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LogIn.fxml"));
-            Scene scene = new Scene(loader.load());
+            Scene scene = new Scene(ViewLoader.load("LogIn.fxml"));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
             stage.setScene(scene);
             stage.setTitle("Notifyed - Log In");
@@ -1,7 +1,8 @@
 package com.notif1ed.controller;
 
 import com.notif1ed.model.StudentEntry;
-import com.notif1ed.util.DatabaseConnectionn;
+import com.notif1ed.service.StudentService;
+import com.notif1ed.util.DatabaseConnection;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
 
@@ -76,7 +77,7 @@ public class StudentEditFormController implements Initializable {
         // Try to load guardian info if columns exist
         String sql = "SELECT section, guardian_name FROM students WHERE student_number = ?";
         
-        try (Connection conn = DatabaseConnectionn.connect();
+        try (Connection conn = DatabaseConnection.connect();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, currentStudent.getStudentNumber());
@@ -140,7 +141,7 @@ public class StudentEditFormController implements Initializable {
         String sql = "UPDATE students SET first_name = ?, last_name = ?, email = ?, section = ?, guardian_name = ? " +
                     "WHERE student_number = ?";
         
-        try (Connection conn = DatabaseConnectionn.connect();
+        try (Connection conn = DatabaseConnection.connect();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, firstName);
@@ -153,6 +154,7 @@ public class StudentEditFormController implements Initializable {
             int rowsUpdated = stmt.executeUpdate();
             
             if (rowsUpdated > 0) {
+                StudentService.invalidateCache();
                 CustomModal.showInfo(stage, "Success", 
                         "Student updated successfully!\n\n" +
                         "Student Number: " + currentStudent.getStudentNumber() + "\n" +
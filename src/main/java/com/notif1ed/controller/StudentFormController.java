@@ -4,7 +4,8 @@
  */
 package com.notif1ed.controller;
 
-import com.notif1ed.util.DatabaseConnectionn;
+import com.notif1ed.service.StudentService;
+import com.notif1ed.util.DatabaseConnection;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
 
@@ -64,7 +65,7 @@ public class StudentFormController implements Initializable {
     private void generateStudentNumber() {
         String newStudentNumber = "25-0001"; // Default
         
-        try (Connection conn = DatabaseConnectionn.connect()) {
+        try (Connection conn = DatabaseConnection.connect()) {
             if (conn != null) {
                 // Get the highest student number starting with "25-"
                 String sql = "SELECT student_number FROM students " +
@@ -133,7 +134,7 @@ public class StudentFormController implements Initializable {
         }
         
         // Save to database
-        try (Connection conn = DatabaseConnectionn.connect()) {
+        try (Connection conn = DatabaseConnection.connect()) {
             if (conn != null) {
                 String sql = "INSERT INTO students (student_number, first_name, last_name, email, section, guardian_name, guardian_email, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, 1)";
                 PreparedStatement stmt = conn.prepareStatement(sql);
@@ -148,6 +149,7 @@ public class StudentFormController implements Initializable {
                 int rowsInserted = stmt.executeUpdate();
                 
                 if (rowsInserted > 0) {
+                    StudentService.invalidateCache();
                     Stage stage = (Stage) studentID.getScene().getWindow();
                     CustomModal.showInfo(stage, "Success", 
                             "Student added successfully!\n\n" +
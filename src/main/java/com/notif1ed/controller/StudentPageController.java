@@ -5,10 +5,19 @@
 package com.notif1ed.controller;
 
 import com.notif1ed.model.StudentEntry;
+import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.repository.StudentRepository.ImportResult;
+import com.notif1ed.service.ChangeFeed;
+import com.notif1ed.service.ExportService;
+import com.notif1ed.service.StudentImportService;
 import com.notif1ed.service.StudentService;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
+import com.notif1ed.util.SceneRegistry;
 import com.notif1ed.util.SessionManager;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.TableFilter;
+import com.notif1ed.util.ViewLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,7 +30,9 @@ import javafx.fxml.Initializable;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.concurrent.Task;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -34,7 +45,6 @@ import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import java.io.IOException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.net.URL;
 import java.util.Map;
@@ -44,6 +54,7 @@ import java.time.format.DateTimeFormatter;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.util.Duration;
 
 /**
@@ -56,6 +67,9 @@ public class StudentPageController implements Initializable {
     
     private static final Logger log = LoggerFactory.getLogger(StudentPageController.class);
     private final StudentService studentService = new StudentService();
+    private final StudentImportService importService = new StudentImportService();
+    private final BackgroundLoader dataLoader = new BackgroundLoader("Students");
+    private final ExportLauncher exportLauncher = new ExportLauncher(ExportService.Dataset.STUDENTS);
 
     @FXML
     private TableView<StudentEntry> studentTable;
@@ -89,24 +103,27 @@ public class StudentPageController implements Initializable {
     @FXML
     private Button addStudentButton;
     @FXML
+    private javafx.scene.control.TextField searchField;
+    @FXML
+    private Button btnImportExcel;
+    @FXML
+    private ProgressBar importProgress;
+    @FXML
     private javafx.scene.text.Text timeLabel;
     @FXML
     private javafx.scene.text.Text dateLabel;
     
     private Timeline clock;
     
+    // Open while the page is shown
+    private ChangeFeed.Subscription changes;
+    
     private ObservableList<StudentEntry> studentList = FXCollections.observableArrayList();
 
     @Override
     public void initialize(URL url, ResourceBundle rb) {
-        // Session validation - redirect to login if not logged in
-        if (!SessionManager.getInstance().isLoggedIn()) {
-            log.warn("Unauthorized access attempt to Students page");
-            // TODO: Redirect to login page
-            return;
-        }
-        
-        log.info("Initializing Students page for user: {}", SessionManager.getInstance().getUserName());
+        // Only the view is set up here: SceneRegistry may build this page ahead of
+        // time and reuse it, so loading happens in start() each time it is shown
         
         // Setup checkbox column
         if (selectCol != null) {
@@ -196,17 +213,54 @@ public class StudentPageController implements Initializable {
             });
         }
         
-        // Load students from database
-        loadStudents();
+        createClock();
+        if (studentTable != null) {
+            if (searchField != null) {
+                TableFilter.attach(studentTable, studentList, searchField, studentService::searchFilter);
+            } else {
+                studentTable.setItems(studentList);
+            }
+            studentTable.setPlaceholder(new javafx.scene.control.Label("Loading students..."));
+            dataLoader.cancelWhenDetached(studentTable);
+            BackgroundLoader.whenAttached(studentTable, this::start);
+            BackgroundLoader.whenDetached(studentTable, this::stop);
+        } else {
+            start();
+        }
+    }
+    
+    /**
+     * Runs each time the page is shown: checks the session, reloads the
+     * students and follows other workstations' changes while visible.
+     */
+    private void start() {
+        // Session validation - redirect to login if not logged in
+        if (!SessionManager.getInstance().isLoggedIn()) {
+            log.warn("Unauthorized access attempt to Students page");
+            // TODO: Redirect to login page
+            return;
+        }
+        log.info("Showing Students page for user: {}", SessionManager.getInstance().getUserName());
         
-        // Start the clock
-        startClock();
+        // Load students from database (off the FX thread)
+        changes = ChangeFeed.getInstance().subscribeStudents(
+            delta -> Platform.runLater(() -> mergeChangedStudents(delta)));
+        loadStudents();
+        clock.play();
+    }
+    
+    private void stop() {
+        if (changes != null) {
+            changes.close();
+            changes = null;
+        }
+        clock.stop();
     }
     
     /**
-     * Start the real-time clock display
+     * Create the real-time clock display
      */
-    private void startClock() {
+    private void createClock() {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm:ss a");
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy");
         
@@ -217,34 +271,49 @@ public class StudentPageController implements Initializable {
         }), new KeyFrame(Duration.seconds(1)));
         
         clock.setCycleCount(Animation.INDEFINITE);
-        clock.play();
     }
     
     private void loadStudents() {
-        studentList.clear();
+        // Use StudentService instead of direct database access
+        log.debug("Loading students from database");
         
-        try {
-            // Use StudentService instead of direct database access
-            log.debug("Loading students from database");
-            studentList.addAll(studentService.getAllStudents());
-            
+        dataLoader.load("students", studentService::getAllStudents, students -> {
+            // Students come from the shared cache; drop checkbox state from earlier visits
+            students.forEach(student -> student.setSelected(false));
+            studentList.setAll(students);
             if (studentTable != null) {
-                studentTable.setItems(studentList);
+                studentTable.setPlaceholder(new javafx.scene.control.Label("No students found"));
             }
-            
             log.info("✅ Loaded {} students from database", studentList.size());
-            
-        } catch (Exception e) {
-            log.error("Error loading students", e);
-            Stage stage = (Stage) studentTable.getScene().getWindow();
-            ToastNotification.showError(stage, "Error loading students: " + e.getMessage());
-        }
+        }, e -> {
+            if (studentTable != null && studentTable.getScene() != null) {
+                Stage stage = (Stage) studentTable.getScene().getWindow();
+                ToastNotification.showError(stage, "Error loading students: " + e.getMessage());
+            }
+        });
     }
     
     public void refreshTable() {
         loadStudents();
     }
     
+    /**
+     * Merges students changed on other workstations into the table, or
+     * reloads it when the change feed cannot describe the change.
+     */
+    private void mergeChangedStudents(ChangeFeed.Delta<StudentEntry> delta) {
+        if (delta.isReset()) {
+            loadStudents();
+            return;
+        }
+        studentService.applyChanges(delta);
+        delta.applyTo(studentList, StudentService.byStudentNumber());
+        if (studentList.size() != delta.getCurrent().getRowCount()) {
+            // Rows were deleted as well, which the delta cannot show
+            loadStudents();
+        }
+    }
+    
     @FXML
     private void handleHomeClick(ActionEvent event) {
         navigateToPage(event, "Homepage.fxml");
@@ -398,8 +467,8 @@ public class StudentPageController implements Initializable {
     private void openEmailPrompt(String email) {
         Stage stage = (Stage) studentTable.getScene().getWindow();
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/EmailPrompt.fxml"));
-            Parent root = loader.load();
+            FXMLLoader loader = ViewLoader.loader("EmailPrompt.fxml");
+            Parent root = ViewLoader.load(loader);
             
             // Get controller and set recipient
             EmailPromptController controller = loader.getController();
@@ -445,19 +514,14 @@ public class StudentPageController implements Initializable {
     private void openEmailPromptForAll() {
         Stage stage = (Stage) studentTable.getScene().getWindow();
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/EmailPrompt.fxml"));
-            Parent root = loader.load();
+            FXMLLoader loader = ViewLoader.loader("EmailPrompt.fxml");
+            Parent root = ViewLoader.load(loader);
             
             // Get controller and set multiple recipients
             EmailPromptController controller = loader.getController();
-            StringBuilder emails = new StringBuilder();
-            for (int i = 0; i < studentList.size(); i++) {
-                emails.append(studentList.get(i).getEmail());
-                if (i < studentList.size() - 1) {
-                    emails.append(", ");
-                }
-            }
-            controller.setMultipleRecipients(emails.toString());
+            controller.setRecipients(studentList.stream()
+                .map(StudentEntry::getEmail)
+                .collect(java.util.stream.Collectors.toList()));
             
             // Create modal dialog with backdrop styling
             Stage emailStage = new Stage();
@@ -499,21 +563,16 @@ public class StudentPageController implements Initializable {
     private void openEmailPromptForSelected(java.util.List<StudentEntry> selectedStudents) {
         Stage stage = (Stage) studentTable.getScene().getWindow();
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/EmailPrompt.fxml"));
-            Parent root = loader.load();
+            FXMLLoader loader = ViewLoader.loader("EmailPrompt.fxml");
+            Parent root = ViewLoader.load(loader);
             
             // Get controller and set multiple recipients
             EmailPromptController controller = loader.getController();
             
-            // Collect selected student emails
-            StringBuilder emails = new StringBuilder();
-            for (int i = 0; i < selectedStudents.size(); i++) {
-                emails.append(selectedStudents.get(i).getEmail());
-                if (i < selectedStudents.size() - 1) {
-                    emails.append(", ");
-                }
-            }
-            controller.setMultipleRecipients(emails.toString());
+            // Collect selected student emails (each gets an individual message)
+            controller.setRecipients(selectedStudents.stream()
+                .map(StudentEntry::getEmail)
+                .collect(java.util.stream.Collectors.toList()));
             
             // Create modal dialog with backdrop styling
             Stage emailStage = new Stage();
@@ -555,10 +614,7 @@ public class StudentPageController implements Initializable {
     private void navigateToPage(ActionEvent event, String fxmlFile) {
         Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/" + fxmlFile));
-            Scene scene = new Scene(loader.load());
-            stage.setScene(scene);
-            stage.show();
+            SceneRegistry.getInstance().show(stage, fxmlFile);
         } catch (IOException e) {
             ToastNotification.showError(stage, "Could not load page: " + fxmlFile);
             e.printStackTrace();
@@ -701,10 +757,12 @@ public class StudentPageController implements Initializable {
         );
         
         if (confirmed) {
+            // Also deletes the saved session and the cached pages, so the next user starts fresh
+            SessionManager.getInstance().logout();
+            SceneRegistry.getInstance().clear();
             try {
                 // Navigate to landing page
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LandingPage.fxml"));
-                Scene scene = new Scene(loader.load());
+                Scene scene = new Scene(ViewLoader.load("LandingPage.fxml"));
                 stage.setScene(scene);
                 stage.setTitle("Notif1ed - Welcome");
                 stage.show();
@@ -718,6 +776,14 @@ public class StudentPageController implements Initializable {
         }
     }
     
+    /**
+     * Exports every student to Excel, or cancels the running export
+     */
+    @FXML
+    private void handleExport(ActionEvent event) {
+        exportLauncher.toggle((Button) event.getSource());
+    }
+    
     /**
      * Handles importing students from an Excel file
      * Expected columns: Student Number, First Name, Last Name, Section, Student Email, Guardian Name, Guardian Email
@@ -737,95 +803,59 @@ public class StudentPageController implements Initializable {
             return; // User cancelled
         }
         
-        int successCount = 0;
-        int errorCount = 0;
-        StringBuilder errors = new StringBuilder();
+        if (dataLoader.isLoading("import")) {
+            ToastNotification.showWarning(stage, "An import is already running");
+            return;
+        }
         
-        try (FileInputStream fis = new FileInputStream(file);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            
-            // Skip header row (row 0)
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
+        // Reading and inserting run off the FX thread; the bar follows the batch inserts
+        Task<ImportResult> task = dataLoader.loadWithProgress("import",
+            progress -> importService.importFromExcel(file, progress::update),
+            result -> {
+                hideImportProgress();
+                refreshTable();
                 
-                try {
-                    String studentNumber = getCellValue(row.getCell(0));
-                    String firstName = getCellValue(row.getCell(1));
-                    String lastName = getCellValue(row.getCell(2));
-                    String section = getCellValue(row.getCell(3));
-                    String studentEmail = getCellValue(row.getCell(4));
-                    String guardianName = getCellValue(row.getCell(5));
-                    String guardianEmail = getCellValue(row.getCell(6));
-                    
-                    // Validate required fields
-                    if (studentNumber.isEmpty() || firstName.isEmpty() || lastName.isEmpty() ||
-                        studentEmail.isEmpty() || guardianName.isEmpty() || guardianEmail.isEmpty()) {
-                        errorCount++;
-                        errors.append("Row ").append(i + 1).append(": Missing required fields\n");
-                        continue;
-                    }
-                    
-                    // Create student entry using 5-parameter constructor
-                    StudentEntry student = new StudentEntry(studentNumber, lastName, firstName, guardianName, guardianEmail);
-                    student.setSection(section);
-                    student.setEmail(studentEmail);
-                    
-                    // Add to database using correct method signature
-                    if (studentService.addStudent(student, guardianName, guardianEmail, section)) {
-                        successCount++;
-                    } else {
-                        errorCount++;
-                        errors.append("Row ").append(i + 1).append(": Failed to add student\n");
+                int errorCount = result.getErrors().size();
+                String message = String.format("✅ Successfully imported %d students", result.getInsertedCount());
+                if (errorCount > 0) {
+                    message += String.format("\n⚠️ %d errors occurred", errorCount);
+                }
+                ToastNotification.showSuccess(stage, message);
+                
+                if (errorCount > 0) {
+                    StringBuilder errors = new StringBuilder();
+                    for (StudentRepository.RowError error : result.getErrors()) {
+                        errors.append(error).append("\n");
                     }
-                    
-                } catch (Exception e) {
-                    errorCount++;
-                    errors.append("Row ").append(i + 1).append(": ").append(e.getMessage()).append("\n");
-                    log.error("Error importing row {}", i + 1, e);
+                    CustomModal.showInfo(stage, "Import Errors", errors.toString());
                 }
-            }
-            
-            // Refresh table
-            refreshTable();
-            
-            // Show result
-            String message = String.format("✅ Successfully imported %d students", successCount);
-            if (errorCount > 0) {
-                message += String.format("\n⚠️ %d errors occurred", errorCount);
-            }
-            
-            ToastNotification.showSuccess(stage, message);
-            
-            if (errorCount > 0 && errors.length() > 0) {
-                CustomModal.showInfo(stage, "Import Errors", errors.toString());
-            }
-            
-            log.info("Excel import completed: {} success, {} errors", successCount, errorCount);
-            
-        } catch (Exception e) {
-            log.error("Error importing Excel file", e);
-            ToastNotification.showError(stage, "Error importing Excel file: " + e.getMessage());
+            },
+            e -> {
+                hideImportProgress();
+                ToastNotification.showError(stage, "Error importing Excel file: " + e.getMessage());
+            });
+        
+        showImportProgress(task);
+    }
+    
+    private void showImportProgress(Task<?> task) {
+        if (btnImportExcel != null) {
+            btnImportExcel.setDisable(true);
+        }
+        if (importProgress != null) {
+            importProgress.progressProperty().bind(task.progressProperty());
+            importProgress.setVisible(true);
         }
     }
     
-    /**
-     * Helper method to get cell value as string
-     */
-    private String getCellValue(Cell cell) {
-        if (cell == null) {
-            return "";
+    private void hideImportProgress() {
+        if (btnImportExcel != null) {
+            btnImportExcel.setDisable(false);
+        }
+        if (importProgress != null) {
+            importProgress.progressProperty().unbind();
+            importProgress.setVisible(false);
         }
-        
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue().trim();
-            case NUMERIC -> String.valueOf((long) cell.getNumericCellValue());
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> cell.getCellFormula();
-            default -> "";
-        };
     }
     
     /**
@@ -2,12 +2,17 @@ package com.notif1ed.controller;
 
 import com.notif1ed.model.StudentEntry;
 import com.notif1ed.model.SubjectEntry;
-import com.notif1ed.util.DatabaseConnectionn;
+import com.notif1ed.repository.AttendanceRepository.DailyAttendance;
+import com.notif1ed.repository.EnrollmentRepository.Enrollment;
+import com.notif1ed.service.AttendanceReportService;
+import com.notif1ed.service.EnrollmentService;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.StudentSearchIndex;
+import com.notif1ed.util.TableFilter;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -19,28 +24,22 @@ import javafx.stage.Stage;
 import javafx.stage.FileChooser;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.net.URL;
-import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.ResourceBundle;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-import com.itextpdf.kernel.pdf.PdfWriter;
-import com.itextpdf.kernel.pdf.PdfDocument;
-import com.itextpdf.layout.Document;
-import com.itextpdf.layout.element.Paragraph;
-import com.itextpdf.layout.element.Table;
-import com.itextpdf.layout.element.Cell;
-import com.itextpdf.layout.properties.TextAlignment;
-import com.itextpdf.layout.properties.UnitValue;
-import com.itextpdf.kernel.colors.ColorConstants;
-import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
-import com.itextpdf.io.font.constants.StandardFonts;
-
 public class SubjectDetailController implements Initializable {
 
+    private static final Comparator<StudentEntry> BY_STUDENT_NUMBER =
+        Comparator.comparing(StudentEntry::getStudentNumber, String.CASE_INSENSITIVE_ORDER);
+
     @FXML
     private Text subjectCodeText;
     @FXML
@@ -85,12 +84,17 @@ public class SubjectDetailController implements Initializable {
     private TableColumn<StudentEntry, String> availableEmailCol;
     @FXML
     private Button btnAddStudent;
+    @FXML
+    private Button btnEnrollSection;
 
     private SubjectEntry currentSubject;
     private ObservableList<StudentEntry> enrolledStudentsList = FXCollections.observableArrayList();
     private ObservableList<StudentEntry> availableStudentsList = FXCollections.observableArrayList();
-    private FilteredList<StudentEntry> filteredEnrolledStudents;
-    private FilteredList<StudentEntry> filteredAvailableStudents;
+    private final StudentSearchIndex enrolledIndex = new StudentSearchIndex();
+    private final StudentSearchIndex availableIndex = new StudentSearchIndex();
+    private final AttendanceReportService reportService = AttendanceReportService.getInstance();
+    private final EnrollmentService enrollmentService = new EnrollmentService();
+    private final BackgroundLoader dataLoader = new BackgroundLoader("SubjectDetail");
 
     @Override
     public void initialize(URL url, ResourceBundle rb) {
@@ -131,40 +135,13 @@ public class SubjectDetailController implements Initializable {
         availableFirstNameCol.setCellValueFactory(new PropertyValueFactory<>("firstName"));
         availableLastNameCol.setCellValueFactory(new PropertyValueFactory<>("lastName"));
         availableEmailCol.setCellValueFactory(new PropertyValueFactory<>("email"));
+        availableStudentsTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
     }
 
     private void setupSearchFilters() {
-        // Filter for enrolled students
-        filteredEnrolledStudents = new FilteredList<>(enrolledStudentsList, p -> true);
-        enrolledSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            filteredEnrolledStudents.setPredicate(student -> {
-                if (newValue == null || newValue.isEmpty()) {
-                    return true;
-                }
-                String lowerCaseFilter = newValue.toLowerCase();
-                return student.getStudentNumber().toLowerCase().contains(lowerCaseFilter)
-                        || student.getFirstName().toLowerCase().contains(lowerCaseFilter)
-                        || student.getLastName().toLowerCase().contains(lowerCaseFilter)
-                        || student.getEmail().toLowerCase().contains(lowerCaseFilter);
-            });
-        });
-        enrolledStudentsTable.setItems(filteredEnrolledStudents);
-
-        // Filter for available students
-        filteredAvailableStudents = new FilteredList<>(availableStudentsList, p -> true);
-        availableSearchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            filteredAvailableStudents.setPredicate(student -> {
-                if (newValue == null || newValue.isEmpty()) {
-                    return true;
-                }
-                String lowerCaseFilter = newValue.toLowerCase();
-                return student.getStudentNumber().toLowerCase().contains(lowerCaseFilter)
-                        || student.getFirstName().toLowerCase().contains(lowerCaseFilter)
-                        || student.getLastName().toLowerCase().contains(lowerCaseFilter)
-                        || student.getEmail().toLowerCase().contains(lowerCaseFilter);
-            });
-        });
-        availableStudentsTable.setItems(filteredAvailableStudents);
+        // Debounced, evaluated in the background, and resolved from the search indexes
+        TableFilter.attach(enrolledStudentsTable, enrolledStudentsList, enrolledSearchField, enrolledIndex::filter);
+        TableFilter.attach(availableStudentsTable, availableStudentsList, availableSearchField, availableIndex::filter);
     }
 
     private void loadEnrolledStudents() {
@@ -172,38 +149,18 @@ public class SubjectDetailController implements Initializable {
 
         if (currentSubject == null) return;
 
-        String sql = "SELECT s.student_number, s.first_name, " +
-                    "COALESCE(s.last_name, s.guardian_name, '') as last_name, " +
-                    "s.email, ss.enrollment_date " +
-                    "FROM students s " +
-                    "INNER JOIN student_subjects ss ON s.student_id = ss.student_id " +
-                    "WHERE ss.subject_id = ? AND ss.status = 'active' " +
-                    "ORDER BY s.student_number";
-
-        try (Connection conn = DatabaseConnectionn.connect();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, currentSubject.getId());
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                StudentEntry student = new StudentEntry(
-                    rs.getString("student_number"),
-                    rs.getString("first_name"),
-                    rs.getString("last_name"),
-                    rs.getString("email")
-                );
-                enrolledStudentsList.add(student);
-            }
-
+        int subjectId = currentSubject.getId();
+        dataLoader.load("enrolled", () -> enrollmentService.getEnrolledStudents(subjectId), students -> {
+            // Rebuilt with the list on the FX thread so moves and filters never see a stale index
+            enrolledIndex.rebuild(students);
+            enrolledStudentsList.setAll(students);
             updateEnrollmentCount();
             System.out.println("✅ Loaded " + enrolledStudentsList.size() + " enrolled students");
-
-        } catch (SQLException e) {
+        }, e -> {
             Stage stage = (Stage) enrolledStudentsTable.getScene().getWindow();
             ToastNotification.showError(stage, "Error loading enrolled students: " + e.getMessage());
             e.printStackTrace();
-        }
+        });
     }
 
     private void loadAvailableStudents() {
@@ -211,84 +168,180 @@ public class SubjectDetailController implements Initializable {
 
         if (currentSubject == null) return;
 
-        String sql = "SELECT s.student_number, s.first_name, " +
-                    "COALESCE(s.last_name, s.guardian_name, '') as last_name, " +
-                    "s.email " +
-                    "FROM students s " +
-                    "WHERE s.student_id NOT IN ( " +
-                    "    SELECT student_id FROM student_subjects " +
-                    "    WHERE subject_id = ? AND status = 'active' " +
-                    ") " +
-                    "ORDER BY s.student_number";
-
-        try (Connection conn = DatabaseConnectionn.connect();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, currentSubject.getId());
-            ResultSet rs = stmt.executeQuery();
-
-            while (rs.next()) {
-                StudentEntry student = new StudentEntry(
-                    rs.getString("student_number"),
-                    rs.getString("first_name"),
-                    rs.getString("last_name"),
-                    rs.getString("email")
-                );
-                availableStudentsList.add(student);
-            }
-
+        int subjectId = currentSubject.getId();
+        dataLoader.load("available", () -> enrollmentService.getAvailableStudents(subjectId), students -> {
+            availableIndex.rebuild(students);
+            availableStudentsList.setAll(students);
             System.out.println("✅ Loaded " + availableStudentsList.size() + " available students");
-
-        } catch (SQLException e) {
+        }, e -> {
             Stage stage = (Stage) availableStudentsTable.getScene().getWindow();
             ToastNotification.showError(stage, "Error loading available students: " + e.getMessage());
             e.printStackTrace();
-        }
+        });
+    }
+
+    /**
+     * Moves a student between the two lists after an enrollment change,
+     * keeping the target list ordered by student number, instead of reloading both.
+     */
+    private void moveStudent(StudentEntry student, ObservableList<StudentEntry> from, ObservableList<StudentEntry> to) {
+        indexFor(from).remove(student.getStudentNumber());
+        indexFor(to).put(student);
+        from.remove(student);
+        int index = Collections.binarySearch(to, student, BY_STUDENT_NUMBER);
+        to.add(index < 0 ? -index - 1 : index, student);
+        updateEnrollmentCount();
+    }
+
+    private StudentSearchIndex indexFor(ObservableList<StudentEntry> list) {
+        return list == enrolledStudentsList ? enrolledIndex : availableIndex;
     }
 
     @FXML
     private void handleAddStudent(ActionEvent event) {
-        StudentEntry selectedStudent = availableStudentsTable.getSelectionModel().getSelectedItem();
+        List<StudentEntry> selectedStudents = new ArrayList<>(availableStudentsTable.getSelectionModel().getSelectedItems());
         Stage stage = (Stage) availableStudentsTable.getScene().getWindow();
 
-        if (selectedStudent == null) {
-            ToastNotification.showWarning(stage, "Please select a student to add to this class");
+        if (selectedStudents.isEmpty()) {
+            ToastNotification.showWarning(stage, "Please select students to add to this class");
             return;
         }
 
-        // Add student to subject in database
-        String sql = "INSERT INTO student_subjects (student_id, subject_id, enrollment_date, status) " +
-                    "SELECT s.student_id, ?, CURRENT_DATE, 'active' " +
-                    "FROM students s WHERE s.student_number = ?";
+        List<String> studentNumbers = new ArrayList<>(selectedStudents.size());
+        for (StudentEntry student : selectedStudents) {
+            studentNumbers.add(student.getStudentNumber());
+        }
 
-        try (Connection conn = DatabaseConnectionn.connect();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        int subjectId = currentSubject.getId();
+        String subjectCode = currentSubject.getSubjectCode();
+        // A write is never cancelled by a second click; the buttons stay disabled until it finishes
+        setEnrolling(true);
+        dataLoader.load("enroll", () -> enrollmentService.enrollAll(subjectId, subjectCode, studentNumbers), enrollments -> {
+            setEnrolling(false);
+            moveEnrolled(enrollments);
+            removeMissing(selectedStudents, enrollments);
+            if (enrollments.isEmpty()) {
+                ToastNotification.showError(stage, "Selected students no longer exist");
+            } else if (enrollments.size() == 1) {
+                String studentNumber = enrollments.get(0).getStudentNumber();
+                StudentEntry student = selectedStudents.stream()
+                    .filter(selected -> selected.getStudentNumber().equals(studentNumber))
+                    .findFirst()
+                    .orElse(null);
+                String name = student != null ? student.getFirstName() + " " + student.getLastName() : studentNumber;
+                ToastNotification.showSuccess(stage, name + " added to " + subjectCode);
+            } else {
+                ToastNotification.showSuccess(stage, enrollments.size() + " students added to " + subjectCode);
+            }
+        }, e -> {
+            setEnrolling(false);
+            ToastNotification.showError(stage, "Error adding students: " + e.getMessage());
+            e.printStackTrace();
+        });
+    }
 
-            stmt.setInt(1, currentSubject.getId());
-            stmt.setString(2, selectedStudent.getStudentNumber());
+    /**
+     * Enroll every not-yet-enrolled student whose section matches this subject's section
+     */
+    @FXML
+    private void handleEnrollSection(ActionEvent event) {
+        Stage stage = (Stage) availableStudentsTable.getScene().getWindow();
+        String section = currentSubject != null ? currentSubject.getSection() : null;
 
-            int rowsAffected = stmt.executeUpdate();
+        if (section == null || section.isBlank()) {
+            ToastNotification.showWarning(stage, "This subject has no section to enroll");
+            return;
+        }
 
-            if (rowsAffected > 0) {
-                ToastNotification.showSuccess(stage, 
-                    selectedStudent.getFirstName() + " " + selectedStudent.getLastName() + 
-                    " added to " + currentSubject.getSubjectCode());
-                
-                // Refresh both tables
-                loadEnrolledStudents();
-                loadAvailableStudents();
-            }
+        boolean confirmed = CustomModal.showConfirmation(
+            stage,
+            "Enroll Section",
+            "Enroll every student of section " + section + " in " + currentSubject.getSubjectCode() + "?",
+            "Enroll",
+            "Cancel"
+        );
+        if (!confirmed) {
+            return;
+        }
 
-        } catch (SQLException e) {
-            if (e.getMessage().contains("Duplicate entry")) {
-                ToastNotification.showError(stage, "This student is already enrolled in this subject");
+        int subjectId = currentSubject.getId();
+        String subjectCode = currentSubject.getSubjectCode();
+        setEnrolling(true);
+        dataLoader.load("enroll", () -> enrollmentService.enrollSection(subjectId, subjectCode, section), enrollments -> {
+            setEnrolling(false);
+            moveEnrolled(enrollments);
+            if (enrollments.isEmpty()) {
+                ToastNotification.showInfo(stage, "Every student of " + section + " is already enrolled");
             } else {
-                ToastNotification.showError(stage, "Error adding student: " + e.getMessage());
+                ToastNotification.showSuccess(stage, enrollments.size() + " students of " + section + " added to " + subjectCode);
             }
+        }, e -> {
+            setEnrolling(false);
+            ToastNotification.showError(stage, "Error enrolling section: " + e.getMessage());
             e.printStackTrace();
+        });
+    }
+
+    private void setEnrolling(boolean enrolling) {
+        btnAddStudent.setDisable(enrolling);
+        btnEnrollSection.setDisable(enrolling);
+    }
+
+    /**
+     * Drops selected students that were not enrolled because they no longer exist.
+     */
+    private void removeMissing(List<StudentEntry> selectedStudents, List<Enrollment> enrollments) {
+        if (enrollments.size() == selectedStudents.size()) {
+            return;
+        }
+        Set<String> enrolledNumbers = new HashSet<>();
+        for (Enrollment enrollment : enrollments) {
+            enrolledNumbers.add(enrollment.getStudentNumber());
+        }
+        for (StudentEntry student : selectedStudents) {
+            if (!enrolledNumbers.contains(student.getStudentNumber())) {
+                availableIndex.remove(student.getStudentNumber());
+                availableStudentsList.remove(student);
+            }
         }
     }
 
+    /**
+     * Moves newly enrolled students from the available list to the enrolled list.
+     */
+    private void moveEnrolled(List<Enrollment> enrollments) {
+        if (enrollments.size() == 1) {
+            String studentNumber = enrollments.get(0).getStudentNumber();
+            availableStudentsList.stream()
+                .filter(student -> student.getStudentNumber().equals(studentNumber))
+                .findFirst()
+                .ifPresent(student -> moveStudent(student, availableStudentsList, enrolledStudentsList));
+            return;
+        }
+
+        // One pass over the available list and one sort instead of a move per student
+        Set<String> enrolledNumbers = new HashSet<>();
+        for (Enrollment enrollment : enrollments) {
+            enrolledNumbers.add(enrollment.getStudentNumber());
+        }
+        List<StudentEntry> moved = new ArrayList<>(enrollments.size());
+        List<StudentEntry> remaining = new ArrayList<>(availableStudentsList.size());
+        for (StudentEntry student : availableStudentsList) {
+            (enrolledNumbers.contains(student.getStudentNumber()) ? moved : remaining).add(student);
+        }
+        for (StudentEntry student : moved) {
+            availableIndex.remove(student.getStudentNumber());
+            enrolledIndex.put(student);
+        }
+        availableStudentsList.setAll(remaining);
+
+        List<StudentEntry> enrolled = new ArrayList<>(enrolledStudentsList);
+        enrolled.addAll(moved);
+        enrolled.sort(BY_STUDENT_NUMBER);
+        enrolledStudentsList.setAll(enrolled);
+        updateEnrollmentCount();
+    }
+
     @FXML
     private void handleRemoveStudent(ActionEvent event) {
         StudentEntry selectedStudent = enrolledStudentsTable.getSelectionModel().getSelectedItem();
@@ -315,47 +368,34 @@ public class SubjectDetailController implements Initializable {
     }
 
     private void removeStudentFromSubject(StudentEntry student) {
-        String sql = "UPDATE student_subjects " +
-                    "SET status = 'dropped' " +
-                    "WHERE subject_id = ? AND student_id = ( " +
-                    "    SELECT student_id FROM students WHERE student_number = ? " +
-                    ")";
-
         Stage stage = (Stage) enrolledStudentsTable.getScene().getWindow();
+        int subjectId = currentSubject.getId();
+        String subjectCode = currentSubject.getSubjectCode();
 
-        try (Connection conn = DatabaseConnectionn.connect();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, currentSubject.getId());
-            stmt.setString(2, student.getStudentNumber());
-
-            int rowsAffected = stmt.executeUpdate();
-
-            if (rowsAffected > 0) {
+        dataLoader.load("drop:" + student.getStudentNumber(), () -> enrollmentService.drop(subjectId, student.getStudentNumber()), dropped -> {
+            // Not enrolled any more either way, so the student belongs in the available list
+            moveStudent(student, enrolledStudentsList, availableStudentsList);
+            if (dropped) {
                 ToastNotification.showSuccess(stage,
                     student.getFirstName() + " " + student.getLastName() + 
-                    " removed from " + currentSubject.getSubjectCode());
-                
-                // Refresh both tables
-                loadEnrolledStudents();
-                loadAvailableStudents();
+                    " removed from " + subjectCode);
             }
-
-        } catch (SQLException e) {
+        }, e -> {
             ToastNotification.showError(stage, "Error removing student: " + e.getMessage());
             e.printStackTrace();
-        }
+        });
     }
 
     @FXML
     private void handleClose(ActionEvent event) {
+        dataLoader.cancelAll();
         Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
         stage.close();
     }
     
     /**
      * Show attendance report for the enrolled students in this subject
-     * Displays arrival and departure statistics for all dates
+     * Displays arrival and departure statistics for the most recent dates
      */
     @FXML
     private void handleCheckAttendance(ActionEvent event) {
@@ -366,66 +406,34 @@ public class SubjectDetailController implements Initializable {
             return;
         }
         
-        // Get total enrolled students count
-        int totalEnrolled = enrolledStudentsList.size();
-        
-        // Query attendance statistics grouped by date
-        String sql = "SELECT " +
-                    "DATE(r.created_at) as record_date, " +
-                    "COUNT(DISTINCT CASE WHEN r.record_type = 'Arrival' THEN r.student_id END) as arrivals, " +
-                    "COUNT(DISTINCT CASE WHEN r.record_type = 'Departure' THEN r.student_id END) as departures " +
-                    "FROM records r " +
-                    "INNER JOIN student_subjects ss ON r.student_id = ss.student_id " +
-                    "WHERE ss.subject_id = ? AND ss.status = 'active' " +
-                    "GROUP BY DATE(r.created_at) " +
-                    "ORDER BY DATE(r.created_at) DESC " +
-                    "LIMIT 10";
-        
-        try (Connection conn = DatabaseConnectionn.connect();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, currentSubject.getId());
-            ResultSet rs = stmt.executeQuery();
-            
+        dataLoader.load("attendance", () -> reportService.getReport(currentSubject.getId()), report -> {
             StringBuilder message = new StringBuilder();
             message.append(String.format("📊 Attendance History for %s\n", currentSubject.getSubjectCode()));
-            message.append(String.format("👥 Total Enrolled: %d students\n\n", totalEnrolled));
+            message.append(String.format("👥 Total Enrolled: %d students\n\n", report.getTotalEnrolled()));
             message.append("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n\n");
             
-            boolean hasRecords = false;
-            int recordCount = 0;
-            
-            while (rs.next() && recordCount < 10) {
-                hasRecords = true;
-                String recordDate = rs.getString("record_date");
-                int arrivals = rs.getInt("arrivals");
-                int departures = rs.getInt("departures");
-                int absent = totalEnrolled - arrivals;
-                double attendanceRate = totalEnrolled > 0 ? (arrivals * 100.0 / totalEnrolled) : 0;
-                
-                message.append(String.format("� Date: %s\n", recordDate));
-                message.append(String.format("   ✅ Arrivals: %d students\n", arrivals));
-                message.append(String.format("   ❌ Absent: %d students\n", absent));
-                message.append(String.format("   🚪 Departures: %d students\n", departures));
-                message.append(String.format("   � Rate: %.1f%%\n\n", attendanceRate));
-                
-                recordCount++;
+            List<DailyAttendance> recentDays = report.getRecentDays(10);
+            for (DailyAttendance day : recentDays) {
+                message.append(String.format("📅 Date: %s\n", day.getDate()));
+                message.append(String.format("   ✅ Arrivals: %d students\n", day.getArrivals()));
+                message.append(String.format("   ❌ Absent: %d students\n", day.getAbsent()));
+                message.append(String.format("   🚪 Departures: %d students\n", day.getDepartures()));
+                message.append(String.format("   📈 Rate: %.1f%%\n\n", day.getAttendanceRate()));
             }
             
-            if (!hasRecords) {
+            if (recentDays.isEmpty()) {
                 message.append("No attendance records found for this subject.\n");
                 message.append("Records will appear here once students check in.");
             } else {
                 message.append("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
-                message.append(String.format("Showing last %d attendance dates", recordCount));
+                message.append(String.format("Showing last %d attendance dates", recentDays.size()));
             }
             
             CustomModal.showInfo(stage, "Attendance History", message.toString());
-            
-        } catch (SQLException e) {
+        }, e -> {
             ToastNotification.showError(stage, "Error loading attendance data: " + e.getMessage());
             e.printStackTrace();
-        }
+        });
     }
 
     private void updateEnrollmentCount() {
@@ -460,138 +468,21 @@ public class SubjectDetailController implements Initializable {
             return; // User cancelled
         }
         
-        try {
-            generatePDFReport(file);
+        // Query and render off the FX thread; the button stays disabled meanwhile
+        Button source = (Button) event.getSource();
+        source.setDisable(true);
+        SubjectEntry subject = currentSubject;
+        
+        dataLoader.load("pdf", () -> {
+            reportService.writePdf(subject, reportService.getReport(subject.getId()), file);
+            return file;
+        }, saved -> {
+            source.setDisable(false);
             ToastNotification.showSuccess(stage, "PDF report saved successfully!");
-        } catch (Exception e) {
+        }, e -> {
+            source.setDisable(false);
             ToastNotification.showError(stage, "Error generating PDF: " + e.getMessage());
             e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Generate the PDF report with attendance data
-     */
-    private void generatePDFReport(File file) throws Exception {
-        int totalEnrolled = enrolledStudentsList.size();
-        
-        // Query attendance statistics grouped by date
-        String sql = "SELECT " +
-                    "DATE(r.created_at) as record_date, " +
-                    "COUNT(DISTINCT CASE WHEN r.record_type = 'Arrival' THEN r.student_id END) as arrivals, " +
-                    "COUNT(DISTINCT CASE WHEN r.record_type = 'Departure' THEN r.student_id END) as departures " +
-                    "FROM records r " +
-                    "INNER JOIN student_subjects ss ON r.student_id = ss.student_id " +
-                    "WHERE ss.subject_id = ? AND ss.status = 'active' " +
-                    "GROUP BY DATE(r.created_at) " +
-                    "ORDER BY DATE(r.created_at) DESC";
-        
-        PdfWriter writer = new PdfWriter(new FileOutputStream(file));
-        PdfDocument pdfDoc = new PdfDocument(writer);
-        Document document = new Document(pdfDoc);
-        
-        // Create fonts
-        PdfFont boldFont = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
-        PdfFont normalFont = PdfFontFactory.createFont(StandardFonts.HELVETICA);
-        
-        // Add header
-        Paragraph title = new Paragraph("ATTENDANCE REPORT")
-            .setFont(boldFont)
-            .setFontSize(20)
-            .setTextAlignment(TextAlignment.CENTER)
-            .setMarginBottom(10);
-        document.add(title);
-        
-        Paragraph subTitle = new Paragraph("Quezon City University")
-            .setFont(normalFont)
-            .setFontSize(12)
-            .setTextAlignment(TextAlignment.CENTER)
-            .setMarginBottom(20);
-        document.add(subTitle);
-        
-        // Add subject information
-        document.add(new Paragraph(String.format("Subject: %s - %s", 
-            currentSubject.getSubjectCode(), currentSubject.getSubjectName()))
-            .setFont(boldFont)
-            .setFontSize(14)
-            .setMarginBottom(5));
-            
-        document.add(new Paragraph(String.format("Year Level: %d | Section: %s", 
-            currentSubject.getYearLevel(), currentSubject.getSection()))
-            .setFont(normalFont)
-            .setFontSize(11)
-            .setMarginBottom(5));
-            
-        document.add(new Paragraph(String.format("Total Enrolled Students: %d", totalEnrolled))
-            .setFont(normalFont)
-            .setFontSize(11)
-            .setMarginBottom(5));
-            
-        document.add(new Paragraph(String.format("Report Generated: %s", 
-            LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy hh:mm a"))))
-            .setFont(normalFont)
-            .setFontSize(10)
-            .setMarginBottom(20));
-        
-        // Create table
-        float[] columnWidths = {3, 2, 2, 2, 2};
-        Table table = new Table(UnitValue.createPercentArray(columnWidths));
-        table.setWidth(UnitValue.createPercentValue(100));
-        
-        // Add table headers
-        String[] headers = {"Date", "Arrivals", "Departures", "Absent", "Attendance Rate"};
-        for (String header : headers) {
-            Cell cell = new Cell()
-                .add(new Paragraph(header).setFont(boldFont).setFontSize(11))
-                .setBackgroundColor(ColorConstants.LIGHT_GRAY)
-                .setTextAlignment(TextAlignment.CENTER)
-                .setPadding(8);
-            table.addHeaderCell(cell);
-        }
-        
-        // Query and add data rows
-        try (Connection conn = DatabaseConnectionn.connect();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, currentSubject.getId());
-            ResultSet rs = stmt.executeQuery();
-            
-            boolean hasRecords = false;
-            while (rs.next()) {
-                hasRecords = true;
-                String recordDate = rs.getString("record_date");
-                int arrivals = rs.getInt("arrivals");
-                int departures = rs.getInt("departures");
-                int absent = totalEnrolled - arrivals;
-                double attendanceRate = totalEnrolled > 0 ? (arrivals * 100.0 / totalEnrolled) : 0;
-                
-                table.addCell(new Cell().add(new Paragraph(recordDate).setFont(normalFont).setFontSize(10)).setTextAlignment(TextAlignment.CENTER).setPadding(5));
-                table.addCell(new Cell().add(new Paragraph(String.valueOf(arrivals)).setFont(normalFont).setFontSize(10)).setTextAlignment(TextAlignment.CENTER).setPadding(5));
-                table.addCell(new Cell().add(new Paragraph(String.valueOf(departures)).setFont(normalFont).setFontSize(10)).setTextAlignment(TextAlignment.CENTER).setPadding(5));
-                table.addCell(new Cell().add(new Paragraph(String.valueOf(absent)).setFont(normalFont).setFontSize(10)).setTextAlignment(TextAlignment.CENTER).setPadding(5));
-                table.addCell(new Cell().add(new Paragraph(String.format("%.1f%%", attendanceRate)).setFont(normalFont).setFontSize(10)).setTextAlignment(TextAlignment.CENTER).setPadding(5));
-            }
-            
-            if (!hasRecords) {
-                // Add a message if no records found
-                Cell noDataCell = new Cell(1, 5)
-                    .add(new Paragraph("No attendance records found for this subject.").setFont(normalFont).setFontSize(10).setItalic())
-                    .setTextAlignment(TextAlignment.CENTER)
-                    .setPadding(20);
-                table.addCell(noDataCell);
-            }
-        }
-        
-        document.add(table);
-        
-        // Add footer
-        document.add(new Paragraph("\n\nThis report was automatically generated by Notif1ed System.")
-            .setFont(normalFont)
-            .setFontSize(9)
-            .setTextAlignment(TextAlignment.CENTER)
-            .setMarginTop(20)
-            .setFontColor(ColorConstants.GRAY));
-        
-        document.close();
+        });
     }
 }
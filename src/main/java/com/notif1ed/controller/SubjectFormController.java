@@ -4,7 +4,8 @@
  */
 package com.notif1ed.controller;
 
-import com.notif1ed.util.DatabaseConnectionn;
+import com.notif1ed.service.SubjectService;
+import com.notif1ed.util.DatabaseConnection;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
 
@@ -77,7 +78,7 @@ public class SubjectFormController implements Initializable {
         }
         
         // Add subject to database
-        try (Connection conn = DatabaseConnectionn.connect()) {
+        try (Connection conn = DatabaseConnection.connect()) {
             String sql = "INSERT INTO subjects (subject_code, subject_name, year_level, section) VALUES (?, ?, ?, ?)";
             PreparedStatement pstmt = conn.prepareStatement(sql);
             pstmt.setString(1, subjectCode);
@@ -88,6 +89,7 @@ public class SubjectFormController implements Initializable {
             int rowsAffected = pstmt.executeUpdate();
             
             if (rowsAffected > 0) {
+                SubjectService.invalidateCache();
                 CustomModal.showInfo(stage, "Success", "Subject added successfully!\n\n" +
                     "Subject Code: " + subjectCode + "\n" +
                     "Subject Name: " + subjectName);
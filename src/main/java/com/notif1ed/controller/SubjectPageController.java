@@ -6,24 +6,33 @@ package com.notif1ed.controller;
 
 import com.notif1ed.model.SubjectEntry;
 import com.notif1ed.repository.SubjectRepository;
+import com.notif1ed.service.ChangeFeed;
+import com.notif1ed.service.ExportService;
 import com.notif1ed.service.SubjectService;
+import com.notif1ed.util.SceneRegistry;
 import com.notif1ed.util.SessionManager;
 import com.notif1ed.util.ToastNotification;
 import com.notif1ed.util.CustomModal;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.TableFilter;
+import com.notif1ed.util.ViewLoader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Comparator;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.util.Duration;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -50,6 +59,8 @@ public class SubjectPageController implements Initializable {
 
     private static final Logger log = LoggerFactory.getLogger(SubjectPageController.class);
     private final SubjectService subjectService = new SubjectService();
+    private final BackgroundLoader dataLoader = new BackgroundLoader("Subjects");
+    private final ExportLauncher exportLauncher = new ExportLauncher(ExportService.Dataset.SUBJECTS);
 
     @FXML
     private TableView<SubjectEntry> subjectTable;
@@ -82,19 +93,22 @@ public class SubjectPageController implements Initializable {
     
     private Timeline clock;
     
+    // Open while the page is shown
+    private ChangeFeed.Subscription changes;
+    
     private ObservableList<SubjectEntry> subjectList = FXCollections.observableArrayList();
+    
+    // Order of the subject list, which also identifies subjects when merging changes
+    private static final Comparator<SubjectEntry> BY_SUBJECT_CODE =
+        Comparator.comparing(SubjectEntry::getSubjectCode, String.CASE_INSENSITIVE_ORDER);
 
     /**
      * Initializes the controller class.
      */
     @Override
     public void initialize(URL url, ResourceBundle rb) {
-        // Validate session
-        if (!SessionManager.getInstance().isLoggedIn()) {
-            log.warn("Unauthorized access attempt to Subjects page");
-            return;
-        }
-        log.info("Initializing Subjects page for user: {}", SessionManager.getInstance().getUserName());
+        // Only the view is set up here: SceneRegistry may build this page ahead of
+        // time and reuse it, so loading happens in start() each time it is shown
         
         // Set up table columns if they exist
         if (subjectCodeCol != null) {
@@ -110,17 +124,53 @@ public class SubjectPageController implements Initializable {
             sectionCol.setCellValueFactory(new PropertyValueFactory<>("section"));
         }
         
-        // Load subjects from database
-        loadSubjects();
+        createClock();
+        if (subjectTable != null) {
+            if (searchField != null) {
+                TableFilter.attach(subjectTable, subjectList, searchField, SubjectPageController::matching);
+            } else {
+                subjectTable.setItems(subjectList);
+            }
+            subjectTable.setPlaceholder(new javafx.scene.control.Label("Loading subjects..."));
+            dataLoader.cancelWhenDetached(subjectTable);
+            BackgroundLoader.whenAttached(subjectTable, this::start);
+            BackgroundLoader.whenDetached(subjectTable, this::stop);
+        } else {
+            start();
+        }
+    }
+    
+    /**
+     * Runs each time the page is shown: checks the session, reloads the
+     * subjects and follows other workstations' changes while visible.
+     */
+    private void start() {
+        // Validate session
+        if (!SessionManager.getInstance().isLoggedIn()) {
+            log.warn("Unauthorized access attempt to Subjects page");
+            return;
+        }
+        log.info("Showing Subjects page for user: {}", SessionManager.getInstance().getUserName());
         
-        // Start the clock
-        startClock();
+        // Load subjects from database (off the FX thread)
+        changes = ChangeFeed.getInstance().subscribeSubjects(
+            delta -> Platform.runLater(() -> mergeChangedSubjects(delta)));
+        loadSubjects();
+        clock.play();
+    }
+    
+    private void stop() {
+        if (changes != null) {
+            changes.close();
+            changes = null;
+        }
+        clock.stop();
     }
     
     /**
-     * Start the real-time clock display
+     * Create the real-time clock display
      */
-    private void startClock() {
+    private void createClock() {
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm:ss a");
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd, yyyy");
         
@@ -131,7 +181,6 @@ public class SubjectPageController implements Initializable {
         }), new KeyFrame(Duration.seconds(1)));
         
         clock.setCycleCount(Animation.INDEFINITE);
-        clock.play();
     }
     
     @FXML
@@ -167,9 +216,11 @@ public class SubjectPageController implements Initializable {
         );
         
         if (confirmed) {
+            // Also deletes the saved session and the cached pages, so the next user starts fresh
+            SessionManager.getInstance().logout();
+            SceneRegistry.getInstance().clear();
             try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/LandingPage.fxml"));
-                Scene scene = new Scene(loader.load());
+                Scene scene = new Scene(ViewLoader.load("LandingPage.fxml"));
                 stage.setScene(scene);
                 stage.setTitle("Notif1ed - Welcome");
                 stage.show();
@@ -183,6 +234,14 @@ public class SubjectPageController implements Initializable {
         }
     }
     
+    /**
+     * Exports every subject to Excel, or cancels the running export
+     */
+    @FXML
+    private void handleExport(ActionEvent event) {
+        exportLauncher.toggle((Button) event.getSource());
+    }
+    
     @FXML
     private void handleAddSubjectClick(ActionEvent event) {
         handleAddSubject(event);
@@ -255,8 +314,8 @@ public class SubjectPageController implements Initializable {
     
     private void openSubjectDetailView(SubjectEntry subject) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/notif1ed/view/SubjectDetailView.fxml"));
-            Parent root = loader.load();
+            FXMLLoader loader = ViewLoader.loader("SubjectDetailView.fxml");
+            Parent root = ViewLoader.load(loader);
             
             // Get the controller and pass the subject data
             SubjectDetailController controller = loader.getController();
@@ -278,11 +337,8 @@ public class SubjectPageController implements Initializable {
     
     private void navigateToPage(ActionEvent event, String fxmlFile) {
         try {
-            Parent root = FXMLLoader.load(getClass().getResource("/com/notif1ed/view/" + fxmlFile));
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            Scene scene = new Scene(root);
-            stage.setScene(scene);
-            stage.show();
+            SceneRegistry.getInstance().show(stage, fxmlFile);
         } catch (IOException e) {
             Stage stage = (Stage) homeButton.getScene().getWindow();
             ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Could not load page: " + fxmlFile);
@@ -290,40 +346,69 @@ public class SubjectPageController implements Initializable {
         }
     }
     
+    /**
+     * Search filter for the subjects table: code, name or section contains the query.
+     */
+    private static Predicate<SubjectEntry> matching(String query) {
+        return subject -> TableFilter.containsIgnoreCase(subject.getSubjectCode(), query)
+                || TableFilter.containsIgnoreCase(subject.getSubjectName(), query)
+                || TableFilter.containsIgnoreCase(subject.getSection(), query);
+    }
+    
     private void loadSubjects() {
         log.debug("Loading subjects from database");
-        subjectList.clear();
         
-        try {
+        dataLoader.load("subjects", () -> {
             // Get subjects from service and convert to SubjectEntry
             List<SubjectRepository.Subject> serviceSubjects = subjectService.getAllSubjects();
+            List<SubjectEntry> entries = new java.util.ArrayList<>(serviceSubjects.size());
             
             for (SubjectRepository.Subject serviceSubject : serviceSubjects) {
-                SubjectEntry entry = new SubjectEntry(
-                    serviceSubject.getSubjectId(),
-                    serviceSubject.getSubjectCode(),
-                    serviceSubject.getSubjectName(),
-                    serviceSubject.getYearLevel(),
-                    serviceSubject.getSection()
-                );
-                subjectList.add(entry);
+                entries.add(toEntry(serviceSubject));
             }
-            
+            return entries;
+        }, entries -> {
+            subjectList.setAll(entries);
             if (subjectTable != null) {
-                subjectTable.setItems(subjectList);
+                subjectTable.setPlaceholder(new javafx.scene.control.Label("No subjects found"));
             }
-            
             log.info("✅ Loaded {} subjects from database", subjectList.size());
-        } catch (Exception e) {
-            log.error("Error loading subjects", e);
+        }, e -> {
             if (homeButton != null && homeButton.getScene() != null) {
                 Stage stage = (Stage) homeButton.getScene().getWindow();
                 ToastNotification.show(stage, ToastNotification.ToastType.ERROR, "Error loading subjects from database");
             }
-        }
+        });
     }
     
     public void refreshTable() {
         loadSubjects();
     }
+    
+    /**
+     * Merges subjects changed on other workstations into the table, or
+     * reloads it when the change feed cannot describe the change.
+     */
+    private void mergeChangedSubjects(ChangeFeed.Delta<SubjectRepository.Subject> delta) {
+        if (delta.isReset()) {
+            loadSubjects();
+            return;
+        }
+        subjectService.applyChanges(delta);
+        delta.map(SubjectPageController::toEntry).applyTo(subjectList, BY_SUBJECT_CODE);
+        if (subjectList.size() != delta.getCurrent().getRowCount()) {
+            // Rows were deleted as well, which the delta cannot show
+            loadSubjects();
+        }
+    }
+    
+    private static SubjectEntry toEntry(SubjectRepository.Subject subject) {
+        return new SubjectEntry(
+            subject.getSubjectId(),
+            subject.getSubjectCode(),
+            subject.getSubjectName(),
+            subject.getYearLevel(),
+            subject.getSection()
+        );
+    }
 }
@@ -0,0 +1,47 @@
+package com.notif1ed.model;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Row count and latest updated_at of a table, used to tell whether the
+ * table changed since it was last read. Inserts and deletes change the
+ * count; updates move updated_at forward.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public final class ChangeStamp {
+    private final long rowCount;
+    private final Timestamp lastUpdated;
+
+    public ChangeStamp(long rowCount, Timestamp lastUpdated) {
+        this.rowCount = rowCount;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public long getRowCount() { return rowCount; }
+    public Timestamp getLastUpdated() { return lastUpdated; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChangeStamp)) {
+            return false;
+        }
+        ChangeStamp other = (ChangeStamp) o;
+        return rowCount == other.rowCount && Objects.equals(lastUpdated, other.lastUpdated);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowCount, lastUpdated);
+    }
+
+    @Override
+    public String toString() {
+        return rowCount + " rows, last updated " + lastUpdated;
+    }
+}
@@ -6,94 +6,149 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * A record row. Values are kept in plain fields; each JavaFX property is
+ * created on first use, so only rows a table actually renders pay for
+ * property objects. The display date is formatted when first read.
+ */
 public class RecordEntry {
-    private final IntegerProperty id = new SimpleIntegerProperty();
-    private final StringProperty studentNumber = new SimpleStringProperty();
-    private final StringProperty surname = new SimpleStringProperty();
-    private final StringProperty firstName = new SimpleStringProperty();
-    private final StringProperty guardianEmail = new SimpleStringProperty();
-    private final ObjectProperty<LocalDate> date = new SimpleObjectProperty<>();
-    private final ObjectProperty<LocalTime> time = new SimpleObjectProperty<>();
-    private final StringProperty type = new SimpleStringProperty();
-    
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a");
+
+    private int id;
+    private String studentNumber;
+    private String surname;
+    private String firstName;
+    private String guardianEmail;
+    private LocalDate date;
+    private LocalTime time;
+    private String type;
+
     // Computed properties for FXML bindings
-    private final StringProperty email = new SimpleStringProperty();
-    private final StringProperty lastName = new SimpleStringProperty();
-    private final StringProperty createdAt = new SimpleStringProperty();
-    private final StringProperty recordType = new SimpleStringProperty();
+    private String email;
+    private String lastName;
+    private String createdAt;
+    private String recordType;
+
+    private IntegerProperty idProperty;
+    private StringProperty studentNumberProperty;
+    private StringProperty surnameProperty;
+    private StringProperty firstNameProperty;
+    private StringProperty guardianEmailProperty;
+    private ObjectProperty<LocalDate> dateProperty;
+    private ObjectProperty<LocalTime> timeProperty;
+    private StringProperty typeProperty;
+    private StringProperty emailProperty;
+    private StringProperty lastNameProperty;
+    private StringProperty createdAtProperty;
+    private StringProperty recordTypeProperty;
 
-    public RecordEntry(int id, String studentNumber, String surname, String firstName, 
+    public RecordEntry(int id, String studentNumber, String surname, String firstName,
                       String guardianEmail, LocalDate date, LocalTime time, String type) {
-        setId(id);
-        setStudentNumber(studentNumber);
-        setSurname(surname);
-        setFirstName(firstName);
-        setGuardianEmail(guardianEmail);
-        setDate(date);
-        setTime(time);
-        setType(type);
-        
-        // Populate computed properties
-        setEmail(guardianEmail);
-        setLastName(surname);
-        setRecordType(type);
-        
-        // Format date and time nicely
-        if (date != null && time != null) {
-            LocalDateTime dateTime = LocalDateTime.of(date, time);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a");
-            setCreatedAt(dateTime.format(formatter));
-        } else {
-            setCreatedAt("N/A");
-        }
+        this.id = id;
+        this.studentNumber = studentNumber;
+        this.surname = surname;
+        this.firstName = firstName;
+        this.guardianEmail = guardianEmail;
+        this.date = date;
+        this.time = time;
+        this.type = type;
+
+        // Populate computed properties (createdAt is formatted on first read)
+        this.email = guardianEmail;
+        this.lastName = surname;
+        this.recordType = type;
+    }
+
+    public int getId() { return idProperty == null ? id : idProperty.get(); }
+    public void setId(int v) { if (idProperty == null) id = v; else idProperty.set(v); }
+    public IntegerProperty idProperty() {
+        if (idProperty == null) idProperty = new SimpleIntegerProperty(this, "id", id);
+        return idProperty;
     }
 
-    public int getId() { return id.get(); }
-    public void setId(int v) { id.set(v); }
-    public IntegerProperty idProperty() { return id; }
+    public String getStudentNumber() { return studentNumberProperty == null ? studentNumber : studentNumberProperty.get(); }
+    public void setStudentNumber(String v) { if (studentNumberProperty == null) studentNumber = v; else studentNumberProperty.set(v); }
+    public StringProperty studentNumberProperty() {
+        if (studentNumberProperty == null) studentNumberProperty = new SimpleStringProperty(this, "studentNumber", studentNumber);
+        return studentNumberProperty;
+    }
 
-    public String getStudentNumber() { return studentNumber.get(); }
-    public void setStudentNumber(String v) { studentNumber.set(v); }
-    public StringProperty studentNumberProperty() { return studentNumber; }
+    public String getSurname() { return surnameProperty == null ? surname : surnameProperty.get(); }
+    public void setSurname(String v) { if (surnameProperty == null) surname = v; else surnameProperty.set(v); }
+    public StringProperty surnameProperty() {
+        if (surnameProperty == null) surnameProperty = new SimpleStringProperty(this, "surname", surname);
+        return surnameProperty;
+    }
 
-    public String getSurname() { return surname.get(); }
-    public void setSurname(String v) { surname.set(v); }
-    public StringProperty surnameProperty() { return surname; }
+    public String getFirstName() { return firstNameProperty == null ? firstName : firstNameProperty.get(); }
+    public void setFirstName(String v) { if (firstNameProperty == null) firstName = v; else firstNameProperty.set(v); }
+    public StringProperty firstNameProperty() {
+        if (firstNameProperty == null) firstNameProperty = new SimpleStringProperty(this, "firstName", firstName);
+        return firstNameProperty;
+    }
 
-    public String getFirstName() { return firstName.get(); }
-    public void setFirstName(String v) { firstName.set(v); }
-    public StringProperty firstNameProperty() { return firstName; }
+    public String getGuardianEmail() { return guardianEmailProperty == null ? guardianEmail : guardianEmailProperty.get(); }
+    public void setGuardianEmail(String v) { if (guardianEmailProperty == null) guardianEmail = v; else guardianEmailProperty.set(v); }
+    public StringProperty guardianEmailProperty() {
+        if (guardianEmailProperty == null) guardianEmailProperty = new SimpleStringProperty(this, "guardianEmail", guardianEmail);
+        return guardianEmailProperty;
+    }
 
-    public String getGuardianEmail() { return guardianEmail.get(); }
-    public void setGuardianEmail(String v) { guardianEmail.set(v); }
-    public StringProperty guardianEmailProperty() { return guardianEmail; }
+    public LocalDate getDate() { return dateProperty == null ? date : dateProperty.get(); }
+    public void setDate(LocalDate v) { if (dateProperty == null) date = v; else dateProperty.set(v); }
+    public ObjectProperty<LocalDate> dateProperty() {
+        if (dateProperty == null) dateProperty = new SimpleObjectProperty<>(this, "date", date);
+        return dateProperty;
+    }
 
-    public LocalDate getDate() { return date.get(); }
-    public void setDate(LocalDate v) { date.set(v); }
-    public ObjectProperty<LocalDate> dateProperty() { return date; }
+    public LocalTime getTime() { return timeProperty == null ? time : timeProperty.get(); }
+    public void setTime(LocalTime v) { if (timeProperty == null) time = v; else timeProperty.set(v); }
+    public ObjectProperty<LocalTime> timeProperty() {
+        if (timeProperty == null) timeProperty = new SimpleObjectProperty<>(this, "time", time);
+        return timeProperty;
+    }
 
-    public LocalTime getTime() { return time.get(); }
-    public void setTime(LocalTime v) { time.set(v); }
-    public ObjectProperty<LocalTime> timeProperty() { return time; }
+    public String getType() { return typeProperty == null ? type : typeProperty.get(); }
+    public void setType(String v) { if (typeProperty == null) type = v; else typeProperty.set(v); }
+    public StringProperty typeProperty() {
+        if (typeProperty == null) typeProperty = new SimpleStringProperty(this, "type", type);
+        return typeProperty;
+    }
 
-    public String getType() { return type.get(); }
-    public void setType(String v) { type.set(v); }
-    public StringProperty typeProperty() { return type; }
-    
     // Alias getters for FXML property binding
-    public String getEmail() { return email.get(); }
-    public void setEmail(String v) { email.set(v); }
-    public StringProperty emailProperty() { return email; }
-    
-    public String getLastName() { return lastName.get(); }
-    public void setLastName(String v) { lastName.set(v); }
-    public StringProperty lastNameProperty() { return lastName; }
-    
-    public String getCreatedAt() { return createdAt.get(); }
-    public void setCreatedAt(String v) { createdAt.set(v); }
-    public StringProperty createdAtProperty() { return createdAt; }
-    
-    public String getRecordType() { return recordType.get(); }
-    public void setRecordType(String v) { recordType.set(v); }
-    public StringProperty recordTypeProperty() { return recordType; }
+    public String getEmail() { return emailProperty == null ? email : emailProperty.get(); }
+    public void setEmail(String v) { if (emailProperty == null) email = v; else emailProperty.set(v); }
+    public StringProperty emailProperty() {
+        if (emailProperty == null) emailProperty = new SimpleStringProperty(this, "email", email);
+        return emailProperty;
+    }
+
+    public String getLastName() { return lastNameProperty == null ? lastName : lastNameProperty.get(); }
+    public void setLastName(String v) { if (lastNameProperty == null) lastName = v; else lastNameProperty.set(v); }
+    public StringProperty lastNameProperty() {
+        if (lastNameProperty == null) lastNameProperty = new SimpleStringProperty(this, "lastName", lastName);
+        return lastNameProperty;
+    }
+
+    public String getCreatedAt() {
+        if (createdAtProperty != null) {
+            return createdAtProperty.get();
+        }
+        if (createdAt == null) {
+            createdAt = date != null && time != null ? LocalDateTime.of(date, time).format(CREATED_AT_FORMAT) : "N/A";
+        }
+        return createdAt;
+    }
+    public void setCreatedAt(String v) { if (createdAtProperty == null) createdAt = v; else createdAtProperty.set(v); }
+    public StringProperty createdAtProperty() {
+        if (createdAtProperty == null) createdAtProperty = new SimpleStringProperty(this, "createdAt", getCreatedAt());
+        return createdAtProperty;
+    }
+
+    public String getRecordType() { return recordTypeProperty == null ? recordType : recordTypeProperty.get(); }
+    public void setRecordType(String v) { if (recordTypeProperty == null) recordType = v; else recordTypeProperty.set(v); }
+    public StringProperty recordTypeProperty() {
+        if (recordTypeProperty == null) recordTypeProperty = new SimpleStringProperty(this, "recordType", recordType);
+        return recordTypeProperty;
+    }
 }
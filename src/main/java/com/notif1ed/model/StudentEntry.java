@@ -1,81 +1,125 @@
 package com.notif1ed.model;
 
-import com.notif1ed.model.StudentEntry;
-
 import javafx.beans.property.*;
 
+/**
+ * A student row. Values are kept in plain fields; each JavaFX property is
+ * created on first use, so only rows a table actually renders (or that are
+ * bound) pay for property objects. Once a property exists it holds the value.
+ */
 public class StudentEntry {
-    private final BooleanProperty selected = new SimpleBooleanProperty(false);
-    private final StringProperty id = new SimpleStringProperty();
-    private final StringProperty studentNumber = new SimpleStringProperty();
-    private final StringProperty surname = new SimpleStringProperty();
-    private final StringProperty firstName = new SimpleStringProperty();
-    private final StringProperty lastName = new SimpleStringProperty();
-    private final StringProperty section = new SimpleStringProperty();
-    private final StringProperty email = new SimpleStringProperty();
-    private final StringProperty guardianName = new SimpleStringProperty();
-    private final StringProperty guardianEmail = new SimpleStringProperty();
+    private boolean selected;
+    private String id;
+    private String studentNumber;
+    private String surname;
+    private String firstName;
+    private String lastName;
+    private String section;
+    private String email;
+    private String guardianName;
+    private String guardianEmail;
+
+    private BooleanProperty selectedProperty;
+    private StringProperty idProperty;
+    private StringProperty studentNumberProperty;
+    private StringProperty surnameProperty;
+    private StringProperty firstNameProperty;
+    private StringProperty lastNameProperty;
+    private StringProperty sectionProperty;
+    private StringProperty emailProperty;
+    private StringProperty guardianNameProperty;
+    private StringProperty guardianEmailProperty;
 
     // Constructor for student form (5 params)
     public StudentEntry(String id, String surname, String firstName, String guardianName, String guardianEmail) {
-        setId(id);
-        setStudentNumber(id);
-        setSurname(surname);
-        setFirstName(firstName);
-        setLastName(surname);
-        setGuardianName(guardianName);
-        setGuardianEmail(guardianEmail);
-        setEmail(guardianEmail);
+        this.id = id;
+        this.studentNumber = id;
+        this.surname = surname;
+        this.firstName = firstName;
+        this.lastName = surname;
+        this.guardianName = guardianName;
+        this.guardianEmail = guardianEmail;
+        this.email = guardianEmail;
     }
-    
+
     // Constructor for database (4 params - student_number, first_name, last_name, email)
     public StudentEntry(String studentNumber, String firstName, String lastName, String email) {
-        setStudentNumber(studentNumber);
-        setId(studentNumber);
-        setFirstName(firstName);
-        setLastName(lastName);
-        setSurname(lastName);
-        setEmail(email);
-        setGuardianEmail(email);
+        this.studentNumber = studentNumber;
+        this.id = studentNumber;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.surname = lastName;
+        this.email = email;
+        this.guardianEmail = email;
     }
 
-    public boolean isSelected() { return selected.get(); }
-    public void setSelected(boolean v) { selected.set(v); }
-    public BooleanProperty selectedProperty() { return selected; }
+    public boolean isSelected() { return selectedProperty == null ? selected : selectedProperty.get(); }
+    public void setSelected(boolean v) { if (selectedProperty == null) selected = v; else selectedProperty.set(v); }
+    public BooleanProperty selectedProperty() {
+        if (selectedProperty == null) selectedProperty = new SimpleBooleanProperty(this, "selected", selected);
+        return selectedProperty;
+    }
 
-    public String getId() { return id.get(); }
-    public void setId(String v) { id.set(v); }
-    public StringProperty idProperty() { return id; }
-    
-    public String getStudentNumber() { return studentNumber.get(); }
-    public void setStudentNumber(String v) { studentNumber.set(v); }
-    public StringProperty studentNumberProperty() { return studentNumber; }
+    public String getId() { return idProperty == null ? id : idProperty.get(); }
+    public void setId(String v) { if (idProperty == null) id = v; else idProperty.set(v); }
+    public StringProperty idProperty() {
+        if (idProperty == null) idProperty = new SimpleStringProperty(this, "id", id);
+        return idProperty;
+    }
 
-    public String getSurname() { return surname.get(); }
-    public void setSurname(String v) { surname.set(v); }
-    public StringProperty surnameProperty() { return surname; }
+    public String getStudentNumber() { return studentNumberProperty == null ? studentNumber : studentNumberProperty.get(); }
+    public void setStudentNumber(String v) { if (studentNumberProperty == null) studentNumber = v; else studentNumberProperty.set(v); }
+    public StringProperty studentNumberProperty() {
+        if (studentNumberProperty == null) studentNumberProperty = new SimpleStringProperty(this, "studentNumber", studentNumber);
+        return studentNumberProperty;
+    }
 
-    public String getFirstName() { return firstName.get(); }
-    public void setFirstName(String v) { firstName.set(v); }
-    public StringProperty firstNameProperty() { return firstName; }
-    
-    public String getLastName() { return lastName.get(); }
-    public void setLastName(String v) { lastName.set(v); }
-    public StringProperty lastNameProperty() { return lastName; }
-    
-    public String getEmail() { return email.get(); }
-    public void setEmail(String v) { email.set(v); }
-    public StringProperty emailProperty() { return email; }
+    public String getSurname() { return surnameProperty == null ? surname : surnameProperty.get(); }
+    public void setSurname(String v) { if (surnameProperty == null) surname = v; else surnameProperty.set(v); }
+    public StringProperty surnameProperty() {
+        if (surnameProperty == null) surnameProperty = new SimpleStringProperty(this, "surname", surname);
+        return surnameProperty;
+    }
 
-    public String getGuardianName() { return guardianName.get(); }
-    public void setGuardianName(String v) { guardianName.set(v); }
-    public StringProperty guardianNameProperty() { return guardianName; }
+    public String getFirstName() { return firstNameProperty == null ? firstName : firstNameProperty.get(); }
+    public void setFirstName(String v) { if (firstNameProperty == null) firstName = v; else firstNameProperty.set(v); }
+    public StringProperty firstNameProperty() {
+        if (firstNameProperty == null) firstNameProperty = new SimpleStringProperty(this, "firstName", firstName);
+        return firstNameProperty;
+    }
 
-    public String getGuardianEmail() { return guardianEmail.get(); }
-    public void setGuardianEmail(String v) { guardianEmail.set(v); }
-    public StringProperty guardianEmailProperty() { return guardianEmail; }
-    
-    public String getSection() { return section.get(); }
-    public void setSection(String v) { section.set(v); }
-    public StringProperty sectionProperty() { return section; }
-}
\ No newline at end of file
+    public String getLastName() { return lastNameProperty == null ? lastName : lastNameProperty.get(); }
+    public void setLastName(String v) { if (lastNameProperty == null) lastName = v; else lastNameProperty.set(v); }
+    public StringProperty lastNameProperty() {
+        if (lastNameProperty == null) lastNameProperty = new SimpleStringProperty(this, "lastName", lastName);
+        return lastNameProperty;
+    }
+
+    public String getEmail() { return emailProperty == null ? email : emailProperty.get(); }
+    public void setEmail(String v) { if (emailProperty == null) email = v; else emailProperty.set(v); }
+    public StringProperty emailProperty() {
+        if (emailProperty == null) emailProperty = new SimpleStringProperty(this, "email", email);
+        return emailProperty;
+    }
+
+    public String getGuardianName() { return guardianNameProperty == null ? guardianName : guardianNameProperty.get(); }
+    public void setGuardianName(String v) { if (guardianNameProperty == null) guardianName = v; else guardianNameProperty.set(v); }
+    public StringProperty guardianNameProperty() {
+        if (guardianNameProperty == null) guardianNameProperty = new SimpleStringProperty(this, "guardianName", guardianName);
+        return guardianNameProperty;
+    }
+
+    public String getGuardianEmail() { return guardianEmailProperty == null ? guardianEmail : guardianEmailProperty.get(); }
+    public void setGuardianEmail(String v) { if (guardianEmailProperty == null) guardianEmail = v; else guardianEmailProperty.set(v); }
+    public StringProperty guardianEmailProperty() {
+        if (guardianEmailProperty == null) guardianEmailProperty = new SimpleStringProperty(this, "guardianEmail", guardianEmail);
+        return guardianEmailProperty;
+    }
+
+    public String getSection() { return sectionProperty == null ? section : sectionProperty.get(); }
+    public void setSection(String v) { if (sectionProperty == null) section = v; else sectionProperty.set(v); }
+    public StringProperty sectionProperty() {
+        if (sectionProperty == null) sectionProperty = new SimpleStringProperty(this, "section", section);
+        return sectionProperty;
+    }
+}
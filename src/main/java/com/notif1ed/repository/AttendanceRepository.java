@@ -0,0 +1,117 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Repository class for subject attendance reports.
+ * Aggregates arrivals and departures per day in the database, so a report
+ * costs one grouped query regardless of how many records a subject has.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class AttendanceRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceRepository.class);
+
+    /**
+     * Fetches the attendance report of a subject.
+     *
+     * @param subjectId the subject ID
+     * @return the report, newest day first
+     * @throws SQLException if database access error occurs
+     */
+    public Report fetchReport(int subjectId) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect()) {
+            int enrolled = 0;
+            try (PreparedStatement stmt = conn.prepareStatement(Constants.COUNT_ACTIVE_ENROLLMENTS)) {
+                stmt.setInt(1, subjectId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        enrolled = rs.getInt("count");
+                    }
+                }
+            }
+
+            List<DailyAttendance> days = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_DAILY_ATTENDANCE)) {
+                stmt.setInt(1, subjectId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        days.add(new DailyAttendance(
+                            rs.getDate("record_date").toLocalDate(),
+                            rs.getInt("arrivals"),
+                            rs.getInt("departures"),
+                            enrolled
+                        ));
+                    }
+                }
+            }
+
+            log.debug("Attendance report for subject {}: {} days, {} enrolled", subjectId, days.size(), enrolled);
+            return new Report(subjectId, enrolled, days);
+        }
+    }
+
+    /**
+     * Attendance of one subject, aggregated per day. Immutable.
+     */
+    public static class Report {
+        private final int subjectId;
+        private final int totalEnrolled;
+        private final List<DailyAttendance> days;
+
+        public Report(int subjectId, int totalEnrolled, List<DailyAttendance> days) {
+            this.subjectId = subjectId;
+            this.totalEnrolled = totalEnrolled;
+            this.days = Collections.unmodifiableList(new ArrayList<>(days));
+        }
+
+        public int getSubjectId() { return subjectId; }
+        public int getTotalEnrolled() { return totalEnrolled; }
+        public List<DailyAttendance> getDays() { return days; }
+
+        /**
+         * @param limit maximum number of days
+         * @return the most recent days, newest first
+         */
+        public List<DailyAttendance> getRecentDays(int limit) {
+            return days.subList(0, Math.min(limit, days.size()));
+        }
+    }
+
+    /**
+     * Arrivals and departures of one day.
+     */
+    public static class DailyAttendance {
+        private final LocalDate date;
+        private final int arrivals;
+        private final int departures;
+        private final int enrolled;
+
+        public DailyAttendance(LocalDate date, int arrivals, int departures, int enrolled) {
+            this.date = date;
+            this.arrivals = arrivals;
+            this.departures = departures;
+            this.enrolled = enrolled;
+        }
+
+        public LocalDate getDate() { return date; }
+        public int getArrivals() { return arrivals; }
+        public int getDepartures() { return departures; }
+        public int getAbsent() { return Math.max(0, enrolled - arrivals); }
+        public double getAttendanceRate() { return enrolled > 0 ? arrivals * 100.0 / enrolled : 0; }
+    }
+}
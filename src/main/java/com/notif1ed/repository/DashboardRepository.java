@@ -0,0 +1,85 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Repository class for dashboard statistics.
+ * Fetches every counter with aggregate queries in one round-trip
+ * instead of loading whole tables.
+ * 
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class DashboardRepository {
+    
+    private static final Logger log = LoggerFactory.getLogger(DashboardRepository.class);
+    
+    /**
+     * Fetches all dashboard counters.
+     * 
+     * @param day the day to count records for (usually today)
+     * @return the counters
+     * @throws SQLException if database access error occurs
+     */
+    public Stats fetchStats(LocalDate day) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_DASHBOARD_STATS)) {
+            
+            stmt.setTimestamp(1, Timestamp.valueOf(day.atStartOfDay()));
+            stmt.setTimestamp(2, Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    Stats stats = new Stats(
+                        rs.getLong("total_students"),
+                        rs.getLong("total_subjects"),
+                        rs.getLong("total_records"),
+                        rs.getLong("today_records")
+                    );
+                    log.debug("Dashboard stats fetched: {}", stats);
+                    return stats;
+                }
+            }
+        }
+        
+        return new Stats(0, 0, 0, 0);
+    }
+    
+    /**
+     * Immutable snapshot of the dashboard counters.
+     */
+    public static class Stats {
+        private final long totalStudents;
+        private final long totalSubjects;
+        private final long totalRecords;
+        private final long todayRecords;
+        
+        public Stats(long totalStudents, long totalSubjects, long totalRecords, long todayRecords) {
+            this.totalStudents = totalStudents;
+            this.totalSubjects = totalSubjects;
+            this.totalRecords = totalRecords;
+            this.todayRecords = todayRecords;
+        }
+        
+        public long getTotalStudents() { return totalStudents; }
+        public long getTotalSubjects() { return totalSubjects; }
+        public long getTotalRecords() { return totalRecords; }
+        public long getTodayRecords() { return todayRecords; }
+        
+        @Override
+        public String toString() {
+            return String.format("Students: %d, Subjects: %d, Records: %d, Today: %d",
+                totalStudents, totalSubjects, totalRecords, todayRecords);
+        }
+    }
+}
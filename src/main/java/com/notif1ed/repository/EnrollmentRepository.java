@@ -0,0 +1,218 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Repository class for subject enrollment (the student_subjects table).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class EnrollmentRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentRepository.class);
+    // Student numbers resolved per IN (...) query
+    private static final int LOOKUP_CHUNK = 500;
+
+    /**
+     * Finds the students actively enrolled in a subject.
+     *
+     * @param subjectId the subject ID
+     * @return enrolled students ordered by student number
+     * @throws SQLException if database access error occurs
+     */
+    public List<StudentEntry> findEnrolled(int subjectId) throws SQLException {
+        return findStudents(Constants.SELECT_ENROLLED_STUDENTS, subjectId);
+    }
+
+    /**
+     * Finds the students not actively enrolled in a subject.
+     *
+     * @param subjectId the subject ID
+     * @return available students ordered by student number
+     * @throws SQLException if database access error occurs
+     */
+    public List<StudentEntry> findAvailable(int subjectId) throws SQLException {
+        return findStudents(Constants.SELECT_AVAILABLE_STUDENTS, subjectId);
+    }
+
+    /**
+     * Enrolls students in a subject in one transaction, with a single batched
+     * INSERT (re-activating dropped enrollments). Unknown student numbers are skipped.
+     *
+     * @param subjectId the subject ID
+     * @param studentNumbers the student numbers to enroll
+     * @return the enrolled students
+     * @throws SQLException if database access error occurs; nothing is enrolled then
+     */
+    public List<Enrollment> enrollAll(int subjectId, Collection<String> studentNumbers) throws SQLException {
+        if (studentNumbers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try (Connection conn = DatabaseConnection.connect()) {
+            conn.setAutoCommit(false);
+            try {
+                List<Enrollment> enrollments = findStudentIds(conn, new ArrayList<>(studentNumbers));
+                insertEnrollments(conn, subjectId, enrollments);
+                conn.commit();
+                return enrollments;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Enrolls every student of a section that is not yet enrolled in the subject,
+     * in one transaction with a single batched INSERT.
+     *
+     * @param subjectId the subject ID
+     * @param section the students' section
+     * @return the newly enrolled students
+     * @throws SQLException if database access error occurs; nothing is enrolled then
+     */
+    public List<Enrollment> enrollSection(int subjectId, String section) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect()) {
+            conn.setAutoCommit(false);
+            try {
+                List<Enrollment> enrollments = new ArrayList<>();
+                try (PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_AVAILABLE_IN_SECTION)) {
+                    stmt.setInt(1, subjectId);
+                    stmt.setString(2, section);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            enrollments.add(new Enrollment(rs.getInt("student_id"), rs.getString("student_number")));
+                        }
+                    }
+                }
+                insertEnrollments(conn, subjectId, enrollments);
+                conn.commit();
+                return enrollments;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Drops a student's active enrollment in a subject.
+     *
+     * @param subjectId the subject ID
+     * @param studentNumber the student number
+     * @return true if an active enrollment was dropped
+     * @throws SQLException if database access error occurs
+     */
+    public boolean drop(int subjectId, String studentNumber) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.DROP_ENROLLMENT)) {
+
+            stmt.setInt(1, subjectId);
+            stmt.setString(2, studentNumber);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    private List<StudentEntry> findStudents(String sql, int subjectId) throws SQLException {
+        List<StudentEntry> students = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, subjectId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    students.add(new StudentEntry(
+                        rs.getString("student_number"),
+                        rs.getString("first_name"),
+                        rs.getString("last_name"),
+                        rs.getString("email")
+                    ));
+                }
+            }
+        }
+
+        log.debug("Loaded {} students for subject {}", students.size(), subjectId);
+        return students;
+    }
+
+    private List<Enrollment> findStudentIds(Connection conn, List<String> studentNumbers) throws SQLException {
+        List<Enrollment> found = new ArrayList<>(studentNumbers.size());
+
+        for (int from = 0; from < studentNumbers.size(); from += LOOKUP_CHUNK) {
+            List<String> chunk = studentNumbers.subList(from, Math.min(from + LOOKUP_CHUNK, studentNumbers.size()));
+            String sql = "SELECT student_id, student_number FROM students WHERE student_number IN (" +
+                String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        found.add(new Enrollment(rs.getInt("student_id"), rs.getString("student_number")));
+                    }
+                }
+            }
+        }
+
+        if (found.size() < studentNumbers.size()) {
+            log.warn("{} of {} students to enroll no longer exist", studentNumbers.size() - found.size(), studentNumbers.size());
+        }
+        return found;
+    }
+
+    private void insertEnrollments(Connection conn, int subjectId, List<Enrollment> enrollments) throws SQLException {
+        if (enrollments.isEmpty()) {
+            return;
+        }
+
+        // rewriteBatchedStatements turns the batch into one multi-row INSERT
+        try (PreparedStatement stmt = conn.prepareStatement(Constants.ENROLL_STUDENT)) {
+            for (Enrollment enrollment : enrollments) {
+                stmt.setInt(1, enrollment.getStudentId());
+                stmt.setInt(2, subjectId);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+
+        log.info("Enrolled {} student(s) in subject {}", enrollments.size(), subjectId);
+    }
+
+    /**
+     * A student enrolled by a bulk enrollment.
+     */
+    public static class Enrollment {
+        private final int studentId;
+        private final String studentNumber;
+
+        public Enrollment(int studentId, String studentNumber) {
+            this.studentId = studentId;
+            this.studentNumber = studentNumber;
+        }
+
+        public int getStudentId() { return studentId; }
+        public String getStudentNumber() { return studentNumber; }
+    }
+}
@@ -0,0 +1,104 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Repository class for full-table exports.
+ * Rows are streamed one at a time from a forward-only, read-only result set
+ * with a bounded fetch size, so exports never hold a whole table in memory.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class ExportRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportRepository.class);
+
+    /**
+     * Receives exported rows. The result set is positioned on the current row
+     * and must not be advanced or kept.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Streams every student.
+     *
+     * @param fetchSize rows fetched per round-trip
+     * @param handler receives each row
+     * @return number of rows streamed
+     * @throws SQLException if database access error occurs
+     */
+    public long streamStudents(int fetchSize, RowHandler handler) throws SQLException {
+        return stream(Constants.EXPORT_STUDENTS, fetchSize, handler);
+    }
+
+    /**
+     * Streams every subject.
+     *
+     * @param fetchSize rows fetched per round-trip
+     * @param handler receives each row
+     * @return number of rows streamed
+     * @throws SQLException if database access error occurs
+     */
+    public long streamSubjects(int fetchSize, RowHandler handler) throws SQLException {
+        return stream(Constants.EXPORT_SUBJECTS, fetchSize, handler);
+    }
+
+    /**
+     * Streams every record, oldest first, with student and subject details.
+     *
+     * @param fetchSize rows fetched per round-trip
+     * @param handler receives each row
+     * @return number of rows streamed
+     * @throws SQLException if database access error occurs
+     */
+    public long streamRecords(int fetchSize, RowHandler handler) throws SQLException {
+        return stream(Constants.EXPORT_RECORDS, fetchSize, handler);
+    }
+
+    /**
+     * Counts the rows of a table, used as the progress total.
+     *
+     * @param countQuery one of the COUNT_* queries in {@link Constants}
+     * @return the row count
+     * @throws SQLException if database access error occurs
+     */
+    public long count(String countQuery) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(countQuery);
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private long stream(String sql, int fetchSize, RowHandler handler) throws SQLException {
+        long rows = 0;
+
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            stmt.setFetchSize(fetchSize);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.row(rs);
+                    rows++;
+                }
+            }
+        }
+
+        log.debug("Streamed {} rows for export", rows);
+        return rows;
+    }
+}
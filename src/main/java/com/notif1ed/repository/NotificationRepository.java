@@ -0,0 +1,414 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository class for the notification outbox (the notifications table).
+ * Notifications are inserted as 'pending', one row per recipient with the
+ * address resolved at that time, and later claimed, delivered and marked
+ * 'sent' or 'failed' by the dispatcher.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class NotificationRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRepository.class);
+
+    // Error text is truncated to fit the last_error column
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /**
+     * Queues a notification about a student to a given address.
+     *
+     * @param studentId the student the notification is about
+     * @param subjectId the related subject (can be null)
+     * @param recipient the address that receives it
+     * @param title the email subject
+     * @param message the email body
+     * @param sentBy the user who queued it (can be null)
+     * @throws SQLException if database access error occurs
+     */
+    public void enqueue(int studentId, Integer subjectId, String recipient, String title, String message,
+                        Integer sentBy) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.INSERT_NOTIFICATION)) {
+
+            stmt.setInt(1, studentId);
+            setNullableInt(stmt, 2, subjectId);
+            stmt.setString(3, recipient);
+            stmt.setString(4, title);
+            stmt.setString(5, message);
+            setNullableInt(stmt, 6, sentBy);
+            stmt.executeUpdate();
+
+            log.debug("Notification queued for student ID: {}", studentId);
+        }
+    }
+
+    /**
+     * Queues the same notification once for each address, in one transaction.
+     * Rows are linked to the student with that address when there is one.
+     *
+     * @param emails the recipient addresses
+     * @param title the email subject
+     * @param message the email body
+     * @param sentBy the user who queued it (can be null)
+     * @return the IDs of the queued notifications, in address order
+     * @throws SQLException if database access error occurs
+     */
+    public List<Integer> enqueueForEmails(Collection<String> emails, String title, String message,
+                                          Integer sentBy) throws SQLException {
+        if (emails.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> ids = new ArrayList<>(emails.size());
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.INSERT_NOTIFICATION_FOR_EMAIL,
+                 Statement.RETURN_GENERATED_KEYS)) {
+
+            conn.setAutoCommit(false);
+            try {
+                for (String email : emails) {
+                    stmt.setString(1, email);
+                    stmt.setString(2, email);
+                    stmt.setString(3, title);
+                    stmt.setString(4, message);
+                    setNullableInt(stmt, 5, sentBy);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getInt(1));
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+
+        log.info("Queued {} notification(s)", ids.size());
+        return ids;
+    }
+
+    /**
+     * Looks up who receives a student's guardian notifications.
+     *
+     * @param studentId the student ID
+     * @return the student's name and guardian, if the student exists
+     * @throws SQLException if database access error occurs
+     */
+    public Optional<Guardian> findGuardian(int studentId) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_GUARDIAN)) {
+
+            stmt.setInt(1, studentId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                String lastName = rs.getString("last_name");
+                String studentName = lastName == null || lastName.isBlank()
+                    ? rs.getString("first_name") : rs.getString("first_name") + " " + lastName;
+                return Optional.of(new Guardian(studentName, rs.getString("guardian_name"), rs.getString("guardian_email")));
+            }
+        }
+    }
+
+    /**
+     * Finds pending notifications whose next attempt is due, oldest first.
+     *
+     * @param limit maximum number of notifications to return
+     * @return the due notifications
+     * @throws SQLException if database access error occurs
+     */
+    public List<Notification> findDue(int limit) throws SQLException {
+        List<Notification> due = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_DUE_NOTIFICATIONS)) {
+
+            stmt.setInt(1, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    due.add(new Notification(
+                        rs.getInt("notification_id"),
+                        rs.getInt("student_id"),
+                        rs.getString("recipient"),
+                        rs.getString("title"),
+                        rs.getString("message"),
+                        rs.getInt("attempts")
+                    ));
+                }
+            }
+        }
+
+        return due;
+    }
+
+    /**
+     * Claims due notifications for delivery by pushing their next attempt past a lease.
+     * A notification already claimed elsewhere is left out; one whose delivery is
+     * interrupted becomes due again once the lease expires.
+     *
+     * @param notifications the candidates returned by {@link #findDue(int)}
+     * @param leaseSeconds how long the claim lasts
+     * @return the notifications that were claimed
+     * @throws SQLException if database access error occurs
+     */
+    public List<Notification> claim(List<Notification> notifications, int leaseSeconds) throws SQLException {
+        List<Notification> claimed = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.CLAIM_NOTIFICATION)) {
+
+            for (Notification notification : notifications) {
+                stmt.setInt(1, leaseSeconds);
+                stmt.setInt(2, notification.getNotificationId());
+                if (stmt.executeUpdate() == 1) {
+                    claimed.add(notification);
+                }
+            }
+        }
+
+        return claimed;
+    }
+
+    /**
+     * Marks notifications as delivered.
+     *
+     * @param notificationIds the delivered notification IDs
+     * @throws SQLException if database access error occurs
+     */
+    public void markSent(List<Integer> notificationIds) throws SQLException {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.MARK_NOTIFICATION_SENT)) {
+
+            for (int id : notificationIds) {
+                stmt.setInt(1, id);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Records a failed attempt and schedules the next one.
+     *
+     * @param notificationId the notification ID
+     * @param error the failure reason
+     * @param delaySeconds seconds until the next attempt
+     * @throws SQLException if database access error occurs
+     */
+    public void reschedule(int notificationId, String error, long delaySeconds) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.RESCHEDULE_NOTIFICATION)) {
+
+            stmt.setString(1, truncate(error));
+            stmt.setLong(2, delaySeconds);
+            stmt.setInt(3, notificationId);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Marks a notification as permanently failed.
+     *
+     * @param notificationId the notification ID
+     * @param error the failure reason
+     * @throws SQLException if database access error occurs
+     */
+    public void markFailed(int notificationId, String error) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.MARK_NOTIFICATION_FAILED)) {
+
+            stmt.setString(1, truncate(error));
+            stmt.setInt(2, notificationId);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Counts notifications per status.
+     *
+     * @return map of status (pending, sent, failed) to count
+     * @throws SQLException if database access error occurs
+     */
+    public Map<String, Long> countByStatus() throws SQLException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("pending", 0L);
+        counts.put("sent", 0L);
+        counts.put("failed", 0L);
+
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.COUNT_NOTIFICATIONS_BY_STATUS);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                counts.put(rs.getString("status"), rs.getLong("count"));
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Counts the given notifications per status, e.g. to follow a send in progress.
+     *
+     * @param notificationIds the notification IDs
+     * @return map of status (pending, sent, failed) to count
+     * @throws SQLException if database access error occurs
+     */
+    public Map<String, Long> countByStatus(List<Integer> notificationIds) throws SQLException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("pending", 0L);
+        counts.put("sent", 0L);
+        counts.put("failed", 0L);
+        if (notificationIds.isEmpty()) {
+            return counts;
+        }
+
+        String sql = "SELECT status, COUNT(*) as count FROM notifications WHERE notification_id IN (" +
+            placeholders(notificationIds.size()) + ") GROUP BY status";
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            bindIds(stmt, notificationIds);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getString("status"), rs.getLong("count"));
+                }
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Withdraws the given notifications that have not been delivered yet.
+     * One already being sent may still arrive.
+     *
+     * @param notificationIds the notification IDs
+     * @param reason recorded as the last error
+     * @return number of notifications withdrawn
+     * @throws SQLException if database access error occurs
+     */
+    public int cancelPending(List<Integer> notificationIds, String reason) throws SQLException {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE notifications SET status = 'failed', last_error = ? WHERE status = 'pending' " +
+            "AND notification_id IN (" + placeholders(notificationIds.size()) + ")";
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, truncate(reason));
+            for (int i = 0; i < notificationIds.size(); i++) {
+                stmt.setInt(i + 2, notificationIds.get(i));
+            }
+            return stmt.executeUpdate();
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void bindIds(PreparedStatement stmt, List<Integer> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            stmt.setInt(i + 1, ids.get(i));
+        }
+    }
+
+    private static void setNullableInt(PreparedStatement stmt, int index, Integer value) throws SQLException {
+        if (value != null) {
+            stmt.setInt(index, value);
+        } else {
+            stmt.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * A student's name and guardian, as used in guardian notifications.
+     */
+    public static class Guardian {
+        private final String studentName;
+        private final String name;
+        private final String email;
+
+        public Guardian(String studentName, String name, String email) {
+            this.studentName = studentName;
+            this.name = name;
+            this.email = email;
+        }
+
+        public String getStudentName() { return studentName; }
+        public String getName() { return name; }
+        public String getEmail() { return email; }
+    }
+
+    /**
+     * A pending notification together with its recipient address.
+     */
+    public static class Notification {
+        private final int notificationId;
+        private final int studentId;
+        private final String recipient;
+        private final String title;
+        private final String message;
+        private final int attempts;
+
+        public Notification(int notificationId, int studentId, String recipient, String title, String message, int attempts) {
+            this.notificationId = notificationId;
+            this.studentId = studentId;
+            this.recipient = recipient;
+            this.title = title;
+            this.message = message;
+            this.attempts = attempts;
+        }
+
+        public int getNotificationId() { return notificationId; }
+        public int getStudentId() { return studentId; }
+        public String getRecipient() { return recipient; }
+        public String getTitle() { return title; }
+        public String getMessage() { return message; }
+        public int getAttempts() { return attempts; }
+    }
+}
@@ -1,5 +1,7 @@
 package com.notif1ed.repository;
 
+import com.notif1ed.model.RecordEntry;
+import com.notif1ed.util.Constants;
 import com.notif1ed.util.DatabaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +115,138 @@ public class RecordRepository {
         return records;
     }
     
+    /**
+     * Fetches one page of records joined with student details, newest first.
+     * Uses keyset pagination on (created_at, record_id): pass the last row of the
+     * previous page as the cursor, or null for the first page. Cost stays flat no
+     * matter how deep the user scrolls, unlike LIMIT/OFFSET.
+     * 
+     * @param beforeCreatedAt created_at of the last row already loaded (null for first page)
+     * @param beforeRecordId record_id of the last row already loaded
+     * @param limit maximum number of rows to return
+     * @return list of record entries for display
+     * @throws SQLException if database access error occurs
+     */
+    public List<RecordEntry> findPage(LocalDateTime beforeCreatedAt, int beforeRecordId, int limit) throws SQLException {
+        List<RecordEntry> records = new ArrayList<>(limit);
+        String sql = beforeCreatedAt == null
+            ? Constants.SELECT_RECORDS_FIRST_PAGE
+            : Constants.SELECT_RECORDS_PAGE_BEFORE;
+        
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            if (beforeCreatedAt == null) {
+                stmt.setInt(1, limit);
+            } else {
+                Timestamp cursor = Timestamp.valueOf(beforeCreatedAt);
+                stmt.setTimestamp(1, cursor);
+                stmt.setTimestamp(2, cursor);
+                stmt.setInt(3, beforeRecordId);
+                stmt.setInt(4, limit);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToRecordEntry(rs));
+                }
+            }
+            
+            log.debug("Fetched page of {} records before {}/{}", records.size(), beforeCreatedAt, beforeRecordId);
+        }
+        
+        return records;
+    }
+    
+    /**
+     * Fetches one page of the records whose student number, name, email or
+     * type contains a query, newest first. Paged like {@link #findPage}.
+     * 
+     * @param beforeCreatedAt created_at of the last row already loaded (null for first page)
+     * @param beforeRecordId record_id of the last row already loaded
+     * @param query the text to search for, matched case-insensitively
+     * @param limit maximum number of rows to return
+     * @return list of matching record entries for display
+     * @throws SQLException if database access error occurs
+     */
+    public List<RecordEntry> searchPage(LocalDateTime beforeCreatedAt, int beforeRecordId, String query, int limit) throws SQLException {
+        List<RecordEntry> records = new ArrayList<>(limit);
+        String sql = beforeCreatedAt == null
+            ? Constants.SEARCH_RECORDS_FIRST_PAGE
+            : Constants.SEARCH_RECORDS_PAGE_BEFORE;
+        // % and _ in the query are literal characters, not wildcards
+        String pattern = "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (beforeCreatedAt != null) {
+                Timestamp cursor = Timestamp.valueOf(beforeCreatedAt);
+                stmt.setTimestamp(index++, cursor);
+                stmt.setTimestamp(index++, cursor);
+                stmt.setInt(index++, beforeRecordId);
+            }
+            for (int i = 0; i < 5; i++) {
+                stmt.setString(index++, pattern);
+            }
+            stmt.setInt(index, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToRecordEntry(rs));
+                }
+            }
+            
+            log.debug("Fetched page of {} records matching '{}' before {}/{}", records.size(), query, beforeCreatedAt, beforeRecordId);
+        }
+        
+        return records;
+    }
+    
+    /**
+     * Retrieves records added after a record ID, oldest first.
+     * 
+     * @param afterRecordId the last record ID already seen
+     * @param limit maximum number of rows to return
+     * @return list of record entries for display
+     * @throws SQLException if database access error occurs
+     */
+    public List<RecordEntry> findAfter(int afterRecordId, int limit) throws SQLException {
+        List<RecordEntry> records = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_RECORDS_AFTER_ID)) {
+            
+            stmt.setInt(1, afterRecordId);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToRecordEntry(rs));
+                }
+            }
+        }
+        
+        return records;
+    }
+    
+    /**
+     * Gets the highest record ID.
+     * 
+     * @return the highest record ID, or 0 if there are no records
+     * @throws SQLException if database access error occurs
+     */
+    public int findMaxRecordId() throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_MAX_RECORD_ID);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            rs.next();
+            return rs.getInt("max_id");
+        }
+    }
+    
     /**
      * Finds a record by its ID.
      * 
@@ -180,6 +314,48 @@ public class RecordRepository {
         return false;
     }
     
+    /**
+     * Saves several records in one transaction with a single batched INSERT.
+     * 
+     * @param records the records to save (record ID and creation time are ignored)
+     * @return number of records saved
+     * @throws SQLException if database access error occurs; nothing is saved then
+     */
+    public int saveAll(List<Record> records) throws SQLException {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.INSERT_RECORD_WITH_DATA)) {
+            
+            conn.setAutoCommit(false);
+            try {
+                for (Record record : records) {
+                    stmt.setInt(1, record.getStudentId());
+                    if (record.getSubjectId() > 0) {
+                        stmt.setInt(2, record.getSubjectId());
+                    } else {
+                        stmt.setNull(2, java.sql.Types.INTEGER);
+                    }
+                    stmt.setString(3, record.getRecordType());
+                    stmt.setString(4, record.getRecordData());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        
+        log.info("Saved {} records", records.size());
+        return records.size();
+    }
+    
     /**
      * Deletes a record by its ID.
      * 
@@ -258,6 +434,27 @@ public class RecordRepository {
         return record;
     }
     
+    /**
+     * Maps a joined records/students row to a RecordEntry for display.
+     * 
+     * @param rs the ResultSet positioned at a row
+     * @return RecordEntry object
+     * @throws SQLException if database access error occurs
+     */
+    private RecordEntry mapResultSetToRecordEntry(ResultSet rs) throws SQLException {
+        LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+        return new RecordEntry(
+            rs.getInt("record_id"),
+            rs.getString("student_number"),
+            rs.getString("last_name"),
+            rs.getString("first_name"),
+            rs.getString("email"),
+            createdAt.toLocalDate(),
+            createdAt.toLocalTime(),
+            rs.getString("record_type")
+        );
+    }
+    
     /**
      * Simple Record class for repository operations.
      * Matches the actual database schema: record_id, student_id, subject_id, record_type, record_data, created_at
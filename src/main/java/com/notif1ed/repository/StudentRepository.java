@@ -1,18 +1,25 @@
 package com.notif1ed.repository;
 
+import com.notif1ed.model.ChangeStamp;
 import com.notif1ed.model.StudentEntry;
 import com.notif1ed.util.Constants;
 import com.notif1ed.util.DatabaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * Repository class for student data access operations.
@@ -28,9 +35,25 @@ public class StudentRepository {
     /**
      * Retrieves all students from the database.
      * 
-     * @return list of all students
+     * @return list of all students; empty if they could not be read
      */
     public List<StudentEntry> findAll() {
+        try {
+            return fetchAll();
+        } catch (SQLException e) {
+            log.error("Error retrieving all students", e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Retrieves all students from the database, failing instead of returning
+     * an empty list, so a cache never mistakes an outage for an empty table.
+     * 
+     * @return list of all students
+     * @throws SQLException if database access error occurs
+     */
+    public List<StudentEntry> fetchAll() throws SQLException {
         List<StudentEntry> students = new ArrayList<>();
         
         try (Connection conn = DatabaseConnection.connect();
@@ -42,9 +65,6 @@ public class StudentRepository {
             }
             
             log.info("Retrieved {} students from database", students.size());
-            
-        } catch (SQLException e) {
-            log.error("Error retrieving all students", e);
         }
         
         return students;
@@ -91,7 +111,7 @@ public class StudentRepository {
             stmt.setString(4, student.getEmail());
             stmt.setString(5, section);
             stmt.setString(6, guardianName);
-            // Note: guardian_email parameter ignored as column doesn't exist in database
+            stmt.setString(7, guardianEmail);
             
             int rowsAffected = stmt.executeUpdate();
             
@@ -107,6 +127,205 @@ public class StudentRepository {
         return false;
     }
     
+    /**
+     * Inserts many students using batched statements, one transaction per chunk.
+     * 
+     * @param rows the rows to insert, in sheet order
+     * @param chunkSize number of rows per batch and transaction
+     * @param onRowsProcessed receives the number of rows processed so far (may be null)
+     * @return the number of inserted rows and the per-row errors
+     * @throws SQLException if the database could not be reached
+     * @see BatchInserter
+     */
+    public ImportResult saveAll(List<ImportRow> rows, int chunkSize, IntConsumer onRowsProcessed) throws SQLException {
+        try (BatchInserter inserter = openBatchInserter(chunkSize, onRowsProcessed)) {
+            for (ImportRow row : rows) {
+                inserter.add(row);
+            }
+            return inserter.finish();
+        }
+    }
+    
+    /**
+     * Opens a batch inserter that accepts rows one at a time, so callers can
+     * stream rows in without holding the whole import in memory.
+     * The inserter holds one pooled connection until it is closed.
+     * 
+     * @param chunkSize number of rows per batch and transaction
+     * @param onRowsProcessed receives the number of rows processed so far (may be null)
+     * @return the inserter
+     * @throws SQLException if the database could not be reached
+     */
+    public BatchInserter openBatchInserter(int chunkSize, IntConsumer onRowsProcessed) throws SQLException {
+        return new BatchInserter(chunkSize, onRowsProcessed);
+    }
+    
+    /**
+     * Buffers rows and inserts them in chunks. Rows whose student number already
+     * exists, or repeats an earlier row of the same chunk, are reported instead of
+     * inserted. If a chunk still fails, it is rolled back and retried row by row
+     * so that only the offending rows are reported.
+     */
+    public class BatchInserter implements AutoCloseable {
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final int chunkSize;
+        private final IntConsumer onRowsProcessed;
+        private final List<ImportRow> pending;
+        private final List<RowError> errors = new ArrayList<>();
+        private int inserted;
+        private int processed;
+        
+        private BatchInserter(int chunkSize, IntConsumer onRowsProcessed) throws SQLException {
+            this.chunkSize = Math.max(1, chunkSize);
+            this.onRowsProcessed = onRowsProcessed;
+            this.pending = new ArrayList<>(this.chunkSize);
+            this.conn = DatabaseConnection.connect();
+            try {
+                this.stmt = conn.prepareStatement(Constants.INSERT_STUDENT);
+                conn.setAutoCommit(false);
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+        }
+        
+        /**
+         * Adds a row; a full chunk is inserted and committed immediately.
+         * 
+         * @param row the row to insert
+         * @throws SQLException if the database could not be reached
+         */
+        public void add(ImportRow row) throws SQLException {
+            pending.add(row);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+        
+        /**
+         * Inserts the remaining rows.
+         * 
+         * @return the number of inserted rows and the per-row errors
+         * @throws SQLException if the database could not be reached
+         */
+        public ImportResult finish() throws SQLException {
+            flush();
+            log.info("Batch import finished: {} inserted, {} rejected", inserted, errors.size());
+            return new ImportResult(inserted, new ArrayList<>(errors));
+        }
+        
+        private void flush() throws SQLException {
+            if (pending.isEmpty()) {
+                return;
+            }
+            
+            Set<String> existing = findExistingStudentNumbers(conn, pending);
+            Set<String> seen = new HashSet<>();
+            List<ImportRow> toInsert = new ArrayList<>(pending.size());
+            for (ImportRow row : pending) {
+                String studentNumber = row.getStudent().getStudentNumber();
+                if (existing.contains(studentNumber)) {
+                    errors.add(new RowError(row.getRowNumber(), "Student number " + studentNumber + " already exists"));
+                } else if (!seen.add(studentNumber)) {
+                    errors.add(new RowError(row.getRowNumber(), "Duplicate student number " + studentNumber + " in file"));
+                } else {
+                    toInsert.add(row);
+                }
+            }
+            
+            inserted += insertChunk(conn, stmt, toInsert, errors);
+            processed += pending.size();
+            pending.clear();
+            if (onRowsProcessed != null) {
+                onRowsProcessed.accept(processed);
+            }
+        }
+        
+        /**
+         * Discards rows that were not yet committed and returns the connection to the pool.
+         */
+        @Override
+        public void close() throws SQLException {
+            try {
+                conn.rollback();
+                conn.setAutoCommit(true);
+                stmt.close();
+            } finally {
+                conn.close();
+            }
+        }
+    }
+    
+    private int insertChunk(Connection conn, PreparedStatement stmt, List<ImportRow> chunk, List<RowError> errors) throws SQLException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        
+        try {
+            for (ImportRow row : chunk) {
+                bindInsert(stmt, row);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            conn.commit();
+            log.debug("Inserted batch of {} students", chunk.size());
+            return chunk.size();
+        } catch (BatchUpdateException e) {
+            conn.rollback();
+            stmt.clearBatch();
+            log.debug("Batch of {} rejected ({}), retrying row by row", chunk.size(), e.getMessage());
+        }
+        
+        int inserted = 0;
+        for (ImportRow row : chunk) {
+            try {
+                bindInsert(stmt, row);
+                stmt.executeUpdate();
+                conn.commit();
+                inserted++;
+            } catch (SQLException e) {
+                conn.rollback();
+                errors.add(new RowError(row.getRowNumber(), e.getMessage()));
+            }
+        }
+        return inserted;
+    }
+    
+    private void bindInsert(PreparedStatement stmt, ImportRow row) throws SQLException {
+        StudentEntry student = row.getStudent();
+        stmt.setString(1, student.getStudentNumber());
+        stmt.setString(2, student.getFirstName());
+        stmt.setString(3, student.getLastName());
+        stmt.setString(4, student.getEmail());
+        stmt.setString(5, student.getSection());
+        stmt.setString(6, student.getGuardianName());
+        stmt.setString(7, student.getGuardianEmail());
+    }
+    
+    private Set<String> findExistingStudentNumbers(Connection conn, List<ImportRow> chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return Collections.emptySet();
+        }
+        
+        String sql = "SELECT student_number FROM students WHERE student_number IN (" +
+            String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+        Set<String> existing = new HashSet<>();
+        
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                stmt.setString(i + 1, chunk.get(i).getStudent().getStudentNumber());
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getString("student_number"));
+                }
+            }
+        }
+        
+        return existing;
+    }
+    
     /**
      * Updates an existing student in the database.
      * 
@@ -122,8 +341,9 @@ public class StudentRepository {
             stmt.setString(3, student.getEmail());
             stmt.setString(4, section);
             stmt.setString(5, guardianName);
-            stmt.setString(6, student.getStudentNumber());
-            // Note: guardian_email parameter ignored as column doesn't exist in database
+            // Left blank, the stored guardian email is kept
+            stmt.setString(6, guardianEmail);
+            stmt.setString(7, student.getStudentNumber());
             
             int rowsAffected = stmt.executeUpdate();
             
@@ -165,6 +385,50 @@ public class StudentRepository {
         return false;
     }
     
+    /**
+     * Reads the row count and latest update time of the students table,
+     * to detect changes made by other workstations.
+     * 
+     * @return the current change stamp
+     * @throws SQLException if the probe could not be run
+     */
+    public ChangeStamp fetchChangeStamp() throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.PROBE_STUDENTS);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            rs.next();
+            return new ChangeStamp(rs.getLong("row_count"), rs.getTimestamp("last_updated"));
+        }
+    }
+    
+    /**
+     * Retrieves students added or changed at or after a point in time.
+     * 
+     * @param since the earliest updated_at to include
+     * @param limit maximum number of rows to return
+     * @return the changed students, oldest change first
+     * @throws SQLException if database access error occurs
+     */
+    public List<StudentEntry> findUpdatedSince(Timestamp since, int limit) throws SQLException {
+        List<StudentEntry> students = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_STUDENTS_UPDATED_SINCE)) {
+            
+            stmt.setTimestamp(1, since);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    students.add(mapResultSetToStudent(rs));
+                }
+            }
+        }
+        
+        return students;
+    }
+    
     /**
      * Gets the next available student number based on the year prefix.
      * 
@@ -214,7 +478,62 @@ public class StudentRepository {
         if (section != null) {
             student.setSection(section);
         }
+        student.setGuardianName(rs.getString("guardian_name"));
+        student.setGuardianEmail(rs.getString("guardian_email"));
         
         return student;
     }
+    
+    /**
+     * A student read from an import file, with its row number in the file.
+     */
+    public static class ImportRow {
+        private final int rowNumber;
+        private final StudentEntry student;
+        
+        public ImportRow(int rowNumber, StudentEntry student) {
+            this.rowNumber = rowNumber;
+            this.student = student;
+        }
+        
+        public int getRowNumber() { return rowNumber; }
+        public StudentEntry getStudent() { return student; }
+    }
+    
+    /**
+     * A row that could not be imported.
+     */
+    public static class RowError {
+        private final int rowNumber;
+        private final String message;
+        
+        public RowError(int rowNumber, String message) {
+            this.rowNumber = rowNumber;
+            this.message = message;
+        }
+        
+        public int getRowNumber() { return rowNumber; }
+        public String getMessage() { return message; }
+        
+        @Override
+        public String toString() {
+            return "Row " + rowNumber + ": " + message;
+        }
+    }
+    
+    /**
+     * Outcome of a batch import.
+     */
+    public static class ImportResult {
+        private final int insertedCount;
+        private final List<RowError> errors;
+        
+        public ImportResult(int insertedCount, List<RowError> errors) {
+            this.insertedCount = insertedCount;
+            this.errors = errors;
+        }
+        
+        public int getInsertedCount() { return insertedCount; }
+        public List<RowError> getErrors() { return errors; }
+    }
 }
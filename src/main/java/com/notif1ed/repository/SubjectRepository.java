@@ -1,5 +1,6 @@
 package com.notif1ed.repository;
 
+import com.notif1ed.model.ChangeStamp;
 import com.notif1ed.util.DatabaseConnection;
 import com.notif1ed.util.Constants;
 import org.slf4j.Logger;
@@ -9,6 +10,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -27,9 +29,25 @@ public class SubjectRepository {
     /**
      * Retrieves all subjects from the database.
      * 
-     * @return list of all subjects
+     * @return list of all subjects; empty if they could not be read
      */
     public List<Subject> findAll() {
+        try {
+            return fetchAll();
+        } catch (SQLException e) {
+            log.error("Error retrieving subjects", e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Retrieves all subjects from the database, failing instead of returning
+     * an empty list, so a cache never mistakes an outage for an empty table.
+     * 
+     * @return list of all subjects
+     * @throws SQLException if database access error occurs
+     */
+    public List<Subject> fetchAll() throws SQLException {
         List<Subject> subjects = new ArrayList<>();
         String sql = "SELECT * FROM subjects ORDER BY subject_code";
         
@@ -42,9 +60,6 @@ public class SubjectRepository {
             }
             
             log.info("Retrieved {} subjects from database", subjects.size());
-            
-        } catch (SQLException e) {
-            log.error("Error retrieving subjects", e);
         }
         
         return subjects;
@@ -179,6 +194,50 @@ public class SubjectRepository {
         return false;
     }
     
+    /**
+     * Reads the row count and latest update time of the subjects table,
+     * to detect changes made by other workstations.
+     * 
+     * @return the current change stamp
+     * @throws SQLException if the probe could not be run
+     */
+    public ChangeStamp fetchChangeStamp() throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.PROBE_SUBJECTS);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            rs.next();
+            return new ChangeStamp(rs.getLong("row_count"), rs.getTimestamp("last_updated"));
+        }
+    }
+    
+    /**
+     * Retrieves subjects added or changed at or after a point in time.
+     * 
+     * @param since the earliest updated_at to include
+     * @param limit maximum number of rows to return
+     * @return the changed subjects, oldest change first
+     * @throws SQLException if database access error occurs
+     */
+    public List<Subject> findUpdatedSince(Timestamp since, int limit) throws SQLException {
+        List<Subject> subjects = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_SUBJECTS_UPDATED_SINCE)) {
+            
+            stmt.setTimestamp(1, since);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    subjects.add(mapResultSetToSubject(rs));
+                }
+            }
+        }
+        
+        return subjects;
+    }
+    
     /**
      * Maps a ResultSet row to a Subject object.
      * 
@@ -0,0 +1,100 @@
+package com.notif1ed.repository;
+
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.DatabaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Repository class for user accounts (the users table).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class UserRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(UserRepository.class);
+
+    /**
+     * Finds a user by login email.
+     *
+     * @param email the email address
+     * @return the user, or empty if no account uses this email
+     * @throws SQLException if database access error occurs
+     */
+    public Optional<User> findByEmail(String email) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.SELECT_USER_BY_EMAIL)) {
+
+            stmt.setString(1, email);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new User(
+                        rs.getInt("user_id"),
+                        rs.getString("name"),
+                        rs.getString("email"),
+                        rs.getString("password")
+                    ));
+                }
+            }
+        }
+
+        log.debug("No user found for email: {}", email);
+        return Optional.empty();
+    }
+
+    /**
+     * Replaces a user's stored password, if it still holds the expected value.
+     *
+     * @param userId the user
+     * @param expected the stored value the caller read
+     * @param replacement the new stored value
+     * @return true if updated, false if the password had changed in the meantime
+     * @throws SQLException if database access error occurs
+     */
+    public boolean updatePassword(int userId, String expected, String replacement) throws SQLException {
+        try (Connection conn = DatabaseConnection.connect();
+             PreparedStatement stmt = conn.prepareStatement(Constants.UPDATE_USER_PASSWORD)) {
+
+            stmt.setString(1, replacement);
+            stmt.setInt(2, userId);
+            stmt.setString(3, expected);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Immutable user account row, including the stored password hash.
+     */
+    public static class User {
+        private final int userId;
+        private final String name;
+        private final String email;
+        private final String passwordHash;
+
+        public User(int userId, String name, String email, String passwordHash) {
+            this.userId = userId;
+            this.name = name;
+            this.email = email;
+            this.passwordHash = passwordHash;
+        }
+
+        public int getUserId() { return userId; }
+        public String getName() { return name; }
+        public String getEmail() { return email; }
+        public String getPasswordHash() { return passwordHash; }
+
+        @Override
+        public String toString() {
+            // Never include the hash
+            return "User{id=" + userId + ", email=" + email + "}";
+        }
+    }
+}
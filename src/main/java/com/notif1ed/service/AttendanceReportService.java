@@ -0,0 +1,234 @@
+package com.notif1ed.service;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+import com.notif1ed.model.SubjectEntry;
+import com.notif1ed.repository.AttendanceRepository;
+import com.notif1ed.repository.AttendanceRepository.DailyAttendance;
+import com.notif1ed.repository.AttendanceRepository.Report;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for subject attendance reports.
+ * The per-day aggregates of a subject are computed once and cached for a
+ * short time (reports.cache.seconds, default 120), so the attendance summary
+ * and the PDF report share one query. Enrollment changes invalidate the cache.
+ *
+ * PDF reports use iText's large-table mode: rows are flushed to the file
+ * as they are added, so memory stays flat however many days a report covers.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class AttendanceReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceReportService.class);
+    private static final long CACHE_NANOS = TimeUnit.SECONDS.toNanos(AppConfig.getLong("reports.cache.seconds", 120));
+    // PDF table rows kept in memory before they are flushed to the file
+    private static final int FLUSH_INTERVAL = 50;
+    private static final String[] HEADERS = {"Date", "Arrivals", "Departures", "Absent", "Attendance Rate"};
+
+    private static AttendanceReportService instance;
+
+    private final AttendanceRepository repository;
+    private final Map<Integer, CachedReport> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared service, so every subject window uses the same cache.
+     *
+     * @return the shared service
+     */
+    public static synchronized AttendanceReportService getInstance() {
+        if (instance == null) {
+            instance = new AttendanceReportService(new AttendanceRepository());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the attendance repository to use
+     */
+    public AttendanceReportService(AttendanceRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Gets the attendance report of a subject, from the cache when still fresh.
+     *
+     * @param subjectId the subject ID
+     * @return the report, newest day first
+     * @throws SQLException if the report could not be loaded
+     */
+    public Report getReport(int subjectId) throws SQLException {
+        CachedReport cached = cache.get(subjectId);
+        if (cached != null && System.nanoTime() - cached.loadedAt < CACHE_NANOS) {
+            log.debug("Attendance report cache hit for subject {}", subjectId);
+            return cached.report;
+        }
+
+        Report report = repository.fetchReport(subjectId);
+        cache.put(subjectId, new CachedReport(report, System.nanoTime()));
+        return report;
+    }
+
+    /**
+     * Drops the cached report of a subject, e.g. after its enrollment changed.
+     *
+     * @param subjectId the subject ID
+     */
+    public void invalidate(int subjectId) {
+        cache.remove(subjectId);
+    }
+
+    /**
+     * Writes an attendance report as PDF. Meant to run off the FX thread;
+     * stops when the thread is interrupted, deleting the partial file.
+     *
+     * @param subject the subject the report belongs to
+     * @param report the report to render
+     * @param file the destination file (overwritten)
+     * @throws IOException if the file could not be written
+     * @throws CancellationException if the thread was interrupted
+     */
+    public void writePdf(SubjectEntry subject, Report report, File file) throws IOException {
+        boolean complete = false;
+        long started = System.nanoTime();
+        try {
+            renderPdf(subject, report, file);
+            complete = true;
+            MetricsRegistry.getInstance().timer("job.report.pdf").recordSince(started);
+            log.info("Attendance report for {} written to {} ({} days)",
+                subject.getSubjectCode(), file.getName(), report.getDays().size());
+        } finally {
+            if (!complete && file.exists() && !file.delete()) {
+                log.warn("Could not delete incomplete report {}", file);
+            }
+        }
+    }
+
+    private void renderPdf(SubjectEntry subject, Report report, File file) throws IOException {
+        try (Document document = new Document(new PdfDocument(new PdfWriter(file)))) {
+            PdfFont boldFont = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
+            PdfFont normalFont = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+
+            document.add(new Paragraph("ATTENDANCE REPORT")
+                .setFont(boldFont)
+                .setFontSize(20)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(10));
+
+            document.add(new Paragraph("Quezon City University")
+                .setFont(normalFont)
+                .setFontSize(12)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginBottom(20));
+
+            document.add(new Paragraph(String.format("Subject: %s - %s",
+                subject.getSubjectCode(), subject.getSubjectName()))
+                .setFont(boldFont)
+                .setFontSize(14)
+                .setMarginBottom(5));
+
+            document.add(new Paragraph(String.format("Year Level: %d | Section: %s",
+                subject.getYearLevel(), subject.getSection()))
+                .setFont(normalFont)
+                .setFontSize(11)
+                .setMarginBottom(5));
+
+            document.add(new Paragraph(String.format("Total Enrolled Students: %d", report.getTotalEnrolled()))
+                .setFont(normalFont)
+                .setFontSize(11)
+                .setMarginBottom(5));
+
+            document.add(new Paragraph(String.format("Report Generated: %s",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy hh:mm a"))))
+                .setFont(normalFont)
+                .setFontSize(10)
+                .setMarginBottom(20));
+
+            // Large table: added to the document first, then flushed page by page as rows arrive
+            Table table = new Table(UnitValue.createPercentArray(new float[]{3, 2, 2, 2, 2}), true);
+            table.setWidth(UnitValue.createPercentValue(100));
+            for (String header : HEADERS) {
+                table.addHeaderCell(new Cell()
+                    .add(new Paragraph(header).setFont(boldFont).setFontSize(11))
+                    .setBackgroundColor(ColorConstants.LIGHT_GRAY)
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setPadding(8));
+            }
+            document.add(table);
+
+            int rows = 0;
+            for (DailyAttendance day : report.getDays()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Attendance report cancelled");
+                }
+                table.addCell(dataCell(day.getDate().toString(), normalFont));
+                table.addCell(dataCell(String.valueOf(day.getArrivals()), normalFont));
+                table.addCell(dataCell(String.valueOf(day.getDepartures()), normalFont));
+                table.addCell(dataCell(String.valueOf(day.getAbsent()), normalFont));
+                table.addCell(dataCell(String.format("%.1f%%", day.getAttendanceRate()), normalFont));
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    table.flush();
+                }
+            }
+
+            if (rows == 0) {
+                table.addCell(new Cell(1, HEADERS.length)
+                    .add(new Paragraph("No attendance records found for this subject.").setFont(normalFont).setFontSize(10).setItalic())
+                    .setTextAlignment(TextAlignment.CENTER)
+                    .setPadding(20));
+            }
+            table.complete();
+
+            document.add(new Paragraph("\n\nThis report was automatically generated by Notif1ed System.")
+                .setFont(normalFont)
+                .setFontSize(9)
+                .setTextAlignment(TextAlignment.CENTER)
+                .setMarginTop(20)
+                .setFontColor(ColorConstants.GRAY));
+        }
+    }
+
+    private static Cell dataCell(String text, PdfFont font) {
+        return new Cell()
+            .add(new Paragraph(text).setFont(font).setFontSize(10))
+            .setTextAlignment(TextAlignment.CENTER)
+            .setPadding(5);
+    }
+
+    private static class CachedReport {
+        private final Report report;
+        private final long loadedAt;
+
+        CachedReport(Report report, long loadedAt) {
+            this.report = report;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.UserRepository;
+import com.notif1ed.repository.UserRepository.User;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.MetricsRegistry;
+import com.notif1ed.util.PasswordUtils;
+import com.notif1ed.util.SessionManager;
+import com.notif1ed.util.SlidingWindowLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for signing in.
+ *
+ * The user lookup and the BCrypt check (a quarter of a second or more at the
+ * default work factor) run on a small dedicated executor, never on the FX
+ * thread or the shared page loader. The executor is bounded: once
+ * auth.threads checks are running and auth.queue.size are waiting, further
+ * attempts fail fast with a {@link java.util.concurrent.RejectedExecutionException}
+ * instead of piling up CPU-bound work.
+ *
+ * Stored passwords may be BCrypt hashes or legacy plaintext (see
+ * {@link PasswordUtils#schemeOf(String)}). After a successful login, a
+ * plaintext password or a hash made at a different cost than auth.bcrypt.cost
+ * is re-hashed on the same executor, after the login has been answered. An
+ * unknown email still pays for one BCrypt check, so every failed login takes
+ * about as long as a real one.
+ *
+ * Attempts are throttled before any of that work is queued: per email
+ * (auth.throttle.account.*) and for this workstation as a whole
+ * (auth.throttle.workstation.*), each with a {@link SlidingWindowLimiter}.
+ * A refused attempt fails with a {@link ThrottledException} and costs no
+ * database query or hash, so a scripted brute force cannot pin the CPU.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class AuthenticationService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationService.class);
+
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    // Shared so the limits hold across login page instances
+    private static final SlidingWindowLimiter ACCOUNT_LIMITER = accountLimiter();
+    private static final SlidingWindowLimiter WORKSTATION_LIMITER = workstationLimiter();
+
+    // In-memory limits only see this process, so the workstation is a single key
+    private static final String WORKSTATION_KEY = "workstation";
+
+    static {
+        MetricsRegistry.getInstance().gauge("auth.throttle.accounts", ACCOUNT_LIMITER::getTrackedKeys);
+    }
+
+    private final UserRepository repository;
+    private final Executor executor;
+    private final SlidingWindowLimiter accountLimiter;
+    private final SlidingWindowLimiter workstationLimiter;
+
+    /**
+     * Default constructor using the default repository, the shared sign-in
+     * executor and the shared attempt limits.
+     */
+    public AuthenticationService() {
+        this(new UserRepository(), EXECUTOR, ACCOUNT_LIMITER, WORKSTATION_LIMITER);
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing), with fresh
+     * attempt limits from the configuration.
+     *
+     * @param repository the user repository to use
+     * @param executor runs the lookup and password check
+     */
+    public AuthenticationService(UserRepository repository, Executor executor) {
+        this(repository, executor, accountLimiter(), workstationLimiter());
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the user repository to use
+     * @param executor runs the lookup and password check
+     * @param accountLimiter limits attempts per email
+     * @param workstationLimiter limits attempts from this workstation
+     */
+    public AuthenticationService(UserRepository repository, Executor executor,
+                                 SlidingWindowLimiter accountLimiter, SlidingWindowLimiter workstationLimiter) {
+        this.repository = repository;
+        this.executor = executor;
+        this.accountLimiter = accountLimiter;
+        this.workstationLimiter = workstationLimiter;
+    }
+
+    /**
+     * Checks an email and password off the calling thread.
+     *
+     * @param email the login email
+     * @param password the plain text password
+     * @return completes with the user if the credentials match, or empty if
+     *         they do not; completes exceptionally with the {@link SQLException}
+     *         if the lookup failed, with a {@link ThrottledException} if too
+     *         many attempts were made recently, or with a
+     *         RejectedExecutionException if too many sign-ins are already in progress
+     */
+    public CompletableFuture<Optional<User>> authenticate(String email, String password) {
+        return authenticate(email, password, () -> { });
+    }
+
+    /**
+     * Checks an email and password off the calling thread, running
+     * {@code onAccepted} once the attempt has passed the throttles and is
+     * queued. Work that only pays off after a successful login (prefetching
+     * the home page) goes there, so refused attempts cost nothing else.
+     *
+     * @param email the login email
+     * @param password the plain text password
+     * @param onAccepted runs on the calling thread if the password check was started
+     * @return as {@link #authenticate(String, String)}
+     */
+    public CompletableFuture<Optional<User>> authenticate(String email, String password, Runnable onAccepted) {
+        String accountKey = email.toLowerCase(Locale.ROOT);
+        // Both limits are checked before either is charged, so a refused attempt costs nothing
+        if (!accountLimiter.wouldAllow(accountKey)) {
+            return throttled("account", email, accountLimiter.retryAfter(accountKey));
+        }
+        if (!workstationLimiter.tryAcquire(WORKSTATION_KEY)) {
+            return throttled("workstation", email, workstationLimiter.retryAfter(WORKSTATION_KEY));
+        }
+        if (!accountLimiter.tryAcquire(accountKey)) {
+            // Another sign-in for the account took the last slot since the check
+            return throttled("account", email, accountLimiter.retryAfter(accountKey));
+        }
+        CompletableFuture<Optional<User>> result;
+        try {
+            result = CompletableFuture.supplyAsync(() -> verify(email, password), executor)
+                .whenComplete((user, error) -> {
+                    if (user != null && user.isPresent()) {
+                        accountLimiter.reset(accountKey);
+                    }
+                });
+        } catch (RuntimeException e) {
+            log.warn("Sign-in for {} rejected: too many in progress", email);
+            return CompletableFuture.failedFuture(e);
+        }
+        onAccepted.run();
+        return result;
+    }
+
+    /**
+     * Checks that a resumed session's account still exists under the same
+     * email. Costs one lookup and no password check.
+     *
+     * @param session the resumed session
+     * @return true if the session may continue
+     * @throws SQLException if database access error occurs
+     */
+    public boolean isAccountActive(SessionManager.Session session) throws SQLException {
+        return repository.findByEmail(session.getUserEmail())
+            .map(user -> user.getUserId() == session.getUserId())
+            .orElse(false);
+    }
+
+    private static CompletableFuture<Optional<User>> throttled(String scope, String email, Duration retryAfter) {
+        MetricsRegistry.getInstance().increment("auth.throttled." + scope);
+        log.warn("Sign-in for {} throttled ({} limit), retry in {} s", email, scope, retryAfter.toSeconds());
+        return CompletableFuture.failedFuture(new ThrottledException(retryAfter));
+    }
+
+    private Optional<User> verify(String email, String password) {
+        long start = System.nanoTime();
+        try {
+            Optional<User> user = repository.findByEmail(email);
+            if (user.isEmpty()) {
+                PasswordUtils.checkPassword(password, DummyHash.VALUE);
+                log.warn("Login attempt for non-existent user: {}", email);
+                return Optional.empty();
+            }
+            String stored = user.get().getPasswordHash();
+            if (!PasswordUtils.verifyPassword(password, stored)) {
+                log.warn("Failed login attempt for: {}", email);
+                return Optional.empty();
+            }
+            if (PasswordUtils.needsRehash(stored)) {
+                scheduleRehash(user.get(), password);
+            }
+            return user;
+        } catch (SQLException e) {
+            throw new CompletionException(e);
+        } finally {
+            MetricsRegistry.getInstance().timer("auth.verify").recordSince(start);
+        }
+    }
+
+    private void scheduleRehash(User user, String password) {
+        try {
+            executor.execute(() -> rehash(user, password));
+        } catch (RuntimeException e) {
+            // Saturated; the next login tries again
+            log.debug("Rehash for user {} skipped: {}", user.getUserId(), e.toString());
+        }
+    }
+
+    private void rehash(User user, String password) {
+        PasswordUtils.HashScheme scheme = PasswordUtils.schemeOf(user.getPasswordHash());
+        try {
+            if (repository.updatePassword(user.getUserId(), user.getPasswordHash(), PasswordUtils.hashPassword(password))) {
+                MetricsRegistry.getInstance().increment("auth.rehashed");
+                log.info("Re-hashed {} password of user {} at cost {}", scheme, user.getUserId(), PasswordUtils.getWorkFactor());
+            }
+        } catch (SQLException e) {
+            log.warn("Could not re-hash password of user {}", user.getUserId(), e);
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        int threads = Math.max(1, AppConfig.getInt("auth.threads", 2));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, AppConfig.getInt("auth.queue.size", 8))),
+            BackgroundLoader.daemonThreadFactory("notif1ed-auth"), new ThreadPoolExecutor.AbortPolicy());
+        // Sign-ins are rare; don't keep threads around between them
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static SlidingWindowLimiter accountLimiter() {
+        return new SlidingWindowLimiter(AppConfig.getInt("auth.throttle.account.attempts", 5),
+            Duration.ofSeconds(AppConfig.getLong("auth.throttle.account.window.seconds", 300)));
+    }
+
+    private static SlidingWindowLimiter workstationLimiter() {
+        return new SlidingWindowLimiter(AppConfig.getInt("auth.throttle.workstation.attempts", 20),
+            Duration.ofSeconds(AppConfig.getLong("auth.throttle.workstation.window.seconds", 60)));
+    }
+
+    /**
+     * Raised when a sign-in attempt is refused by the attempt limits.
+     */
+    public static class ThrottledException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final Duration retryAfter;
+
+        public ThrottledException(Duration retryAfter) {
+            super("Too many sign-in attempts, retry in " + retryAfter.toSeconds() + " s");
+            this.retryAfter = retryAfter;
+        }
+
+        /** How long until another attempt would be allowed. */
+        public Duration getRetryAfter() { return retryAfter; }
+    }
+
+    /**
+     * Checked against when the email is unknown, to spend the same time as a
+     * real check. Created on first use, on the sign-in executor.
+     */
+    private static final class DummyHash {
+        private static final String VALUE = PasswordUtils.hashPassword("notif1ed-dummy-password");
+    }
+}
@@ -0,0 +1,379 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.ChangeStamp;
+import com.notif1ed.model.RecordEntry;
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.repository.RecordRepository;
+import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.repository.SubjectRepository;
+import com.notif1ed.repository.SubjectRepository.Subject;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.BackgroundLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Background poller that tells open pages about rows other workstations
+ * added or changed, so they can merge them in instead of reloading.
+ * Each poll costs one small query per table that has subscribers:
+ * records are append-only, so new ones are a primary-key range after the
+ * last seen record_id; students and subjects are probed by row count and
+ * latest updated_at, and only when that stamp moves are the rows updated
+ * since the previous stamp fetched.
+ *
+ * Deletes cannot be read back this way. When a table's row count drops, or
+ * a batch is full, subscribers get a reset delta and should reload.
+ *
+ * Settings: changes.poll.seconds (5), changes.batch.size (500).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class ChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    private static final int POLL_SECONDS = AppConfig.getInt("changes.poll.seconds", 5);
+    private static final int BATCH_SIZE = AppConfig.getInt("changes.batch.size", 500);
+
+    private static ChangeFeed instance;
+
+    private final Topic<RecordEntry> records;
+    private final Topic<StudentEntry> students;
+    private final Topic<Subject> subjects;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Gets the application-wide change feed.
+     *
+     * @return the shared feed
+     */
+    public static synchronized ChangeFeed getInstance() {
+        if (instance == null) {
+            instance = new ChangeFeed(new RecordRepository(), new StudentRepository(), new SubjectRepository());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param recordRepository the record repository to poll
+     * @param studentRepository the student repository to poll
+     * @param subjectRepository the subject repository to poll
+     */
+    public ChangeFeed(RecordRepository recordRepository, StudentRepository studentRepository,
+                      SubjectRepository subjectRepository) {
+        this.records = new RecordTopic(recordRepository);
+        this.students = new StampTopic<>("students", studentRepository::fetchChangeStamp,
+            studentRepository::findUpdatedSince);
+        this.subjects = new StampTopic<>("subjects", subjectRepository::fetchChangeStamp,
+            subjectRepository::findUpdatedSince);
+    }
+
+    /**
+     * Starts polling. Does nothing if already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            BackgroundLoader.daemonThreadFactory("notif1ed-changes"));
+        scheduler.scheduleWithFixedDelay(this::poll, POLL_SECONDS, POLL_SECONDS, TimeUnit.SECONDS);
+        log.info("Change feed started (poll every {}s)", POLL_SECONDS);
+    }
+
+    /**
+     * Stops polling.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Subscribes to records added after the subscription.
+     *
+     * @param listener receives new records, oldest first, on the feed's thread
+     * @return the subscription
+     */
+    public Subscription subscribeRecords(Listener<RecordEntry> listener) {
+        return subscribe(records, listener);
+    }
+
+    /**
+     * Subscribes to students added or changed after the subscription.
+     *
+     * @param listener receives changed students on the feed's thread
+     * @return the subscription
+     */
+    public Subscription subscribeStudents(Listener<StudentEntry> listener) {
+        return subscribe(students, listener);
+    }
+
+    /**
+     * Subscribes to subjects added or changed after the subscription.
+     *
+     * @param listener receives changed subjects on the feed's thread
+     * @return the subscription
+     */
+    public Subscription subscribeSubjects(Listener<Subject> listener) {
+        return subscribe(subjects, listener);
+    }
+
+    private synchronized <T> Subscription subscribe(Topic<T> topic, Listener<T> listener) {
+        topic.add(listener);
+        if (scheduler != null) {
+            // Take the baseline now rather than one poll interval later
+            scheduler.execute(this::poll);
+        }
+        return () -> topic.remove(listener);
+    }
+
+    /**
+     * Polls every table that has subscribers once.
+     */
+    void poll() {
+        for (Topic<?> topic : List.of(records, students, subjects)) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            topic.pollIfWatched();
+        }
+    }
+
+    /**
+     * Receives the changes of one table.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface Listener<T> {
+        void onChanges(Delta<T> delta);
+    }
+
+    /**
+     * Ends a subscription.
+     */
+    @FunctionalInterface
+    public interface Subscription {
+        void close();
+    }
+
+    /**
+     * Rows added or changed since the previous delta of the same table, or a
+     * reset telling the subscriber to reload.
+     *
+     * @param <T> row type
+     */
+    public static final class Delta<T> {
+        private final List<T> rows;
+        private final boolean reset;
+        private final ChangeStamp previous;
+        private final ChangeStamp current;
+
+        Delta(List<T> rows, boolean reset, ChangeStamp previous, ChangeStamp current) {
+            this.rows = Collections.unmodifiableList(rows);
+            this.reset = reset;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        public List<T> getRows() { return rows; }
+        public boolean isReset() { return reset; }
+        public ChangeStamp getPrevious() { return previous; }
+        public ChangeStamp getCurrent() { return current; }
+
+        /**
+         * Converts the rows, for lists that hold a different row type.
+         *
+         * @param mapper the row conversion
+         * @param <R> the converted row type
+         * @return a delta with the converted rows and the same stamps
+         */
+        public <R> Delta<R> map(Function<? super T, ? extends R> mapper) {
+            List<R> mapped = new ArrayList<>(rows.size());
+            for (T row : rows) {
+                mapped.add(mapper.apply(row));
+            }
+            return new Delta<>(mapped, reset, previous, current);
+        }
+
+        /**
+         * Merges the rows into a list kept sorted by the given order: a row
+         * equal to an existing one under that order replaces it, any other row
+         * is inserted at its sorted position.
+         *
+         * @param list the sorted list to update
+         * @param order the list's order, which also identifies rows
+         */
+        public void applyTo(List<T> list, Comparator<? super T> order) {
+            for (T row : rows) {
+                int index = Collections.binarySearch(list, row, order);
+                if (index >= 0) {
+                    list.set(index, row);
+                } else {
+                    list.add(-index - 1, row);
+                }
+            }
+        }
+    }
+
+    /**
+     * Polling state and subscribers of one table.
+     */
+    private abstract static class Topic<T> {
+        private final String name;
+        private final List<Listener<T>> listeners = new CopyOnWriteArrayList<>();
+        // Set when the first subscriber arrives; changes made while nobody listened are not replayed
+        private volatile boolean rebaseline = true;
+
+        Topic(String name) {
+            this.name = name;
+        }
+
+        synchronized void add(Listener<T> listener) {
+            if (listeners.isEmpty()) {
+                rebaseline = true;
+            }
+            listeners.add(listener);
+        }
+
+        void remove(Listener<T> listener) {
+            listeners.remove(listener);
+        }
+
+        void pollIfWatched() {
+            if (listeners.isEmpty()) {
+                return;
+            }
+            Delta<T> delta;
+            try {
+                if (rebaseline) {
+                    rebaseline = false;
+                    baseline();
+                    return;
+                }
+                delta = poll();
+            } catch (SQLException e) {
+                log.warn("Change poll for {} failed", name, e);
+                return;
+            }
+            if (delta == null) {
+                return;
+            }
+            log.debug("{}: {} changed row(s){}", name, delta.getRows().size(), delta.isReset() ? ", reset" : "");
+            for (Listener<T> listener : listeners) {
+                try {
+                    listener.onChanges(delta);
+                } catch (RuntimeException e) {
+                    log.error("Change listener for {} failed", name, e);
+                }
+            }
+        }
+
+        abstract void baseline() throws SQLException;
+
+        /**
+         * @return the changes since the last poll, or null if there are none
+         */
+        abstract Delta<T> poll() throws SQLException;
+    }
+
+    /**
+     * New records, found by record_id.
+     */
+    private static final class RecordTopic extends Topic<RecordEntry> {
+        private final RecordRepository repository;
+        private int lastRecordId;
+
+        RecordTopic(RecordRepository repository) {
+            super("records");
+            this.repository = repository;
+        }
+
+        @Override
+        void baseline() throws SQLException {
+            lastRecordId = repository.findMaxRecordId();
+        }
+
+        @Override
+        Delta<RecordEntry> poll() throws SQLException {
+            List<RecordEntry> rows = repository.findAfter(lastRecordId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                return null;
+            }
+            if (rows.size() >= BATCH_SIZE) {
+                lastRecordId = repository.findMaxRecordId();
+                return new Delta<>(List.of(), true, null, null);
+            }
+            lastRecordId = rows.get(rows.size() - 1).getId();
+            return new Delta<>(rows, false, null, null);
+        }
+    }
+
+    /**
+     * Rows found by a change stamp probe and an updated_at range.
+     */
+    private static final class StampTopic<T> extends Topic<T> {
+        private final SnapshotCache.StampProbe probe;
+        private final ChangedRows<T> changedRows;
+        private ChangeStamp lastStamp;
+
+        StampTopic(String name, SnapshotCache.StampProbe probe, ChangedRows<T> changedRows) {
+            super(name);
+            this.probe = probe;
+            this.changedRows = changedRows;
+        }
+
+        @Override
+        void baseline() throws SQLException {
+            lastStamp = probe.fetch();
+        }
+
+        @Override
+        Delta<T> poll() throws SQLException {
+            ChangeStamp current = probe.fetch();
+            if (current == null || current.equals(lastStamp)) {
+                return null;
+            }
+            ChangeStamp previous = lastStamp;
+            lastStamp = current;
+
+            if (previous == null || previous.getLastUpdated() == null
+                    || current.getRowCount() < previous.getRowCount()) {
+                return new Delta<>(List.of(), true, previous, current);
+            }
+            // Inclusive: updated_at has one-second resolution; re-sent rows merge as no-ops
+            List<T> rows = changedRows.fetch(previous.getLastUpdated(), BATCH_SIZE);
+            if (rows.size() >= BATCH_SIZE) {
+                return new Delta<>(List.of(), true, previous, current);
+            }
+            return new Delta<>(rows, false, previous, current);
+        }
+    }
+
+    /**
+     * Reads the rows updated at or after a time.
+     */
+    @FunctionalInterface
+    private interface ChangedRows<T> {
+        List<T> fetch(Timestamp since, int limit) throws SQLException;
+    }
+}
@@ -0,0 +1,112 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.DashboardRepository;
+import com.notif1ed.repository.DashboardRepository.Stats;
+import com.notif1ed.util.BackgroundLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service class for dashboard statistics.
+ * Returns all home page counters from a single aggregate query.
+ * 
+ * The login page calls {@link #prefetchStats()} while the password is being
+ * verified, so the home page usually finds its counters already loaded.
+ * 
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class DashboardService {
+    
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    
+    // Prefetched counters older than this are fetched again
+    private static final long PREFETCH_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(30);
+    
+    // Shared because the login page and the home page have their own service instances
+    private static final AtomicReference<Prefetch> PREFETCHED = new AtomicReference<>();
+    
+    private final DashboardRepository repository;
+    
+    /**
+     * Default constructor using default repository.
+     */
+    public DashboardService() {
+        this.repository = new DashboardRepository();
+    }
+    
+    /**
+     * Constructor for dependency injection (useful for testing).
+     * 
+     * @param repository the dashboard repository to use
+     */
+    public DashboardService(DashboardRepository repository) {
+        this.repository = repository;
+    }
+    
+    /**
+     * Gets the dashboard counters, with the "today" count for the current date.
+     * 
+     * @return the counters
+     * @throws SQLException if the counters could not be loaded
+     */
+    public Stats getStats() throws SQLException {
+        Prefetch prefetch = PREFETCHED.getAndSet(null);
+        if (prefetch != null && System.nanoTime() - prefetch.requestedAt < PREFETCH_MAX_AGE_NANOS) {
+            try {
+                log.debug("Using prefetched dashboard statistics");
+                return prefetch.stats.get();
+            } catch (ExecutionException e) {
+                log.debug("Dashboard prefetch failed, fetching again", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for dashboard statistics", e);
+            }
+        }
+        log.debug("Fetching dashboard statistics");
+        return repository.fetchStats(LocalDate.now());
+    }
+    
+    /**
+     * Starts loading the counters in the background; the next {@link #getStats()}
+     * call (from any instance) returns them, waiting only for what is left.
+     * Does nothing while an earlier prefetch is still running or fresh.
+     */
+    public void prefetchStats() {
+        long now = System.nanoTime();
+        Prefetch current = PREFETCHED.get();
+        if (current != null && now - current.requestedAt < PREFETCH_MAX_AGE_NANOS
+                && !current.stats.isCompletedExceptionally()) {
+            return;
+        }
+        CompletableFuture<Stats> stats = new CompletableFuture<>();
+        if (!PREFETCHED.compareAndSet(current, new Prefetch(stats, now))) {
+            // Another caller started one meanwhile
+            return;
+        }
+        BackgroundLoader.submit(() -> {
+            try {
+                stats.complete(repository.fetchStats(LocalDate.now()));
+            } catch (SQLException e) {
+                stats.completeExceptionally(e);
+            }
+        });
+    }
+    
+    private static class Prefetch {
+        private final CompletableFuture<Stats> stats;
+        private final long requestedAt;
+        
+        Prefetch(CompletableFuture<Stats> stats, long requestedAt) {
+            this.stats = stats;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
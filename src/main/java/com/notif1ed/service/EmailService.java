@@ -0,0 +1,184 @@
+package com.notif1ed.service;
+
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.mail.Authenticator;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.PasswordAuthentication;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.Properties;
+
+/**
+ * Service class for sending email through the configured SMTP relay.
+ * Shares one mail session and a small pool of connected transports
+ * across the whole application.
+ * 
+ * Settings (application.properties or -D overrides): mail.smtp.host,
+ * mail.smtp.port, mail.from, mail.password, mail.pool.size.
+ * 
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class EmailService {
+    
+    private static final Logger log = LoggerFactory.getLogger(EmailService.class);
+    
+    // SMTP Configuration - set mail.from and mail.password for your email server
+    private static final String SMTP_HOST = AppConfig.getString("mail.smtp.host", "smtp.gmail.com");
+    private static final String SMTP_PORT = AppConfig.getString("mail.smtp.port", "587"); // TLS port
+    private static final String FROM_EMAIL = AppConfig.getString("mail.from", "").trim();
+    private static final String APP_PASSWORD = AppConfig.getString("mail.password", ""); // Gmail App Password, NOT regular password
+    private static final int POOL_SIZE = AppConfig.getInt("mail.pool.size", 3);
+    
+    private static volatile Session session;
+    private static volatile SmtpTransportPool transportPool;
+    
+    /**
+     * Checks whether SMTP credentials have been configured.
+     * 
+     * @return true if the sender address and password are set
+     */
+    public boolean isConfigured() {
+        return !FROM_EMAIL.isEmpty() && !APP_PASSWORD.isBlank();
+    }
+    
+    /**
+     * Gets the relay host, used to key per-relay rate limits.
+     * 
+     * @return the SMTP host name
+     */
+    public String getRelayHost() {
+        return SMTP_HOST;
+    }
+    
+    /**
+     * Gets the number of pooled SMTP connections.
+     * 
+     * @return the pool size
+     */
+    public int getPoolSize() {
+        return POOL_SIZE;
+    }
+    
+    /**
+     * Sends one message to a single recipient using a pooled transport.
+     * 
+     * @param to the recipient address
+     * @param subject the subject line
+     * @param body the plain-text body (rendered as simple HTML)
+     * @throws MessagingException if the message could not be sent
+     * @throws InterruptedException if interrupted while waiting for a transport
+     */
+    public void send(String to, String subject, String body) throws MessagingException, InterruptedException {
+        if (!isConfigured()) {
+            throw new MessagingException("Email is not configured");
+        }
+        
+        MimeMessage message = buildMessage(to, subject, body);
+        SmtpTransportPool pool = getTransportPool();
+        // Timed from before the borrow so a starved transport pool shows up in email.send
+        long start = System.nanoTime();
+        Transport transport = pool.borrow();
+        boolean healthy = true;
+        boolean sent = false;
+        
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+            sent = true;
+            log.debug("Email sent to {}", to);
+        } catch (SendFailedException e) {
+            // Recipient rejected; the connection itself is still fine
+            throw e;
+        } catch (MessagingException e) {
+            healthy = false;
+            throw e;
+        } finally {
+            pool.release(transport, healthy);
+            MetricsRegistry metrics = MetricsRegistry.getInstance();
+            metrics.timer("email.send").recordSince(start);
+            metrics.increment(sent ? "email.sent" : "email.failed");
+        }
+    }
+    
+    /**
+     * Builds a message addressed to a single recipient.
+     * 
+     * @param to the recipient address
+     * @param subject the subject line
+     * @param body the plain-text body
+     * @return the message, ready to send
+     * @throws MessagingException if an address is invalid
+     */
+    public MimeMessage buildMessage(String to, String subject, String body) throws MessagingException {
+        MimeMessage message = new MimeMessage(getSession());
+        message.setFrom(new InternetAddress(FROM_EMAIL));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(to.trim()));
+        message.setSubject(subject);
+        
+        // Set message content (HTML support)
+        String htmlBody = "<html><body style='font-family: Poppins, Arial, sans-serif;'>" +
+                        "<p>" + body.replace("\n", "<br>") + "</p>" +
+                        "<br><br>" +
+                        "<p style='color: #757575; font-size: 12px;'>Sent from Notif1ed Student Management System</p>" +
+                        "</body></html>";
+        message.setContent(htmlBody, "text/html; charset=utf-8");
+        message.saveChanges();
+        return message;
+    }
+    
+    /**
+     * Closes all pooled SMTP connections. Called on application shutdown.
+     */
+    public static synchronized void shutdown() {
+        if (transportPool != null) {
+            transportPool.close();
+            transportPool = null;
+        }
+    }
+    
+    private static Session getSession() {
+        if (session == null) {
+            synchronized (EmailService.class) {
+                if (session == null) {
+                    // Setup mail server properties
+                    Properties props = new Properties();
+                    props.put("mail.smtp.auth", "true");
+                    props.put("mail.smtp.starttls.enable", "true"); // Enable TLS encryption
+                    props.put("mail.smtp.host", SMTP_HOST);
+                    props.put("mail.smtp.port", SMTP_PORT);
+                    props.put("mail.smtp.ssl.protocols", "TLSv1.2"); // Force TLS 1.2+
+                    props.put("mail.smtp.connectiontimeout", "10000");
+                    props.put("mail.smtp.timeout", "30000");
+                    
+                    session = Session.getInstance(props, new Authenticator() {
+                        @Override
+                        protected PasswordAuthentication getPasswordAuthentication() {
+                            return new PasswordAuthentication(FROM_EMAIL, APP_PASSWORD);
+                        }
+                    });
+                }
+            }
+        }
+        return session;
+    }
+    
+    private static SmtpTransportPool getTransportPool() throws MessagingException {
+        if (transportPool == null) {
+            synchronized (EmailService.class) {
+                if (transportPool == null) {
+                    transportPool = new SmtpTransportPool(getSession(), POOL_SIZE);
+                    log.info("SMTP transport pool created ({} connections to {})", POOL_SIZE, SMTP_HOST);
+                }
+            }
+        }
+        return transportPool;
+    }
+}
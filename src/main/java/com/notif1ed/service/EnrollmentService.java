@@ -0,0 +1,133 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.repository.EnrollmentRepository;
+import com.notif1ed.repository.EnrollmentRepository.Enrollment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service class for subject enrollment.
+ * Bulk enrollments commit as one batched INSERT in one transaction and are
+ * logged as ENROLLMENT records in one batch. Enrollment changes also
+ * invalidate the subject's cached attendance report, whose absence counts
+ * depend on who is enrolled.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class EnrollmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentService.class);
+    private final EnrollmentRepository repository;
+    private final RecordService recordService;
+    private final AttendanceReportService reportService;
+
+    /**
+     * Default constructor using default repository.
+     */
+    public EnrollmentService() {
+        this(new EnrollmentRepository(), new RecordService(), AttendanceReportService.getInstance());
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the enrollment repository to use
+     * @param recordService the record service that logs enrollments
+     * @param reportService the attendance report service whose cache to invalidate
+     */
+    public EnrollmentService(EnrollmentRepository repository, RecordService recordService,
+                             AttendanceReportService reportService) {
+        this.repository = repository;
+        this.recordService = recordService;
+        this.reportService = reportService;
+    }
+
+    /**
+     * Gets the students enrolled in a subject.
+     *
+     * @param subjectId the subject ID
+     * @return enrolled students ordered by student number
+     * @throws SQLException if the students could not be loaded
+     */
+    public List<StudentEntry> getEnrolledStudents(int subjectId) throws SQLException {
+        return repository.findEnrolled(subjectId);
+    }
+
+    /**
+     * Gets the students that can still be enrolled in a subject.
+     *
+     * @param subjectId the subject ID
+     * @return available students ordered by student number
+     * @throws SQLException if the students could not be loaded
+     */
+    public List<StudentEntry> getAvailableStudents(int subjectId) throws SQLException {
+        return repository.findAvailable(subjectId);
+    }
+
+    /**
+     * Enrolls students in a subject in one transaction, then writes their
+     * enrollment records in one batch.
+     *
+     * @param subjectId the subject ID
+     * @param subjectCode the subject code (for the records)
+     * @param studentNumbers the student numbers to enroll
+     * @return the enrolled students
+     * @throws SQLException if the enrollment could not be saved; nobody is enrolled then
+     */
+    public List<Enrollment> enrollAll(int subjectId, String subjectCode, Collection<String> studentNumbers) throws SQLException {
+        log.info("Enrolling {} student(s) in {}", studentNumbers.size(), subjectCode);
+        return afterEnrollment(subjectId, subjectCode, repository.enrollAll(subjectId, studentNumbers));
+    }
+
+    /**
+     * Enrolls every student of a section who is not yet enrolled in a subject,
+     * in one transaction, then writes their enrollment records in one batch.
+     *
+     * @param subjectId the subject ID
+     * @param subjectCode the subject code (for the records)
+     * @param section the section to enroll
+     * @return the newly enrolled students
+     * @throws SQLException if the enrollment could not be saved; nobody is enrolled then
+     */
+    public List<Enrollment> enrollSection(int subjectId, String subjectCode, String section) throws SQLException {
+        log.info("Enrolling section {} in {}", section, subjectCode);
+        return afterEnrollment(subjectId, subjectCode, repository.enrollSection(subjectId, section));
+    }
+
+    /**
+     * Drops a student from a subject.
+     *
+     * @param subjectId the subject ID
+     * @param studentNumber the student number
+     * @return true if the student was enrolled and is now dropped
+     * @throws SQLException if the change could not be saved
+     */
+    public boolean drop(int subjectId, String studentNumber) throws SQLException {
+        log.info("Dropping student {} from subject {}", studentNumber, subjectId);
+        boolean dropped = repository.drop(subjectId, studentNumber);
+        if (dropped) {
+            reportService.invalidate(subjectId);
+        }
+        return dropped;
+    }
+
+    private List<Enrollment> afterEnrollment(int subjectId, String subjectCode, List<Enrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return enrollments;
+        }
+        reportService.invalidate(subjectId);
+        try {
+            recordService.recordEnrollments(subjectId, subjectCode, enrollments);
+        } catch (SQLException e) {
+            // The enrollment itself is committed; only the audit trail is missing
+            log.error("Could not record {} enrollment(s) in {}", enrollments.size(), subjectCode, e);
+        }
+        return enrollments;
+    }
+}
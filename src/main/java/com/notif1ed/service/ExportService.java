@@ -0,0 +1,257 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.ExportRepository;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.Constants;
+import com.notif1ed.util.MetricsRegistry;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Service class for exporting whole tables to Excel.
+ * Rows stream from the database straight into an {@link SXSSFWorkbook}, which
+ * keeps only a small window of rows in memory and flushes the rest to a
+ * temporary file, so even a semester of records exports in bounded memory.
+ *
+ * Exports stop when the calling thread is interrupted (e.g. a cancelled
+ * background task); the partial file is then deleted.
+ *
+ * Settings: export.fetch.size (default 1000), export.row.window (default 100).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+    private static final int FETCH_SIZE = Math.max(1, AppConfig.getInt("export.fetch.size", 1000));
+    private static final int ROW_WINDOW = Math.max(1, AppConfig.getInt("export.row.window", 100));
+    // Report progress every this many rows
+    private static final int PROGRESS_INTERVAL = 500;
+
+    private final ExportRepository repository;
+
+    /**
+     * Default constructor using default repository.
+     */
+    public ExportService() {
+        this(new ExportRepository());
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the export repository to use
+     */
+    public ExportService(ExportRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * The tables that can be exported.
+     */
+    public enum Dataset {
+        STUDENTS("Students", Constants.COUNT_STUDENTS,
+            "Student Number", "First Name", "Last Name", "Section", "Email", "Guardian Name", "Phone", "Created At"),
+        SUBJECTS("Subjects", Constants.COUNT_SUBJECTS,
+            "Subject Code", "Subject Name", "Year Level", "Section", "Description", "Created At"),
+        RECORDS("Records", Constants.COUNT_RECORDS,
+            "Record ID", "Date/Time", "Type", "Student Number", "First Name", "Last Name", "Subject Code", "Details");
+
+        private final String sheetName;
+        private final String countQuery;
+        private final String[] headers;
+
+        Dataset(String sheetName, String countQuery, String... headers) {
+            this.sheetName = sheetName;
+            this.countQuery = countQuery;
+            this.headers = headers;
+        }
+
+        public String getSheetName() { return sheetName; }
+        public String[] getHeaders() { return headers.clone(); }
+    }
+
+    /**
+     * Receives export progress. Called from the exporting thread.
+     */
+    public interface ProgressListener {
+        /**
+         * @param rowsWritten rows written so far
+         * @param totalRows expected number of rows
+         */
+        void onProgress(long rowsWritten, long totalRows);
+    }
+
+    /**
+     * Exports a whole table to an .xlsx file.
+     *
+     * @param dataset the table to export
+     * @param file the destination file (overwritten)
+     * @param listener progress callback (may be null)
+     * @return number of rows exported
+     * @throws IOException if the file could not be written
+     * @throws SQLException if the rows could not be read
+     * @throws CancellationException if the thread was interrupted; the file is deleted
+     */
+    public long export(Dataset dataset, File file, ProgressListener listener) throws IOException, SQLException {
+        long total = listener != null ? repository.count(dataset.countQuery) : 0;
+        boolean complete = false;
+        long started = System.nanoTime();
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            SheetWriter writer = new SheetWriter(workbook, dataset);
+
+            long rows = stream(dataset, rs -> {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException(dataset.getSheetName() + " export cancelled");
+                }
+                long written = writer.write(rs);
+                if (listener != null && written % PROGRESS_INTERVAL == 0) {
+                    listener.onProgress(written, Math.max(total, written));
+                }
+            });
+
+            try (OutputStream out = new FileOutputStream(file)) {
+                workbook.write(out);
+            }
+            complete = true;
+
+            if (listener != null) {
+                listener.onProgress(rows, rows);
+            }
+            log.info("Exported {} {} rows to {} in {} ms", rows, dataset.getSheetName(), file.getName(),
+                (System.nanoTime() - started) / 1_000_000);
+            return rows;
+        } finally {
+            // Remove the temporary sheet files SXSSF spilled to disk
+            workbook.dispose();
+            workbook.close();
+            if (complete) {
+                MetricsRegistry.getInstance().timer("job.export." + dataset.name().toLowerCase()).recordSince(started);
+            } else {
+                MetricsRegistry.getInstance().increment("job.export.failed");
+            }
+            if (!complete && file.exists() && !file.delete()) {
+                log.warn("Could not delete incomplete export {}", file);
+            }
+        }
+    }
+
+    private long stream(Dataset dataset, ExportRepository.RowHandler handler) throws SQLException {
+        return switch (dataset) {
+            case STUDENTS -> repository.streamStudents(FETCH_SIZE, handler);
+            case SUBJECTS -> repository.streamSubjects(FETCH_SIZE, handler);
+            case RECORDS -> repository.streamRecords(FETCH_SIZE, handler);
+        };
+    }
+
+    /**
+     * Writes result set rows to consecutive sheets, starting a new sheet
+     * whenever Excel's row limit is reached.
+     */
+    private static class SheetWriter {
+        private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+        private final SXSSFWorkbook workbook;
+        private final Dataset dataset;
+        private final CellStyle headerStyle;
+        private final CellStyle dateStyle;
+        private SXSSFSheet sheet;
+        private int sheetCount;
+        private int nextRow;
+        private long written;
+
+        SheetWriter(SXSSFWorkbook workbook, Dataset dataset) {
+            this.workbook = workbook;
+            this.dataset = dataset;
+
+            headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+
+            dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+
+            newSheet();
+        }
+
+        long write(ResultSet rs) throws SQLException {
+            if (nextRow >= MAX_ROWS) {
+                newSheet();
+            }
+
+            ResultSetMetaData meta = rs.getMetaData();
+            Row row = sheet.createRow(nextRow++);
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                Object value = rs.getObject(i);
+                if (value != null) {
+                    setValue(row.createCell(i - 1), value);
+                }
+            }
+            return ++written;
+        }
+
+        private void setValue(Cell cell, Object value) {
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else if (value instanceof Timestamp timestamp) {
+                cell.setCellValue(timestamp.toLocalDateTime());
+                cell.setCellStyle(dateStyle);
+            } else if (value instanceof LocalDateTime dateTime) {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateStyle);
+            } else if (value instanceof LocalDate date) {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            } else if (value instanceof Date date) {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+
+        private void newSheet() {
+            sheetCount++;
+            String name = sheetCount == 1 ? dataset.getSheetName() : dataset.getSheetName() + " (" + sheetCount + ")";
+            sheet = workbook.createSheet(name);
+            sheet.createFreezePane(0, 1);
+
+            String[] headers = dataset.getHeaders();
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = header.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, 20 * 256);
+            }
+            nextRow = 1;
+        }
+    }
+}
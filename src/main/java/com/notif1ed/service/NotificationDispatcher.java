@@ -0,0 +1,254 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.NotificationRepository;
+import com.notif1ed.repository.NotificationRepository.Notification;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.BackgroundLoader;
+import com.notif1ed.util.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Background dispatcher that drains the notification outbox.
+ * Polls for due notifications, claims them in batches, sends them over the
+ * pooled SMTP transports and marks each one sent, failed, or pending again
+ * with an exponential backoff. Because rows only leave 'pending' after
+ * delivery, anything still queued when the application closes is sent on
+ * the next start.
+ *
+ * Settings: notifications.batch.size (50), notifications.poll.seconds (15),
+ * notifications.max.attempts (6), notifications.retry.base.seconds (30),
+ * notifications.retry.max.seconds (3600), notifications.lease.seconds (120),
+ * mail.rate.per.second (5 per relay, 0 disables throttling).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final int BATCH_SIZE = AppConfig.getInt("notifications.batch.size", 50);
+    private static final int POLL_SECONDS = AppConfig.getInt("notifications.poll.seconds", 15);
+    private static final int MAX_ATTEMPTS = AppConfig.getInt("notifications.max.attempts", 6);
+    private static final long RETRY_BASE_SECONDS = AppConfig.getLong("notifications.retry.base.seconds", 30);
+    private static final long RETRY_MAX_SECONDS = AppConfig.getLong("notifications.retry.max.seconds", 3600);
+    private static final int LEASE_SECONDS = AppConfig.getInt("notifications.lease.seconds", 120);
+    private static final double RATE_PER_SECOND = AppConfig.getDouble("mail.rate.per.second", 5.0);
+
+    // One limiter per relay, so the provider does not reject a burst
+    private static final Map<String, RateLimiter> RELAY_LIMITERS = new ConcurrentHashMap<>();
+
+    private static NotificationDispatcher instance;
+
+    private final NotificationRepository repository;
+    private final EmailService emailService;
+    private final AtomicBoolean wakePending = new AtomicBoolean(false);
+    private final AtomicBoolean warnedUnconfigured = new AtomicBoolean(false);
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService senders;
+
+    /**
+     * Gets the application-wide dispatcher.
+     *
+     * @return the shared dispatcher
+     */
+    public static synchronized NotificationDispatcher getInstance() {
+        if (instance == null) {
+            instance = new NotificationDispatcher(new NotificationRepository(), new EmailService());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the outbox repository
+     * @param emailService the email service to deliver through
+     */
+    public NotificationDispatcher(NotificationRepository repository, EmailService emailService) {
+        this.repository = repository;
+        this.emailService = emailService;
+    }
+
+    /**
+     * Starts polling the outbox. Does nothing if already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            BackgroundLoader.daemonThreadFactory("notif1ed-outbox"));
+        scheduler.scheduleWithFixedDelay(this::drain, 0, POLL_SECONDS, TimeUnit.SECONDS);
+        log.info("Notification dispatcher started (batch {}, poll every {}s)", BATCH_SIZE, POLL_SECONDS);
+    }
+
+    /**
+     * Stops the dispatcher. Notifications being sent stay pending and are
+     * retried once their lease expires.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (senders != null) {
+            senders.shutdownNow();
+            senders = null;
+        }
+    }
+
+    /**
+     * Asks the dispatcher to drain the outbox now instead of at the next poll.
+     * Calls made while a wake-up is already queued are coalesced.
+     */
+    public synchronized void wakeUp() {
+        if (scheduler != null && wakePending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                wakePending.set(false);
+                drain();
+            });
+        }
+    }
+
+    /**
+     * Delivers due notifications batch by batch until the outbox has no more due rows.
+     */
+    private void drain() {
+        if (!emailService.isConfigured()) {
+            if (warnedUnconfigured.compareAndSet(false, true)) {
+                log.warn("Email is not configured; queued notifications will wait");
+            }
+            return;
+        }
+
+        try {
+            while (!Thread.currentThread().isInterrupted() && dispatchBatch() == BATCH_SIZE) {
+                log.debug("Outbox batch full, continuing");
+            }
+        } catch (SQLException e) {
+            log.warn("Notification dispatch paused until next poll: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Never let an exception cancel the periodic task
+            log.error("Unexpected error while dispatching notifications", e);
+        }
+    }
+
+    /**
+     * Gets the rate limiter shared by every send through the given relay.
+     *
+     * @param host the SMTP relay host
+     * @return the relay's limiter
+     */
+    private static RateLimiter relayLimiter(String host) {
+        return RELAY_LIMITERS.computeIfAbsent(host, h -> new RateLimiter(RATE_PER_SECOND));
+    }
+
+    /**
+     * Claims and sends one batch of due notifications.
+     *
+     * @return number of due notifications found
+     * @throws SQLException if the outbox could not be read or updated
+     * @throws InterruptedException if interrupted while sending
+     */
+    int dispatchBatch() throws SQLException, InterruptedException {
+        List<Notification> due = repository.findDue(BATCH_SIZE);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<Notification> claimed = repository.claim(due, LEASE_SECONDS);
+        RateLimiter limiter = relayLimiter(emailService.getRelayHost());
+
+        List<Callable<MessagingException>> sends = new ArrayList<>(claimed.size());
+        for (Notification notification : claimed) {
+            sends.add(() -> {
+                limiter.acquire();
+                try {
+                    emailService.send(notification.getRecipient(), notification.getTitle(), notification.getMessage());
+                    return null;
+                } catch (MessagingException e) {
+                    return e;
+                }
+            });
+        }
+
+        List<Future<MessagingException>> outcomes = senders().invokeAll(sends);
+        List<Integer> sent = new ArrayList<>();
+        int retried = 0;
+        int failed = 0;
+
+        for (int i = 0; i < claimed.size(); i++) {
+            Notification notification = claimed.get(i);
+            Exception error;
+            try {
+                error = outcomes.get(i).get();
+            } catch (ExecutionException e) {
+                error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+
+            if (error == null) {
+                sent.add(notification.getNotificationId());
+                continue;
+            }
+
+            int attempts = notification.getAttempts() + 1;
+            String reason = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+            if (error instanceof SendFailedException || attempts >= MAX_ATTEMPTS) {
+                // Rejected address or out of retries - retrying will not help
+                repository.markFailed(notification.getNotificationId(), reason);
+                failed++;
+                log.warn("Notification {} to {} failed permanently after {} attempt(s): {}",
+                    notification.getNotificationId(), notification.getRecipient(), attempts, reason);
+            } else {
+                repository.reschedule(notification.getNotificationId(), reason, backoffSeconds(attempts));
+                retried++;
+            }
+        }
+
+        repository.markSent(sent);
+        log.info("Outbox batch: {} sent, {} to retry, {} failed, {} claimed elsewhere",
+            sent.size(), retried, failed, due.size() - claimed.size());
+        return due.size();
+    }
+
+    /**
+     * Computes the delay before the next attempt: the base delay doubled for
+     * every failed attempt, capped at the configured maximum.
+     *
+     * @param failedAttempts number of attempts that have failed so far (at least 1)
+     * @return delay in seconds
+     */
+    static long backoffSeconds(int failedAttempts) {
+        int doublings = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        return Math.min(RETRY_BASE_SECONDS << doublings, RETRY_MAX_SECONDS);
+    }
+
+    private synchronized ExecutorService senders() {
+        if (senders == null) {
+            senders = Executors.newFixedThreadPool(Math.max(1, emailService.getPoolSize()),
+                BackgroundLoader.daemonThreadFactory("notif1ed-outbox-send"));
+        }
+        return senders;
+    }
+}
@@ -0,0 +1,169 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.NotificationRepository;
+import com.notif1ed.repository.NotificationRepository.Guardian;
+import com.notif1ed.util.SessionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service class for queueing email notifications.
+ * Every email goes through the outbox: queueing is a single insert per
+ * recipient, so callers never wait on SMTP, and the {@link NotificationDispatcher}
+ * delivers queued notifications in the background and records their status.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class NotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+    private final NotificationRepository repository;
+    private final NotificationDispatcher dispatcher;
+
+    /**
+     * Default constructor using the default repository and shared dispatcher.
+     */
+    public NotificationService() {
+        this(new NotificationRepository(), NotificationDispatcher.getInstance());
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the outbox repository to use
+     * @param dispatcher the dispatcher to wake after queueing
+     */
+    public NotificationService(NotificationRepository repository, NotificationDispatcher dispatcher) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Queues an Arrival or Departure notification to a student's guardian.
+     * The guardian's name and address are looked up now and stored with the
+     * notification.
+     *
+     * @param studentId the student ID
+     * @param subjectId the related subject ID (can be null)
+     * @param recordType the record type ("Arrival" or "Departure")
+     * @return true if queued, false if the student has no guardian email
+     * @throws SQLException if the notification could not be queued
+     */
+    public boolean queueAttendance(int studentId, Integer subjectId, String recordType) throws SQLException {
+        Optional<Guardian> guardian = repository.findGuardian(studentId);
+        if (guardian.isEmpty() || guardian.get().getEmail() == null || guardian.get().getEmail().isBlank()) {
+            log.warn("No guardian email for student ID {}; {} notification not queued", studentId, recordType);
+            return false;
+        }
+
+        String guardianName = guardian.get().getName() != null ? guardian.get().getName() : "";
+        String[] content = getNotificationContent(recordType, guardian.get().getStudentName(), guardianName);
+        repository.enqueue(studentId, subjectId, guardian.get().getEmail().trim(), content[0], content[1],
+            SessionManager.getInstance().getUserId());
+        dispatcher.wakeUp();
+        return true;
+    }
+
+    /**
+     * Queues an individual copy of the same message for each address.
+     *
+     * @param emails the recipient addresses
+     * @param title the email subject
+     * @param message the email body
+     * @return the IDs of the queued notifications, to follow with {@link #getStatusCounts(List)}
+     * @throws SQLException if the notifications could not be queued
+     */
+    public List<Integer> queueForEmails(Collection<String> emails, String title, String message) throws SQLException {
+        List<Integer> queued = repository.enqueueForEmails(emails, title, message, SessionManager.getInstance().getUserId());
+        if (!queued.isEmpty()) {
+            dispatcher.wakeUp();
+        }
+        return queued;
+    }
+
+    /**
+     * Counts the given notifications per status.
+     *
+     * @param notificationIds IDs returned by {@link #queueForEmails}
+     * @return map of status (pending, sent, failed) to count
+     * @throws SQLException if the counts could not be loaded
+     */
+    public Map<String, Long> getStatusCounts(List<Integer> notificationIds) throws SQLException {
+        return repository.countByStatus(notificationIds);
+    }
+
+    /**
+     * Withdraws the given notifications that have not been sent yet.
+     *
+     * @param notificationIds IDs returned by {@link #queueForEmails}
+     * @return number of notifications withdrawn
+     * @throws SQLException if the notifications could not be updated
+     */
+    public int cancel(List<Integer> notificationIds) throws SQLException {
+        int cancelled = repository.cancelPending(notificationIds, "Cancelled");
+        log.info("Cancelled {} queued notification(s)", cancelled);
+        return cancelled;
+    }
+
+    /**
+     * Counts outbox notifications per status.
+     *
+     * @return map of status (pending, sent, failed) to count
+     * @throws SQLException if the counts could not be loaded
+     */
+    public Map<String, Long> getStatusCounts() throws SQLException {
+        log.debug("Fetching notification status counts");
+        return repository.countByStatus();
+    }
+
+    /**
+     * Gets the email subject and message based on record type
+     * Returns a String array: [0] = subject, [1] = message
+     *
+     * @param recordType the record type ("Arrival" or anything else for dismissal)
+     * @param studentFullName the student's full name
+     * @param guardianName the guardian's name
+     * @return the subject and message
+     */
+    public static String[] getNotificationContent(String recordType, String studentFullName, String guardianName) {
+        LocalDateTime now = LocalDateTime.now();
+        String formattedTime = now.format(DateTimeFormatter.ofPattern("h:mm a"));
+        String formattedDate = now.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"));
+
+        String subject;
+        String message;
+
+        if ("Arrival".equalsIgnoreCase(recordType)) {
+            subject = "Attendance Notification";
+            message = String.format(
+                "Dear Mr/Ms %s,\n\n" +
+                "We would like to inform you that your child, %s, attended their class in CC103 at %s on %s.\n\n" +
+                "To confirm this update, you may contact your child directly or coordinate with their course professor.\n\n" +
+                "Thank you and have a great day.\n\n" +
+                "— Quezon City University",
+                guardianName, studentFullName, formattedTime, formattedDate
+            );
+        } else {
+            subject = "Dismissal Notification";
+            message = String.format(
+                "Dear Mr/Ms %s,\n\n" +
+                "We would like to inform you that your child, %s, was dismissed from their CC103 class at %s on %s.\n\n" +
+                "For any questions or further confirmation, you may contact your child directly or coordinate with their course professor.\n\n" +
+                "Thank you, and have a great day.\n\n" +
+                "— Quezon City University",
+                guardianName, studentFullName, formattedTime, formattedDate
+            );
+        }
+
+        return new String[]{subject, message};
+    }
+}
@@ -1,11 +1,15 @@
 package com.notif1ed.service;
 
+import com.notif1ed.model.RecordEntry;
+import com.notif1ed.repository.EnrollmentRepository.Enrollment;
 import com.notif1ed.repository.RecordRepository;
 import com.notif1ed.repository.RecordRepository.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,12 +24,13 @@ public class RecordService {
     
     private static final Logger log = LoggerFactory.getLogger(RecordService.class);
     private final RecordRepository repository;
+    private final NotificationService notificationService;
     
     /**
      * Default constructor using default repository.
      */
     public RecordService() {
-        this.repository = new RecordRepository();
+        this(new RecordRepository());
     }
     
     /**
@@ -34,7 +39,18 @@ public class RecordService {
      * @param repository the record repository to use
      */
     public RecordService(RecordRepository repository) {
+        this(repository, new NotificationService());
+    }
+    
+    /**
+     * Constructor for dependency injection (useful for testing).
+     * 
+     * @param repository the record repository to use
+     * @param notificationService queues guardian notifications for attendance records
+     */
+    public RecordService(RecordRepository repository, NotificationService notificationService) {
         this.repository = repository;
+        this.notificationService = notificationService;
     }
     
     /**
@@ -47,6 +63,37 @@ public class RecordService {
         return repository.findAll();
     }
     
+    /**
+     * Gets one page of records for display, newest first.
+     * 
+     * @param after the last entry of the previously loaded page, or null for the first page
+     * @param pageSize maximum number of entries to return
+     * @return the next page of records
+     * @throws SQLException if the page could not be loaded
+     */
+    public List<RecordEntry> getRecordPage(RecordEntry after, int pageSize) throws SQLException {
+        return getRecordPage(after, null, pageSize);
+    }
+    
+    /**
+     * Gets one page of the records matching a search, newest first. The
+     * search runs in the database, so it covers records not loaded yet.
+     * 
+     * @param after the last entry of the previously loaded page, or null for the first page
+     * @param query text to find in the student number, name, email or type; null or blank for all records
+     * @param pageSize maximum number of entries to return
+     * @return the next page of matching records
+     * @throws SQLException if the page could not be loaded
+     */
+    public List<RecordEntry> getRecordPage(RecordEntry after, String query, int pageSize) throws SQLException {
+        LocalDateTime cursor = after == null ? null : LocalDateTime.of(after.getDate(), after.getTime());
+        int afterId = after == null ? 0 : after.getId();
+        if (query == null || query.isBlank()) {
+            return repository.findPage(cursor, afterId, pageSize);
+        }
+        return repository.searchPage(cursor, afterId, query.trim(), pageSize);
+    }
+    
     /**
      * Gets records filtered by type.
      * 
@@ -82,17 +129,44 @@ public class RecordService {
     }
     
     /**
-     * Adds a new record.
+     * Adds a new record. Arrival and Departure records also queue a
+     * notification to the student's guardian.
      * 
      * @param studentId the student ID
      * @param subjectId the subject ID (can be null)
-     * @param recordType the record type (e.g., "EMAIL_SENT", "STUDENT_ADDED", "ENROLLMENT")
+     * @param recordType the record type (e.g., "Arrival", "EMAIL_SENT", "STUDENT_ADDED", "ENROLLMENT")
      * @param recordData additional data about the record
      * @return true if added successfully
      */
     public boolean addRecord(int studentId, Integer subjectId, String recordType, String recordData) {
         log.info("Adding new record: {} for student ID: {}", recordType, studentId);
-        return repository.save(studentId, subjectId, recordType, recordData);
+        boolean saved = repository.save(studentId, subjectId, recordType, recordData);
+        if (saved && isAttendance(recordType)) {
+            try {
+                notificationService.queueAttendance(studentId, subjectId, recordType);
+            } catch (SQLException e) {
+                // The record stands; only the guardian email is missing
+                log.error("Could not queue {} notification for student ID: {}", recordType, studentId, e);
+            }
+        }
+        return saved;
+    }
+    
+    /**
+     * Records a student's arrival or departure and notifies their guardian.
+     * Convenience method for common record type.
+     * 
+     * @param studentId the student ID
+     * @param subjectId the subject ID (can be null)
+     * @param arrival true for an Arrival, false for a Departure
+     * @return true if recorded successfully
+     */
+    public boolean recordAttendance(int studentId, Integer subjectId, boolean arrival) {
+        return addRecord(studentId, subjectId, arrival ? "Arrival" : "Departure", null);
+    }
+    
+    private static boolean isAttendance(String recordType) {
+        return "Arrival".equalsIgnoreCase(recordType) || "Departure".equalsIgnoreCase(recordType);
     }
     
     /**
@@ -156,7 +230,32 @@ public class RecordService {
      * @return true if recorded successfully
      */
     public boolean recordEnrollment(int studentId, int subjectId, String studentNumber, String subjectCode) {
-        String recordData = "Student " + studentNumber + " enrolled in subject " + subjectCode;
-        return addRecord(studentId, subjectId, "ENROLLMENT", recordData);
+        return addRecord(studentId, subjectId, "ENROLLMENT", enrollmentData(studentNumber, subjectCode));
+    }
+    
+    /**
+     * Records the enrollment events of a bulk enrollment in one batch.
+     * 
+     * @param subjectId the subject ID
+     * @param subjectCode the subject code
+     * @param enrollments the enrolled students
+     * @return number of records written
+     * @throws SQLException if the records could not be saved
+     */
+    public int recordEnrollments(int subjectId, String subjectCode, List<Enrollment> enrollments) throws SQLException {
+        List<Record> records = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            Record record = new Record();
+            record.setStudentId(enrollment.getStudentId());
+            record.setSubjectId(subjectId);
+            record.setRecordType("ENROLLMENT");
+            record.setRecordData(enrollmentData(enrollment.getStudentNumber(), subjectCode));
+            records.add(record);
+        }
+        return repository.saveAll(records);
+    }
+    
+    private static String enrollmentData(String studentNumber, String subjectCode) {
+        return "Student " + studentNumber + " enrolled in subject " + subjectCode;
     }
 }
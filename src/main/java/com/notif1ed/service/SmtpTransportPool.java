@@ -0,0 +1,106 @@
+package com.notif1ed.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.mail.MessagingException;
+import javax.mail.NoSuchProviderException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Small fixed-size pool of SMTP transports.
+ * Each transport is connected (TLS handshake + AUTH) on first use and then kept
+ * open across messages, so a bulk send pays the connection cost once per
+ * transport instead of once per message.
+ * 
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class SmtpTransportPool implements AutoCloseable {
+    
+    private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+    
+    private final Session session;
+    private final BlockingQueue<Transport> idle;
+    
+    /**
+     * Creates a pool of unconnected transports.
+     * 
+     * @param session the mail session (carries host, port and authenticator)
+     * @param size number of transports
+     * @throws NoSuchProviderException if the SMTP provider is unavailable
+     */
+    public SmtpTransportPool(Session session, int size) throws NoSuchProviderException {
+        this.session = session;
+        this.idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            idle.add(session.getTransport("smtp"));
+        }
+    }
+    
+    /**
+     * Borrows a connected transport, waiting if all are in use.
+     * 
+     * @return a connected transport; must be handed back with {@link #release}
+     * @throws MessagingException if connecting fails
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Transport borrow() throws MessagingException, InterruptedException {
+        Transport transport = idle.take();
+        try {
+            if (!transport.isConnected()) {
+                transport.connect();
+                log.debug("SMTP transport connected");
+            }
+            return transport;
+        } catch (MessagingException | RuntimeException e) {
+            // Put back an unconnected transport so the pool keeps its size
+            idle.offer(session.getTransport("smtp"));
+            throw e;
+        }
+    }
+    
+    /**
+     * Returns a transport to the pool.
+     * 
+     * @param transport the borrowed transport
+     * @param healthy false if the last send failed at the connection level; the
+     *                transport is then closed and replaced
+     */
+    public void release(Transport transport, boolean healthy) {
+        if (healthy) {
+            idle.offer(transport);
+            return;
+        }
+        closeQuietly(transport);
+        try {
+            idle.offer(session.getTransport("smtp"));
+        } catch (NoSuchProviderException e) {
+            log.error("Could not replace SMTP transport", e);
+        }
+    }
+    
+    /**
+     * Closes every idle transport.
+     */
+    @Override
+    public void close() {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            closeQuietly(transport);
+        }
+    }
+    
+    private static void closeQuietly(Transport transport) {
+        try {
+            if (transport.isConnected()) {
+                transport.close();
+            }
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP transport", e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.ChangeStamp;
+import com.notif1ed.util.AppConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of a whole table as an immutable, versioned list.
+ *
+ * Within cache.probe.seconds (default 30) of the last check a read returns
+ * the cached list without touching the database. After that, a read runs
+ * the change probe (row count and latest updated_at) and reloads the list
+ * only if the stamp differs from the one taken with the snapshot, so changes
+ * made on other workstations show up within one probe interval. Writes made
+ * through the owning service patch or invalidate the snapshot directly.
+ *
+ * A failed load is never cached: the previous list, if any, is served until
+ * the next read retries, and with nothing cached the error reaches the caller.
+ *
+ * Lists longer than cache.max.rows (default 50000) are not kept. Every new
+ * list gets a higher version, so callers can skip work derived from an
+ * unchanged list. Reads are serialized, so concurrent callers share one load.
+ *
+ * @param <T> row type
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class SnapshotCache<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotCache.class);
+    private static final long DEFAULT_PROBE_MILLIS = TimeUnit.SECONDS.toMillis(Math.max(0, AppConfig.getLong("cache.probe.seconds", 30)));
+    private static final int DEFAULT_MAX_ROWS = AppConfig.getInt("cache.max.rows", 50000);
+
+    private final String name;
+    private final Loader<T> loader;
+    private final StampProbe probe;
+    private final long probeIntervalNanos;
+    private final int maxRows;
+
+    private Snapshot<T> snapshot;
+    private long lastVersion;
+
+    /**
+     * Creates a cache with the configured probe interval and size limit.
+     *
+     * @param name the cache name (for logging)
+     * @param loader reads the whole list
+     * @param probe reads the table's current change stamp
+     */
+    public SnapshotCache(String name, Loader<T> loader, StampProbe probe) {
+        this(name, loader, probe, DEFAULT_PROBE_MILLIS, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param name the cache name (for logging)
+     * @param loader reads the whole list
+     * @param probe reads the table's current change stamp
+     * @param probeIntervalMillis how long a checked snapshot is served without probing
+     * @param maxRows the longest list kept
+     */
+    public SnapshotCache(String name, Loader<T> loader, StampProbe probe, long probeIntervalMillis, int maxRows) {
+        this.name = name;
+        this.loader = loader;
+        this.probe = probe;
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(probeIntervalMillis);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Returns the current list, probing or reloading as needed.
+     *
+     * @return the snapshot
+     * @throws SQLException if the list had to be loaded, the load failed and nothing is cached
+     */
+    public synchronized Snapshot<T> get() throws SQLException {
+        long now = System.nanoTime();
+        Snapshot<T> current = snapshot;
+        ChangeStamp stamp = null;
+
+        if (current != null) {
+            if (now - current.checkedAt < probeIntervalNanos) {
+                return current;
+            }
+            try {
+                stamp = probe.fetch();
+            } catch (SQLException e) {
+                // Without a probe a reload would most likely fail too
+                log.warn("Change probe for {} failed, serving cached version {}", name, current.version, e);
+                return current;
+            }
+            if (stamp != null && stamp.equals(current.stamp)) {
+                snapshot = new Snapshot<>(current.items, current.version, current.stamp, now);
+                return snapshot;
+            }
+            log.debug("{} changed ({} -> {}), reloading", name, current.stamp, stamp);
+        } else {
+            try {
+                stamp = probe.fetch();
+            } catch (SQLException e) {
+                log.warn("Change probe for {} failed; the next read will reload", name, e);
+            }
+        }
+
+        // The stamp is taken before the load, so a change in between is caught by the next probe
+        List<T> loadedItems;
+        try {
+            loadedItems = loader.load();
+        } catch (SQLException e) {
+            if (current == null) {
+                throw e;
+            }
+            // Not re-stamped, so the next read retries the load
+            log.warn("Reloading {} failed, serving cached version {}", name, current.version, e);
+            return current;
+        }
+        List<T> items = Collections.unmodifiableList(new ArrayList<>(loadedItems));
+        Snapshot<T> loaded = new Snapshot<>(items, ++lastVersion, stamp, now);
+        snapshot = items.size() <= maxRows ? loaded : null;
+        return loaded;
+    }
+
+    /**
+     * Applies a local change to the cached list, if one is cached. The table's
+     * stamp has moved with the write, so the next probe reloads once to pick up
+     * the database's view of the row.
+     *
+     * @param change receives a mutable copy of the list and returns the new list
+     * @return the new version, or 0 if nothing was cached
+     */
+    public synchronized long patch(UnaryOperator<List<T>> change) {
+        Snapshot<T> current = snapshot;
+        if (current == null) {
+            return 0;
+        }
+        List<T> items = Collections.unmodifiableList(new ArrayList<>(change.apply(new ArrayList<>(current.items))));
+        if (items.size() > maxRows) {
+            snapshot = null;
+            return 0;
+        }
+        snapshot = new Snapshot<>(items, ++lastVersion, current.stamp, current.checkedAt);
+        return snapshot.version;
+    }
+
+    /**
+     * Applies changes read from the database between two stamps, so the
+     * snapshot moves to the newer stamp without a reload. Only applies if the
+     * snapshot was taken at the older stamp; if the patched list's size does
+     * not match the newer stamp's row count (a delete was missed), the
+     * snapshot is dropped instead.
+     *
+     * @param from the stamp the changes start from
+     * @param to the stamp the changes lead to
+     * @param change receives a mutable copy of the list and returns the new list
+     * @return the new version, or 0 if the changes were not applied
+     */
+    public synchronized long advance(ChangeStamp from, ChangeStamp to, UnaryOperator<List<T>> change) {
+        Snapshot<T> current = snapshot;
+        if (current == null || from == null || to == null || !from.equals(current.stamp)) {
+            return 0;
+        }
+        List<T> items = Collections.unmodifiableList(new ArrayList<>(change.apply(new ArrayList<>(current.items))));
+        if (items.size() != to.getRowCount() || items.size() > maxRows) {
+            log.debug("{} no longer matches {} after applying changes, dropping it", name, to);
+            snapshot = null;
+            return 0;
+        }
+        snapshot = new Snapshot<>(items, ++lastVersion, to, System.nanoTime());
+        return snapshot.version;
+    }
+
+    /**
+     * Drops the cached list; the next read reloads it.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Reads the whole list.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        List<T> load() throws SQLException;
+    }
+
+    /**
+     * Reads a table's change stamp.
+     */
+    @FunctionalInterface
+    public interface StampProbe {
+        ChangeStamp fetch() throws SQLException;
+    }
+
+    /**
+     * An immutable list and its version.
+     *
+     * @param <T> row type
+     */
+    public static final class Snapshot<T> {
+        private final List<T> items;
+        private final long version;
+        private final ChangeStamp stamp;
+        private final long checkedAt;
+
+        private Snapshot(List<T> items, long version, ChangeStamp stamp, long checkedAt) {
+            this.items = Objects.requireNonNull(items);
+            this.version = version;
+            this.stamp = stamp;
+            this.checkedAt = checkedAt;
+        }
+
+        public List<T> getItems() { return items; }
+        public long getVersion() { return version; }
+    }
+}
@@ -0,0 +1,400 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.repository.StudentRepository.BatchInserter;
+import com.notif1ed.repository.StudentRepository.ImportResult;
+import com.notif1ed.repository.StudentRepository.ImportRow;
+import com.notif1ed.repository.StudentRepository.RowError;
+import com.notif1ed.util.AppConfig;
+import com.notif1ed.util.MetricsRegistry;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Service class for importing students from Excel sheets.
+ * Rows are validated as they are read and passed straight to the repository's
+ * batched insert; invalid rows are reported, never fatal.
+ *
+ * .xlsx files are read with POI's streaming SAX API (XSSFReader), so memory use
+ * stays flat regardless of sheet size. .xls files, and .xlsx files when
+ * import.xlsx.streaming=false, are loaded as a full workbook.
+ *
+ * Expected columns: Student Number, First Name, Last Name, Section,
+ * Student Email, Guardian Name, Guardian Email (header in the first row).
+ * Setting: import.batch.size (default 500 rows per batch and transaction).
+ *
+ * @author Notif1ed Development Team
+ * @version 1.1.0
+ */
+public class StudentImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentImportService.class);
+    private static final int BATCH_SIZE = Math.max(1, AppConfig.getInt("import.batch.size", 500));
+    private static final boolean STREAM_XLSX = AppConfig.getBoolean("import.xlsx.streaming", true);
+    private static final int COLUMN_COUNT = 7;
+
+    private final StudentRepository repository;
+
+    /**
+     * Default constructor using default repository.
+     */
+    public StudentImportService() {
+        this(new StudentRepository());
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param repository the student repository to use
+     */
+    public StudentImportService(StudentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Receives import progress. Called from the importing thread.
+     */
+    public interface ProgressListener {
+        /**
+         * @param workDone work done so far (rows, or bytes of the sheet when streaming)
+         * @param total total work, or -1 if unknown
+         */
+        void onProgress(long workDone, long total);
+    }
+
+    /**
+     * Receives the cell values of one data row.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * @param rowNumber the 1-based row number in the sheet
+         * @param values the cell values in template column order
+         * @throws SQLException if the row could not be stored
+         */
+        void row(int rowNumber, List<String> values) throws SQLException;
+    }
+
+    /**
+     * Imports every student row of the first sheet of an Excel file.
+     *
+     * @param file the .xlsx or .xls file
+     * @param listener progress callback (may be null)
+     * @return the number of imported students and the rows that were rejected
+     * @throws IOException if the file could not be read
+     * @throws SQLException if the database could not be reached
+     */
+    public ImportResult importFromExcel(File file, ProgressListener listener) throws IOException, SQLException {
+        List<RowError> rejected = new ArrayList<>();
+        ImportResult inserted;
+        long started = System.nanoTime();
+
+        try (BatchInserter inserter = repository.openBatchInserter(BATCH_SIZE, null)) {
+            readRows(file, (rowNumber, values) -> {
+                ImportRow row = parseRow(rowNumber, values, rejected);
+                if (row != null) {
+                    inserter.add(row);
+                }
+            }, listener);
+            inserted = inserter.finish();
+        } finally {
+            // Chunks commit as they go, so even a failed import may have added students
+            StudentService.invalidateCache();
+        }
+
+        List<RowError> errors = new ArrayList<>(rejected);
+        errors.addAll(inserted.getErrors());
+        errors.sort(Comparator.comparingInt(RowError::getRowNumber));
+
+        MetricsRegistry.getInstance().timer("job.import.excel").recordSince(started);
+        log.info("Excel import of {} completed: {} success, {} errors",
+            file.getName(), inserted.getInsertedCount(), errors.size());
+        return new ImportResult(inserted.getInsertedCount(), errors);
+    }
+
+    /**
+     * Validates one sheet row.
+     *
+     * @param rowNumber the 1-based row number in the sheet
+     * @param values the cell values in template column order
+     * @param errors receives the reason if the row is rejected
+     * @return the row to import, or null if it is blank or invalid
+     */
+    ImportRow parseRow(int rowNumber, List<String> values, List<RowError> errors) {
+        String studentNumber = value(values, 0);
+        String firstName = value(values, 1);
+        String lastName = value(values, 2);
+        String section = value(values, 3);
+        String studentEmail = value(values, 4);
+        String guardianName = value(values, 5);
+        String guardianEmail = value(values, 6);
+
+        if (studentNumber.isEmpty() && firstName.isEmpty() && lastName.isEmpty() && studentEmail.isEmpty()) {
+            return null; // Blank row
+        }
+
+        // Validate required fields
+        if (studentNumber.isEmpty() || firstName.isEmpty() || lastName.isEmpty() ||
+            studentEmail.isEmpty() || guardianName.isEmpty() || guardianEmail.isEmpty()) {
+            errors.add(new RowError(rowNumber, "Missing required fields"));
+            return null;
+        }
+
+        StudentEntry student = new StudentEntry(studentNumber, firstName, lastName, studentEmail);
+        student.setSection(section);
+        student.setGuardianName(guardianName);
+        student.setGuardianEmail(guardianEmail);
+        return new ImportRow(rowNumber, student);
+    }
+
+    /**
+     * Reads the data rows (everything after the header) of the first sheet.
+     *
+     * @param file the .xlsx or .xls file
+     * @param handler receives each row as it is read
+     * @param listener progress callback (may be null)
+     * @throws IOException if the file could not be read
+     * @throws SQLException if the handler failed to store a row
+     */
+    void readRows(File file, RowHandler handler, ProgressListener listener) throws IOException, SQLException {
+        if (STREAM_XLSX && file.getName().toLowerCase().endsWith(".xlsx")) {
+            readXlsxStreaming(file, handler, listener);
+        } else {
+            readWorkbook(file, handler, listener);
+        }
+    }
+
+    /**
+     * Streams the first sheet through the SAX event API. Only the current row,
+     * the shared strings table and the styles are held in memory.
+     */
+    private void readXlsxStreaming(File file, RowHandler handler, ProgressListener listener) throws IOException, SQLException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IOException("The workbook has no sheets");
+            }
+
+            try (InputStream sheetData = sheets.next();
+                 CountingInputStream counted = new CountingInputStream(sheetData)) {
+                long sheetSize = sheets.getSheetPart().getSize();
+                RowCollector collector = new RowCollector(handler, () -> {
+                    if (listener != null) {
+                        listener.onProgress(counted.getCount(), sheetSize > 0 ? sheetSize : -1);
+                    }
+                });
+
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                    styles, null, strings, collector, new DataFormatter(), false));
+                parser.parse(new InputSource(counted));
+                log.debug("Streamed {} rows from {}", collector.getRowCount(), file.getName());
+            }
+        } catch (RowStoreException e) {
+            throw e.getCause();
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read " + file.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the whole workbook (needed for .xls) and walks the first sheet.
+     */
+    private void readWorkbook(File file, RowHandler handler, ProgressListener listener) throws IOException, SQLException {
+        try (Workbook workbook = WorkbookFactory.create(file, null, true)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            int lastRow = sheet.getLastRowNum();
+
+            // Skip header row (row 0)
+            for (int i = 1; i <= lastRow; i++) {
+                Row row = sheet.getRow(i);
+                if (row == null) continue;
+
+                List<String> values = new ArrayList<>(COLUMN_COUNT);
+                for (int c = 0; c < COLUMN_COUNT; c++) {
+                    values.add(getCellValue(row.getCell(c)));
+                }
+                handler.row(i + 1, values);
+
+                if (listener != null) {
+                    listener.onProgress(i, lastRow);
+                }
+            }
+        }
+    }
+
+    private static String value(List<String> values, int index) {
+        if (index >= values.size() || values.get(index) == null) {
+            return "";
+        }
+        return values.get(index).trim();
+    }
+
+    /**
+     * Helper method to get cell value as string
+     */
+    private static String getCellValue(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue().trim();
+            case NUMERIC -> String.valueOf((long) cell.getNumericCellValue());
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            case FORMULA -> cell.getCellFormula();
+            default -> "";
+        };
+    }
+
+    /**
+     * Collects SAX cell events into one row of values at a time.
+     */
+    private static class RowCollector implements SheetContentsHandler {
+        // Report progress every this many rows
+        private static final int PROGRESS_INTERVAL = 200;
+
+        private final RowHandler handler;
+        private final Runnable progress;
+        private final String[] values = new String[COLUMN_COUNT];
+        private int nextColumn;
+        private int rowCount;
+
+        RowCollector(RowHandler handler, Runnable progress) {
+            this.handler = handler;
+            this.progress = progress;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(values, "");
+            nextColumn = 0;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Empty cells produce no event, so take the column from the reference when present
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            if (column < COLUMN_COUNT) {
+                values[column] = formattedValue == null ? "" : formattedValue.trim();
+            }
+            nextColumn = column + 1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                return; // Header row
+            }
+            try {
+                handler.row(rowNum + 1, Arrays.asList(values.clone()));
+            } catch (SQLException e) {
+                throw new RowStoreException(e);
+            }
+            if (++rowCount % PROGRESS_INTERVAL == 0) {
+                progress.run();
+            }
+        }
+
+        @Override
+        public void endSheet() {
+            progress.run();
+        }
+
+        int getRowCount() {
+            return rowCount;
+        }
+    }
+
+    /**
+     * Carries a database failure out of the SAX callbacks, which cannot throw checked exceptions.
+     */
+    private static class RowStoreException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        RowStoreException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    /**
+     * Counts bytes read so streaming progress can be reported against the sheet size.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
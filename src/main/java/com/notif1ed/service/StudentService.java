@@ -2,15 +2,23 @@ package com.notif1ed.service;
 
 import com.notif1ed.model.StudentEntry;
 import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.util.StudentSearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Service class for student business logic.
  * Acts as an intermediary between controllers and repositories.
+ * The student list is served from a {@link SnapshotCache}, which the add,
+ * update and delete methods patch in place.
  * 
  * @author Notif1ed Development Team
  * @version 1.0.0
@@ -18,13 +26,25 @@ import java.util.Optional;
 public class StudentService {
     
     private static final Logger log = LoggerFactory.getLogger(StudentService.class);
+    // Same order as SELECT_ALL_STUDENTS, so patched lists match reloaded ones
+    private static final Comparator<StudentEntry> BY_STUDENT_NUMBER =
+        Comparator.comparing(StudentEntry::getStudentNumber, String.CASE_INSENSITIVE_ORDER);
+    // Repository, student list and search index shared by all default-constructed services
+    private static final StudentRepository REPOSITORY = new StudentRepository();
+    private static final SnapshotCache<StudentEntry> STUDENTS =
+        new SnapshotCache<>("students", REPOSITORY::fetchAll, REPOSITORY::fetchChangeStamp);
+    private static final StudentSearchIndex DIRECTORY = new StudentSearchIndex();
     private final StudentRepository repository;
+    private final StudentSearchIndex directory;
+    private final SnapshotCache<StudentEntry> cache;
+    // Version of the student list the search index was last rebuilt from
+    private volatile long indexedVersion;
     
     /**
      * Constructor with dependency injection.
      */
     public StudentService() {
-        this.repository = new StudentRepository();
+        this(REPOSITORY, DIRECTORY, STUDENTS);
     }
     
     /**
@@ -33,16 +53,67 @@ public class StudentService {
      * @param repository the repository to use
      */
     public StudentService(StudentRepository repository) {
+        this(repository, new StudentSearchIndex());
+    }
+    
+    /**
+     * Constructor for testing with mock repository and search index.
+     * 
+     * @param repository the repository to use
+     * @param directory the search index to keep up to date
+     */
+    public StudentService(StudentRepository repository, StudentSearchIndex directory) {
+        this(repository, directory,
+            new SnapshotCache<>("students", repository::fetchAll, repository::fetchChangeStamp));
+    }
+    
+    /**
+     * Constructor for testing with mock repository, search index and cache.
+     * 
+     * @param repository the repository to use
+     * @param directory the search index to keep up to date
+     * @param cache the student list cache, reading from the repository
+     */
+    public StudentService(StudentRepository repository, StudentSearchIndex directory, SnapshotCache<StudentEntry> cache) {
         this.repository = repository;
+        this.directory = directory;
+        this.cache = cache;
+    }
+    
+    /**
+     * Drops the shared student list, for code that changes students without
+     * going through a StudentService (imports, the standalone forms).
+     */
+    public static void invalidateCache() {
+        STUDENTS.invalidate();
+    }
+    
+    /**
+     * Gets all students, from the cache while the table is unchanged.
+     * The search index is rebuilt whenever the list has changed.
+     * 
+     * @return unmodifiable list of all students, ordered by student number
+     * @throws SQLException if the students could not be loaded and none are cached
+     */
+    public List<StudentEntry> getAllStudents() throws SQLException {
+        SnapshotCache.Snapshot<StudentEntry> snapshot = cache.get();
+        if (snapshot.getVersion() != indexedVersion) {
+            directory.rebuild(snapshot.getItems());
+            indexedVersion = snapshot.getVersion();
+        }
+        return snapshot.getItems();
     }
     
     /**
-     * Gets all students.
+     * Finds students by student number, names or email, from the search index.
+     * The index holds the students of the last {@link #getAllStudents()} call,
+     * kept up to date by the add, update and delete methods.
      * 
-     * @return list of all students
+     * @param query the search text
+     * @return a filter matching the found students (everything for a blank query)
      */
-    public List<StudentEntry> getAllStudents() {
-        return repository.findAll();
+    public Predicate<StudentEntry> searchFilter(String query) {
+        return directory.filter(query);
     }
     
     /**
@@ -66,7 +137,13 @@ public class StudentService {
      */
     public boolean addStudent(StudentEntry student, String guardianName, String guardianEmail, String section) {
         log.info("Adding new student: {}", student.getStudentNumber());
-        return repository.save(student, guardianName, guardianEmail, section);
+        boolean saved = repository.save(student, guardianName, guardianEmail, section);
+        if (saved) {
+            withGuardian(student, guardianName, guardianEmail);
+            directory.put(student);
+            putCached(student);
+        }
+        return saved;
     }
     
     /**
@@ -80,7 +157,19 @@ public class StudentService {
      */
     public boolean updateStudent(StudentEntry student, String guardianName, String guardianEmail, String section) {
         log.info("Updating student: {}", student.getStudentNumber());
-        return repository.update(student, guardianName, guardianEmail, section);
+        boolean updated = repository.update(student, guardianName, guardianEmail, section);
+        if (updated) {
+            withGuardian(student, guardianName, guardianEmail);
+            directory.put(student);
+            putCached(student);
+        }
+        return updated;
+    }
+    
+    // Cached entries carry the guardian, not the student's own address, as their guardian email
+    private static void withGuardian(StudentEntry student, String guardianName, String guardianEmail) {
+        student.setGuardianName(guardianName);
+        student.setGuardianEmail(guardianEmail == null || guardianEmail.isBlank() ? null : guardianEmail.trim());
     }
     
     /**
@@ -91,7 +180,41 @@ public class StudentService {
      */
     public boolean deleteStudent(String studentNumber) {
         log.info("Deleting student: {}", studentNumber);
-        return repository.delete(studentNumber);
+        boolean deleted = repository.delete(studentNumber);
+        if (deleted) {
+            directory.remove(studentNumber);
+            patchCache(students -> {
+                students.removeIf(s -> studentNumber.equals(s.getStudentNumber()));
+                return students;
+            });
+        }
+        return deleted;
+    }
+    
+    /**
+     * Applies students changed on other workstations, reported by the
+     * {@link ChangeFeed}, to the search index and the cached list.
+     * 
+     * @param delta the changed students
+     */
+    public void applyChanges(ChangeFeed.Delta<StudentEntry> delta) {
+        for (StudentEntry student : delta.getRows()) {
+            directory.put(student);
+        }
+        long version = cache.advance(delta.getPrevious(), delta.getCurrent(), students -> {
+            delta.applyTo(students, BY_STUDENT_NUMBER);
+            return students;
+        });
+        markIndexed(version);
+    }
+    
+    /**
+     * Order of the student list, which also identifies students.
+     * 
+     * @return comparator by student number, ignoring case
+     */
+    public static Comparator<StudentEntry> byStudentNumber() {
+        return BY_STUDENT_NUMBER;
     }
     
     /**
@@ -103,4 +226,27 @@ public class StudentService {
     public String generateNextStudentNumber(String yearPrefix) {
         return repository.getNextStudentNumber(yearPrefix);
     }
+    
+    /**
+     * Adds or replaces a student in the cached list, keeping it sorted.
+     */
+    private void putCached(StudentEntry student) {
+        patchCache(students -> {
+            students.removeIf(s -> student.getStudentNumber().equals(s.getStudentNumber()));
+            int index = Collections.binarySearch(students, student, BY_STUDENT_NUMBER);
+            students.add(index < 0 ? -index - 1 : index, student);
+            return students;
+        });
+    }
+    
+    private void patchCache(UnaryOperator<List<StudentEntry>> change) {
+        markIndexed(cache.patch(change));
+    }
+    
+    private void markIndexed(long version) {
+        // The index was patched alongside, so it already matches the new version
+        if (version != 0 && indexedVersion == version - 1) {
+            indexedVersion = version;
+        }
+    }
 }
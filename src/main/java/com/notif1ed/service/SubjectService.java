@@ -5,12 +5,16 @@ import com.notif1ed.repository.SubjectRepository.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.SQLException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Service class for Subject business logic.
  * Provides high-level operations for subject management.
+ * The subject list is served from a {@link SnapshotCache}; updates and
+ * deletes patch it, new subjects (whose IDs are not known here) invalidate it.
  * 
  * @author Notif1ed Development Team
  * @version 1.0.0
@@ -18,13 +22,21 @@ import java.util.Optional;
 public class SubjectService {
     
     private static final Logger log = LoggerFactory.getLogger(SubjectService.class);
+    // Same order as the subject list query
+    private static final Comparator<Subject> BY_SUBJECT_CODE =
+        Comparator.comparing(Subject::getSubjectCode, String.CASE_INSENSITIVE_ORDER);
+    // Repository and subject list shared by all default-constructed services
+    private static final SubjectRepository REPOSITORY = new SubjectRepository();
+    private static final SnapshotCache<Subject> SUBJECTS =
+        new SnapshotCache<>("subjects", REPOSITORY::fetchAll, REPOSITORY::fetchChangeStamp);
     private final SubjectRepository repository;
+    private final SnapshotCache<Subject> cache;
     
     /**
      * Default constructor using default repository.
      */
     public SubjectService() {
-        this.repository = new SubjectRepository();
+        this(REPOSITORY, SUBJECTS);
     }
     
     /**
@@ -33,17 +45,38 @@ public class SubjectService {
      * @param repository the subject repository to use
      */
     public SubjectService(SubjectRepository repository) {
+        this(repository, new SnapshotCache<>("subjects", repository::fetchAll, repository::fetchChangeStamp));
+    }
+    
+    /**
+     * Constructor for dependency injection (useful for testing).
+     * 
+     * @param repository the subject repository to use
+     * @param cache the subject list cache, reading from the repository
+     */
+    public SubjectService(SubjectRepository repository, SnapshotCache<Subject> cache) {
         this.repository = repository;
+        this.cache = cache;
+    }
+    
+    /**
+     * Drops the shared subject list, for code that changes subjects without
+     * going through a SubjectService (the standalone form).
+     */
+    public static void invalidateCache() {
+        SUBJECTS.invalidate();
     }
     
     /**
-     * Retrieves all subjects.
+     * Retrieves all subjects, from the cache while the table is unchanged.
+     * The returned subjects are shared with the cache and must not be modified.
      * 
-     * @return list of all subjects
+     * @return unmodifiable list of all subjects, ordered by subject code
+     * @throws SQLException if the subjects could not be loaded and none are cached
      */
-    public List<Subject> getAllSubjects() {
+    public List<Subject> getAllSubjects() throws SQLException {
         log.debug("Fetching all subjects");
-        return repository.findAll();
+        return cache.get().getItems();
     }
     
     /**
@@ -76,7 +109,11 @@ public class SubjectService {
             return false;
         }
         
-        return repository.save(subjectCode, subjectName, yearLevel, section, description);
+        boolean saved = repository.save(subjectCode, subjectName, yearLevel, section, description);
+        if (saved) {
+            cache.invalidate();
+        }
+        return saved;
     }
     
     /**
@@ -98,7 +135,16 @@ public class SubjectService {
             return false;
         }
         
-        return repository.update(subjectCode, subjectName, yearLevel, section, description);
+        boolean updated = repository.update(subjectCode, subjectName, yearLevel, section, description);
+        if (updated) {
+            cache.patch(subjects -> {
+                subjects.replaceAll(subject -> subjectCode.equals(subject.getSubjectCode())
+                    ? withChanges(subject, subjectName, yearLevel, section, description)
+                    : subject);
+                return subjects;
+            });
+        }
+        return updated;
     }
     
     /**
@@ -109,7 +155,27 @@ public class SubjectService {
      */
     public boolean deleteSubject(String subjectCode) {
         log.info("Deleting subject: {}", subjectCode);
-        return repository.delete(subjectCode);
+        boolean deleted = repository.delete(subjectCode);
+        if (deleted) {
+            cache.patch(subjects -> {
+                subjects.removeIf(subject -> subjectCode.equals(subject.getSubjectCode()));
+                return subjects;
+            });
+        }
+        return deleted;
+    }
+    
+    /**
+     * Applies subjects changed on other workstations, reported by the
+     * {@link ChangeFeed}, to the cached list.
+     * 
+     * @param delta the changed subjects
+     */
+    public void applyChanges(ChangeFeed.Delta<Subject> delta) {
+        cache.advance(delta.getPrevious(), delta.getCurrent(), subjects -> {
+            delta.applyTo(subjects, BY_SUBJECT_CODE);
+            return subjects;
+        });
     }
     
     /**
@@ -121,4 +187,18 @@ public class SubjectService {
     public boolean subjectExists(String subjectCode) {
         return repository.findByCode(subjectCode).isPresent();
     }
+    
+    /**
+     * Copies a cached subject with new values, leaving the cached one untouched.
+     */
+    private static Subject withChanges(Subject original, String subjectName, int yearLevel, String section, String description) {
+        Subject subject = new Subject();
+        subject.setSubjectId(original.getSubjectId());
+        subject.setSubjectCode(original.getSubjectCode());
+        subject.setSubjectName(subjectName);
+        subject.setYearLevel(yearLevel);
+        subject.setSection(section);
+        subject.setDescription(description);
+        return subject;
+    }
 }
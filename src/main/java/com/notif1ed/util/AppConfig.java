@@ -0,0 +1,128 @@
+package com.notif1ed.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Read-only access to tunable settings in application.properties.
+ * A JVM system property with the same key (-Dkey=value) takes precedence,
+ * which makes per-workstation tuning possible without rebuilding.
+ * 
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class AppConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(AppConfig.class);
+    private static final Properties properties = load();
+    
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AppConfig() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+    
+    private static Properties load() {
+        Properties props = new Properties();
+        try (InputStream input = AppConfig.class
+                .getClassLoader()
+                .getResourceAsStream("application.properties")) {
+            if (input != null) {
+                props.load(input);
+            } else {
+                log.warn("application.properties not found, using defaults");
+            }
+        } catch (IOException e) {
+            log.error("Error loading application.properties", e);
+        }
+        return props;
+    }
+    
+    /**
+     * Gets a string setting.
+     * 
+     * @param key the property key
+     * @param defaultValue value used when the key is not set
+     * @return the configured value
+     */
+    public static String getString(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+    
+    /**
+     * Gets an integer setting.
+     * 
+     * @param key the property key
+     * @param defaultValue value used when the key is not set or invalid
+     * @return the configured value
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid integer for {}: {}", key, value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Gets a long setting.
+     * 
+     * @param key the property key
+     * @param defaultValue value used when the key is not set or invalid
+     * @return the configured value
+     */
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid number for {}: {}", key, value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Gets a decimal setting.
+     * 
+     * @param key the property key
+     * @param defaultValue value used when the key is not set or invalid
+     * @return the configured value
+     */
+    public static double getDouble(String key, double defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid number for {}: {}", key, value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Gets a boolean setting.
+     * 
+     * @param key the property key
+     * @param defaultValue value used when the key is not set
+     * @return the configured value
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
@@ -0,0 +1,297 @@
+package com.notif1ed.util;
+
+import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Task;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs page data loads off the JavaFX Application Thread.
+ *
+ * Each controller owns one loader. Work is submitted under a key; starting a
+ * new load with the same key cancels the previous one so stale results never
+ * overwrite fresh ones. Results and errors are delivered back on the FX thread
+ * through the {@link Task} success/failure handlers. Every successful load is
+ * timed from submission to result as {@code load.<owner>.<key>} in
+ * {@link MetricsRegistry}, so the figure includes time queued behind other pages.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class BackgroundLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundLoader.class);
+
+    // Shared by every page; daemon threads so they never keep the JVM alive
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+        daemonThreadFactory("notif1ed-loader"));
+
+    private final String owner;
+    private final Map<String, Task<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a loader for one page.
+     *
+     * @param owner name used in log messages (e.g. "Students")
+     */
+    public BackgroundLoader(String owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Runs the given work on a background thread.
+     * Must be called from the FX thread.
+     *
+     * @param key identifies the load; a running load with the same key is cancelled
+     * @param work the blocking work (typically a repository or service call)
+     * @param onSuccess receives the result on the FX thread
+     * @param onError receives the failure on the FX thread (may be null)
+     * @param <T> result type
+     * @return the submitted task
+     */
+    public <T> Task<T> load(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return loadWithProgress(key, progress -> work.call(), onSuccess, onError);
+    }
+    
+    /**
+     * Runs the given work on a background thread, letting it report progress.
+     * Bind a progress bar to the returned task's {@code progressProperty()}.
+     * Must be called from the FX thread.
+     *
+     * @param key identifies the load; a running load with the same key is cancelled
+     * @param work the blocking work, given a progress reporter
+     * @param onSuccess receives the result on the FX thread
+     * @param onError receives the failure on the FX thread (may be null)
+     * @param <T> result type
+     * @return the submitted task
+     */
+    public <T> Task<T> loadWithProgress(String key, ProgressWork<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                // updateProgress is thread-safe and coalesces updates to the FX thread
+                return work.call(this::updateProgress);
+            }
+        };
+
+        // Keys like "drop:25-0001" share one timer per action
+        String metric = "load." + owner + "." + key.split(":", 2)[0];
+        long submitted = System.nanoTime();
+        task.setOnSucceeded(e -> {
+            inFlight.remove(key, task);
+            MetricsRegistry.getInstance().timer(metric).recordSince(submitted);
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            inFlight.remove(key, task);
+            MetricsRegistry.getInstance().increment(metric + ".failed");
+            log.error("{} load '{}' failed", owner, key, task.getException());
+            if (onError != null) {
+                onError.accept(task.getException());
+            }
+        });
+        task.setOnCancelled(e -> inFlight.remove(key, task));
+
+        Task<?> previous = inFlight.put(key, task);
+        if (previous != null) {
+            log.debug("{} load '{}' superseded, cancelling previous", owner, key);
+            previous.cancel(true);
+        }
+
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Runs work without a result callback other than completion.
+     *
+     * @param key identifies the load
+     * @param work the blocking work
+     * @param onDone invoked on the FX thread after success
+     * @param onError receives the failure on the FX thread (may be null)
+     * @return the submitted task
+     */
+    public Task<Void> run(String key, Runnable work, Runnable onDone, Consumer<Throwable> onError) {
+        return load(key, () -> {
+            work.run();
+            return null;
+        }, ignored -> onDone.run(), onError);
+    }
+
+    /**
+     * Checks whether a load with the given key is still running.
+     *
+     * @param key the load key
+     * @return true if in flight
+     */
+    public boolean isLoading(String key) {
+        return inFlight.containsKey(key);
+    }
+
+    /**
+     * Cancels the running load with the given key, if any.
+     *
+     * @param key the load key
+     */
+    public void cancel(String key) {
+        Task<?> task = inFlight.remove(key);
+        if (task != null) {
+            log.debug("{}: cancelling load '{}'", owner, key);
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Cancels every running load of this loader.
+     */
+    public void cancelAll() {
+        if (!inFlight.isEmpty()) {
+            log.debug("{}: cancelling {} pending load(s)", owner, inFlight.size());
+        }
+        inFlight.values().forEach(task -> task.cancel(true));
+        inFlight.clear();
+    }
+
+    /**
+     * Cancels all loads automatically once the node's scene is detached from its
+     * window, which is what happens when the user navigates to another page.
+     *
+     * @param node any node of the page
+     */
+    public void cancelWhenDetached(Node node) {
+        whenDetached(node, this::cancelAll);
+    }
+
+    /**
+     * Runs an action on the FX thread once the node's scene is detached from its
+     * window, which is what happens when the user navigates to another page.
+     *
+     * @param node any node of the page
+     * @param action the cleanup to run
+     */
+    public static void whenDetached(Node node, Runnable action) {
+        ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> {
+            if (oldWindow != null && newWindow == null) {
+                action.run();
+            }
+        };
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.windowProperty().removeListener(windowListener);
+            }
+            if (newScene != null) {
+                newScene.windowProperty().addListener(windowListener);
+            }
+        });
+        Scene current = node.getScene();
+        if (current != null) {
+            current.windowProperty().addListener(windowListener);
+        }
+    }
+
+    /**
+     * Runs an action on the FX thread each time the node's scene is put in a
+     * window, which is what happens when the page is navigated to. Lets a view
+     * be built ahead of time and start its work only once it is shown.
+     *
+     * @param node any node of the page
+     * @param action the startup to run
+     */
+    public static void whenAttached(Node node, Runnable action) {
+        ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> {
+            if (oldWindow == null && newWindow != null) {
+                action.run();
+            }
+        };
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.windowProperty().removeListener(windowListener);
+            }
+            if (newScene != null) {
+                newScene.windowProperty().addListener(windowListener);
+                if (newScene.getWindow() != null) {
+                    action.run();
+                }
+            }
+        });
+        Scene current = node.getScene();
+        if (current != null) {
+            current.windowProperty().addListener(windowListener);
+            if (current.getWindow() != null) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Submits fire-and-forget background work on the shared executor.
+     *
+     * @param work the work to run
+     */
+    public static void submit(Runnable work) {
+        EXECUTOR.execute(work);
+    }
+
+    /**
+     * Stops the shared executor. Called on application shutdown.
+     */
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+        try {
+            EXECUTOR.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates a thread factory producing named daemon threads.
+     *
+     * @param prefix thread name prefix
+     * @return the thread factory
+     */
+    public static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Receives progress from background work.
+     */
+    @FunctionalInterface
+    public interface ProgressReporter {
+        /**
+         * @param workDone units of work completed
+         * @param max total units of work
+         */
+        void update(long workDone, long max);
+    }
+
+    /**
+     * Background work that reports its progress.
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface ProgressWork<T> {
+        T call(ProgressReporter progress) throws Exception;
+    }
+}
@@ -21,15 +21,15 @@ public class Constants {
     // Student Queries
     public static final String SELECT_ALL_STUDENTS = 
         "SELECT student_number, first_name, COALESCE(last_name, guardian_name, '') as last_name, " +
-        "COALESCE(section, '') as section, email FROM students ORDER BY student_number";
+        "COALESCE(section, '') as section, email, guardian_name, guardian_email FROM students ORDER BY student_number";
     
     public static final String INSERT_STUDENT = 
-        "INSERT INTO students (student_number, first_name, last_name, email, section, guardian_name, created_by) " +
-        "VALUES (?, ?, ?, ?, ?, ?, 1)";
+        "INSERT INTO students (student_number, first_name, last_name, email, section, guardian_name, guardian_email, created_by) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, 1)";
     
     public static final String UPDATE_STUDENT = 
         "UPDATE students SET first_name = ?, last_name = ?, email = ?, section = ?, " +
-        "guardian_name = ? WHERE student_number = ?";
+        "guardian_name = ?, guardian_email = COALESCE(NULLIF(?, ''), guardian_email) WHERE student_number = ?";
     
     public static final String DELETE_STUDENT = 
         "DELETE FROM students WHERE student_number = ?";
@@ -59,9 +59,58 @@ public class Constants {
         "r.created_at, r.record_type FROM records r " +
         "JOIN students s ON r.student_id = s.student_id ORDER BY r.created_at DESC";
     
+    // Keyset pagination over (created_at, record_id). idx_record_created is on created_at and
+    // InnoDB appends the primary key to every secondary index, so both forms are index range scans.
+    public static final String SELECT_RECORDS_FIRST_PAGE = 
+        "SELECT r.record_id, s.student_number, s.first_name, s.last_name, s.email, " +
+        "r.created_at, r.record_type FROM records r " +
+        "JOIN students s ON r.student_id = s.student_id " +
+        "ORDER BY r.created_at DESC, r.record_id DESC LIMIT ?";
+    
+    public static final String SELECT_RECORDS_PAGE_BEFORE = 
+        "SELECT r.record_id, s.student_number, s.first_name, s.last_name, s.email, " +
+        "r.created_at, r.record_type FROM records r " +
+        "JOIN students s ON r.student_id = s.student_id " +
+        "WHERE r.created_at < ? OR (r.created_at = ? AND r.record_id < ?) " +
+        "ORDER BY r.created_at DESC, r.record_id DESC LIMIT ?";
+    
+    // Search over the same keyset pages. The leading wildcard rules out an index on the searched
+    // columns, so these walk idx_record_created newest first and stop after LIMIT matches.
+    private static final String RECORDS_SEARCH_CONDITION =
+        "(s.student_number LIKE ? OR s.first_name LIKE ? OR s.last_name LIKE ? " +
+        "OR s.email LIKE ? OR r.record_type LIKE ?)";
+    
+    public static final String SEARCH_RECORDS_FIRST_PAGE = 
+        "SELECT r.record_id, s.student_number, s.first_name, s.last_name, s.email, " +
+        "r.created_at, r.record_type FROM records r " +
+        "JOIN students s ON r.student_id = s.student_id " +
+        "WHERE " + RECORDS_SEARCH_CONDITION + " " +
+        "ORDER BY r.created_at DESC, r.record_id DESC LIMIT ?";
+    
+    public static final String SEARCH_RECORDS_PAGE_BEFORE = 
+        "SELECT r.record_id, s.student_number, s.first_name, s.last_name, s.email, " +
+        "r.created_at, r.record_type FROM records r " +
+        "JOIN students s ON r.student_id = s.student_id " +
+        "WHERE (r.created_at < ? OR (r.created_at = ? AND r.record_id < ?)) " +
+        "AND " + RECORDS_SEARCH_CONDITION + " " +
+        "ORDER BY r.created_at DESC, r.record_id DESC LIMIT ?";
+    
+    // Change feed: records are append-only, so new rows are a primary-key range after the last seen ID
+    public static final String SELECT_RECORDS_AFTER_ID =
+        "SELECT r.record_id, s.student_number, s.first_name, s.last_name, s.email, " +
+        "r.created_at, r.record_type FROM records r " +
+        "JOIN students s ON r.student_id = s.student_id " +
+        "WHERE r.record_id > ? ORDER BY r.record_id LIMIT ?";
+    
+    public static final String SELECT_MAX_RECORD_ID =
+        "SELECT COALESCE(MAX(record_id), 0) AS max_id FROM records";
+    
     public static final String INSERT_RECORD = 
         "INSERT INTO records (student_id, record_type, created_at) VALUES (?, ?, ?)";
     
+    public static final String INSERT_RECORD_WITH_DATA = 
+        "INSERT INTO records (student_id, subject_id, record_type, record_data, created_at) VALUES (?, ?, ?, ?, NOW())";
+    
     // User Queries
     public static final String SELECT_USER_BY_EMAIL = 
         "SELECT user_id, name, email, password FROM users WHERE email = ?";
@@ -69,6 +118,10 @@ public class Constants {
     public static final String INSERT_USER = 
         "INSERT INTO users (name, email, password) VALUES (?, ?, ?)";
     
+    // Only replaces the value that was verified, so a concurrent password change wins
+    public static final String UPDATE_USER_PASSWORD = 
+        "UPDATE users SET password = ? WHERE user_id = ? AND password = ?";
+    
     // Dashboard Queries
     public static final String COUNT_STUDENTS = 
         "SELECT COUNT(*) as count FROM students";
@@ -76,9 +129,138 @@ public class Constants {
     public static final String COUNT_SUBJECTS = 
         "SELECT COUNT(*) as count FROM subjects";
     
+    // Change probes for the cached student and subject lists; MAX reads the end of the updated_at index
+    public static final String PROBE_STUDENTS =
+        "SELECT COUNT(*) AS row_count, MAX(updated_at) AS last_updated FROM students";
+    
+    public static final String PROBE_SUBJECTS =
+        "SELECT COUNT(*) AS row_count, MAX(updated_at) AS last_updated FROM subjects";
+    
+    // Change feed: rows touched at or after a probed updated_at, read through the updated_at indexes
+    public static final String SELECT_STUDENTS_UPDATED_SINCE =
+        "SELECT student_number, first_name, COALESCE(last_name, guardian_name, '') as last_name, " +
+        "COALESCE(section, '') as section, email, guardian_name, guardian_email " +
+        "FROM students WHERE updated_at >= ? ORDER BY updated_at LIMIT ?";
+    
+    public static final String SELECT_SUBJECTS_UPDATED_SINCE =
+        "SELECT * FROM subjects WHERE updated_at >= ? ORDER BY updated_at LIMIT ?";
+    
     public static final String COUNT_RECORDS = 
         "SELECT COUNT(*) as count FROM records";
     
+    // Half-open range on created_at (not DATE(created_at)) so idx_record_created is usable
+    public static final String COUNT_RECORDS_BETWEEN = 
+        "SELECT COUNT(*) as count FROM records WHERE created_at >= ? AND created_at < ?";
+    
+    // All dashboard counters in a single round-trip
+    public static final String SELECT_DASHBOARD_STATS = 
+        "SELECT (" + COUNT_STUDENTS + ") AS total_students, " +
+        "(" + COUNT_SUBJECTS + ") AS total_subjects, " +
+        "(" + COUNT_RECORDS + ") AS total_records, " +
+        "(" + COUNT_RECORDS_BETWEEN + ") AS today_records";
+    
+    // Notification outbox. Rows stay 'pending' until delivered; next_attempt_at drives both
+    // retry backoff and the short lease a dispatcher takes while a row is being sent.
+    // The recipient address is fixed when the row is queued.
+    public static final String INSERT_NOTIFICATION = 
+        "INSERT INTO notifications (student_id, subject_id, recipient, title, message, status, sent_by) " +
+        "VALUES (?, ?, ?, ?, ?, 'pending', ?)";
+    
+    // Links the row to the student with that address, if there is one
+    public static final String INSERT_NOTIFICATION_FOR_EMAIL = 
+        "INSERT INTO notifications (student_id, recipient, title, message, status, sent_by) " +
+        "VALUES ((SELECT MIN(student_id) FROM students WHERE email = ?), ?, ?, ?, 'pending', ?)";
+    
+    public static final String SELECT_GUARDIAN = 
+        "SELECT first_name, last_name, guardian_name, guardian_email FROM students WHERE student_id = ?";
+    
+    public static final String SELECT_DUE_NOTIFICATIONS = 
+        "SELECT notification_id, student_id, recipient, title, message, attempts FROM notifications " +
+        "WHERE status = 'pending' AND next_attempt_at <= NOW() " +
+        "ORDER BY next_attempt_at, notification_id LIMIT ?";
+    
+    public static final String CLAIM_NOTIFICATION = 
+        "UPDATE notifications SET next_attempt_at = TIMESTAMPADD(SECOND, ?, NOW()) " +
+        "WHERE notification_id = ? AND status = 'pending' AND next_attempt_at <= NOW()";
+    
+    public static final String MARK_NOTIFICATION_SENT = 
+        "UPDATE notifications SET status = 'sent', sent_at = NOW(), attempts = attempts + 1, last_error = NULL " +
+        "WHERE notification_id = ?";
+    
+    public static final String RESCHEDULE_NOTIFICATION = 
+        "UPDATE notifications SET attempts = attempts + 1, last_error = ?, " +
+        "next_attempt_at = TIMESTAMPADD(SECOND, ?, NOW()) WHERE notification_id = ?";
+    
+    public static final String MARK_NOTIFICATION_FAILED = 
+        "UPDATE notifications SET status = 'failed', attempts = attempts + 1, last_error = ? " +
+        "WHERE notification_id = ?";
+    
+    public static final String COUNT_NOTIFICATIONS_BY_STATUS = 
+        "SELECT status, COUNT(*) as count FROM notifications GROUP BY status";
+    
+    // Full-table exports, read with a forward-only streaming cursor
+    public static final String EXPORT_STUDENTS = 
+        "SELECT student_number, first_name, last_name, section, email, guardian_name, phone, created_at " +
+        "FROM students ORDER BY student_number";
+    
+    public static final String EXPORT_SUBJECTS = 
+        "SELECT subject_code, subject_name, year_level, section, description, created_at " +
+        "FROM subjects ORDER BY subject_code";
+    
+    public static final String EXPORT_RECORDS = 
+        "SELECT r.record_id, r.created_at, r.record_type, s.student_number, s.first_name, s.last_name, " +
+        "sub.subject_code, r.record_data FROM records r " +
+        "JOIN students s ON r.student_id = s.student_id " +
+        "LEFT JOIN subjects sub ON r.subject_id = sub.subject_id " +
+        "ORDER BY r.created_at, r.record_id";
+
+    // Attendance reports: one row per day with distinct arrivals/departures of actively enrolled students
+    public static final String SELECT_DAILY_ATTENDANCE =
+        "SELECT DATE(r.created_at) as record_date, " +
+        "COUNT(DISTINCT CASE WHEN r.record_type = 'Arrival' THEN r.student_id END) as arrivals, " +
+        "COUNT(DISTINCT CASE WHEN r.record_type = 'Departure' THEN r.student_id END) as departures " +
+        "FROM records r " +
+        "INNER JOIN student_subjects ss ON r.student_id = ss.student_id " +
+        "WHERE ss.subject_id = ? AND ss.status = 'active' " +
+        "GROUP BY DATE(r.created_at) " +
+        "ORDER BY record_date DESC";
+
+    public static final String COUNT_ACTIVE_ENROLLMENTS =
+        "SELECT COUNT(*) as count FROM student_subjects WHERE subject_id = ? AND status = 'active'";
+
+    // Subject enrollment. Enrolled students come off idx_enrollment_subject_status; available
+    // students are an anti-join probing unique_enrollment once per student instead of NOT IN.
+    public static final String SELECT_ENROLLED_STUDENTS =
+        "SELECT s.student_number, s.first_name, COALESCE(s.last_name, s.guardian_name, '') as last_name, s.email " +
+        "FROM student_subjects ss JOIN students s ON s.student_id = ss.student_id " +
+        "WHERE ss.subject_id = ? AND ss.status = 'active' " +
+        "ORDER BY s.student_number";
+
+    public static final String SELECT_AVAILABLE_STUDENTS =
+        "SELECT s.student_number, s.first_name, COALESCE(s.last_name, s.guardian_name, '') as last_name, s.email " +
+        "FROM students s LEFT JOIN student_subjects ss " +
+        "ON ss.student_id = s.student_id AND ss.subject_id = ? AND ss.status = 'active' " +
+        "WHERE ss.enrollment_id IS NULL " +
+        "ORDER BY s.student_number";
+
+    // Batched (rewritten into one multi-row INSERT); re-activates dropped enrollments
+    // instead of failing on unique_enrollment
+    public static final String ENROLL_STUDENT =
+        "INSERT INTO student_subjects (student_id, subject_id, enrollment_date, status) " +
+        "VALUES (?, ?, CURRENT_DATE, 'active') " +
+        "ON DUPLICATE KEY UPDATE enrollment_date = IF(status = 'active', enrollment_date, CURRENT_DATE), status = 'active'";
+
+    public static final String SELECT_AVAILABLE_IN_SECTION =
+        "SELECT s.student_id, s.student_number FROM students s LEFT JOIN student_subjects ss " +
+        "ON ss.student_id = s.student_id AND ss.subject_id = ? AND ss.status = 'active' " +
+        "WHERE s.section = ? AND ss.enrollment_id IS NULL " +
+        "ORDER BY s.student_number";
+
+    public static final String DROP_ENROLLMENT =
+        "UPDATE student_subjects ss JOIN students s ON s.student_id = ss.student_id " +
+        "SET ss.status = 'dropped' " +
+        "WHERE ss.subject_id = ? AND s.student_number = ? AND ss.status = 'active'";
+
     // ==================== ERROR MESSAGES ====================
     
     public static final String ERR_DB_CONNECTION = "Could not connect to database";
@@ -115,6 +297,9 @@ public class Constants {
     // ==================== WARNING MESSAGES ====================
     
     public static final String WARN_EMPTY_EMAIL_PASSWORD = "Please enter both email and password";
+    public static final String WARN_LOGIN_BUSY = "Too many sign-ins in progress, please try again";
+    public static final String WARN_LOGIN_THROTTLED = "Too many login attempts. Please try again in %d seconds";
+    public static final String WARN_SESSION_EXPIRED = "Your session has ended. Please log in again";
     public static final String WARN_DELETE_CONFIRMATION = "Are you sure you want to delete this item?";
     public static final String WARN_LOGOUT_CONFIRMATION = "Are you sure you want to logout?";
     
@@ -132,4 +317,5 @@ public class Constants {
     public static final String APP_TITLE = "Notif1ed";
     public static final String DEFAULT_STUDENT_NUMBER_PREFIX = "25-";
     public static final int DEFAULT_STUDENT_NUMBER_LENGTH = 4;
+    public static final int RECORDS_PAGE_SIZE = 200;
 }
@@ -7,6 +7,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
@@ -14,15 +18,28 @@ import java.util.Properties;
 /**
  * Database connection manager using HikariCP connection pooling.
  * Provides efficient and thread-safe database connections.
+ * This is the single data-access entry point; every connection handed out is
+ * instrumented so acquire and hold times show up in {@link #getPoolStatistics()}.
+ * Hold times are also recorded per calling method ({@code db.<Class>.<method>}
+ * in {@link MetricsRegistry}), which times every repository method.
  * 
  * @author Notif1ed Development Team
- * @version 2.0.0
+ * @version 2.1.0
  */
 public class DatabaseConnection {
     
     private static final Logger log = LoggerFactory.getLogger(DatabaseConnection.class);
     private static HikariDataSource dataSource;
     
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    // Time spent waiting for the pool to hand out a connection
+    private static final LatencyHistogram acquireTime = metrics.timer("db.acquire");
+    // Time a caller keeps a connection borrowed before returning it to the pool
+    private static final LatencyHistogram holdTime = metrics.timer("db.hold");
+    // Walking a few frames costs microseconds, against milliseconds for the query itself
+    private static final boolean TIME_CALLERS = AppConfig.getBoolean("metrics.db.callers", true);
+    private static final StackWalker STACK = StackWalker.getInstance();
+    
     static {
         try {
             initializeDataSource();
@@ -46,30 +63,56 @@ public class DatabaseConnection {
         Properties props = loadProperties();
         
         HikariConfig config = new HikariConfig();
-        config.setJdbcUrl(props.getProperty("db.url"));
-        config.setUsername(props.getProperty("db.username"));
-        config.setPassword(props.getProperty("db.password"));
+        String url = setting(props, "db.url", null);
+        config.setJdbcUrl(url);
+        config.setUsername(setting(props, "db.username", null));
+        config.setPassword(setting(props, "db.password", null));
         
         // Connection pool settings
         config.setMaximumPoolSize(Integer.parseInt(
-            props.getProperty("db.pool.maximum.size", "10")));
+            setting(props, "db.pool.maximum.size", "10")));
         config.setMinimumIdle(Integer.parseInt(
-            props.getProperty("db.pool.minimum.idle", "2")));
+            setting(props, "db.pool.minimum.idle", "2")));
         config.setConnectionTimeout(Long.parseLong(
-            props.getProperty("db.pool.connection.timeout", "30000")));
+            setting(props, "db.pool.connection.timeout", "30000")));
         config.setIdleTimeout(Long.parseLong(
-            props.getProperty("db.pool.idle.timeout", "600000")));
+            setting(props, "db.pool.idle.timeout", "600000")));
         config.setMaxLifetime(Long.parseLong(
-            props.getProperty("db.pool.max.lifetime", "1800000")));
+            setting(props, "db.pool.max.lifetime", "1800000")));
+        // Hikari's own pool MBean (com.zaxxer.hikari:type=Pool (notif1ed)) next to the app metrics
+        config.setPoolName("notif1ed");
+        config.setRegisterMbeans(true);
+        
+        // Performance settings (MySQL Connector/J options; other drivers such as H2 reject them)
+        if (url != null && url.startsWith("jdbc:mysql:")) {
+            addMySqlProperties(config);
+        }
         
-        // Performance settings
+        dataSource = new HikariDataSource(config);
+        metrics.gauge("db.pool.active", () -> dataSource.getHikariPoolMXBean().getActiveConnections());
+        metrics.gauge("db.pool.idle", () -> dataSource.getHikariPoolMXBean().getIdleConnections());
+        metrics.gauge("db.pool.total", () -> dataSource.getHikariPoolMXBean().getTotalConnections());
+        metrics.gauge("db.pool.waiting", () -> dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection());
+        log.info("✅ Database connection pool initialized successfully");
+    }
+    
+    private static void addMySqlProperties(HikariConfig config) {
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
         config.addDataSourceProperty("useServerPrepStmts", "true");
-        
-        dataSource = new HikariDataSource(config);
-        log.info("✅ Database connection pool initialized successfully");
+        // Send JDBC batches as multi-row INSERTs instead of one round-trip per row
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        // Statements with a positive fetch size read through a server-side cursor (used by exports)
+        config.addDataSourceProperty("useCursorFetch", "true");
+    }
+    
+    /**
+     * Reads a setting, letting a JVM system property with the same key win
+     * (as {@link AppConfig} does), e.g. -Ddb.url=... for benchmarks.
+     */
+    private static String setting(Properties props, String key, String defaultValue) {
+        return System.getProperty(key, props.getProperty(key, defaultValue));
     }
     
     /**
@@ -111,9 +154,71 @@ public class DatabaseConnection {
             throw new SQLException("Database connection pool is not available");
         }
         
+        long start = System.nanoTime();
         Connection conn = dataSource.getConnection();
+        long acquiredAt = System.nanoTime();
+        acquireTime.record(acquiredAt - start);
+        
         log.debug("✅ Database connection obtained from pool");
-        return conn;
+        return instrument(conn, acquiredAt, TIME_CALLERS ? metrics.timer(callerName()) : null);
+    }
+    
+    /**
+     * Names the application method that asked for a connection, e.g.
+     * db.StudentRepository.findAll; lambdas are named after their enclosing method.
+     */
+    private static String callerName() {
+        return STACK.walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith("com.notif1ed.")
+                && !frame.getClassName().equals(DatabaseConnection.class.getName()))
+            .findFirst()
+            .map(frame -> {
+                String className = frame.getClassName();
+                className = className.substring(className.lastIndexOf('.') + 1);
+                int inner = className.indexOf('$');
+                String method = frame.getMethodName();
+                if (method.startsWith("lambda$")) {
+                    method = method.substring(7, method.indexOf('$', 7));
+                }
+                return "db." + (inner > 0 ? className.substring(0, inner) : className) + "." + method;
+            })
+            .orElse("db.other"));
+    }
+    
+    /**
+     * Wraps a pooled connection so that closing it records the hold time.
+     * All other calls are passed straight through to the pooled connection.
+     * 
+     * @param conn the pooled connection
+     * @param acquiredAt the {@link System#nanoTime()} reading when it was acquired
+     * @param callerTime the calling method's timer, or null
+     * @return a proxy connection
+     */
+    private static Connection instrument(Connection conn, long acquiredAt, LatencyHistogram callerTime) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean returned;
+            
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("close".equals(method.getName()) && !returned) {
+                    returned = true;
+                    holdTime.recordSince(acquiredAt);
+                    if (callerTime != null) {
+                        callerTime.recordSince(acquiredAt);
+                    }
+                }
+                try {
+                    return method.invoke(conn, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+        
+        return (Connection) Proxy.newProxyInstance(
+            DatabaseConnection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            handler);
     }
     
     /**
@@ -122,13 +227,15 @@ public class DatabaseConnection {
      */
     public static void closePool() {
         if (dataSource != null && !dataSource.isClosed()) {
+            log.info(getPoolStatistics());
             dataSource.close();
             log.info("✅ Database connection pool closed");
         }
     }
     
     /**
-     * Gets statistics about the connection pool.
+     * Gets statistics about the connection pool, including the per-call
+     * acquire-time and hold-time histograms.
      * 
      * @return formatted string with pool statistics
      */
@@ -138,11 +245,31 @@ public class DatabaseConnection {
         }
         
         return String.format(
-            "Pool Stats - Active: %d, Idle: %d, Total: %d, Waiting: %d",
+            "Pool Stats - Active: %d, Idle: %d, Total: %d, Waiting: %d | %s | %s",
             dataSource.getHikariPoolMXBean().getActiveConnections(),
             dataSource.getHikariPoolMXBean().getIdleConnections(),
             dataSource.getHikariPoolMXBean().getTotalConnections(),
-            dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()
+            dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection(),
+            acquireTime.summary(),
+            holdTime.summary()
         );
     }
+    
+    /**
+     * Gets the histogram of time spent waiting for a pooled connection.
+     * 
+     * @return the acquire-time histogram
+     */
+    public static LatencyHistogram getAcquireTimeHistogram() {
+        return acquireTime;
+    }
+    
+    /**
+     * Gets the histogram of time connections are held before being returned.
+     * 
+     * @return the hold-time histogram
+     */
+    public static LatencyHistogram getHoldTimeHistogram() {
+        return holdTime;
+    }
 }
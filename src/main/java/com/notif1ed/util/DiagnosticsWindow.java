@@ -0,0 +1,165 @@
+package com.notif1ed.util;
+
+import com.notif1ed.util.MetricsRegistry.Sample;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.function.Function;
+
+/**
+ * In-app view of {@link MetricsRegistry} and the connection pool, refreshed
+ * every two seconds while open. Opened with Ctrl+Shift+D from the main
+ * window, so a slow workstation can be diagnosed without a profiler.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class DiagnosticsWindow {
+
+    private static final KeyCombination SHORTCUT =
+        new KeyCodeCombination(KeyCode.D, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN);
+
+    private static Stage stage;
+
+    private final ObservableList<Sample> samples = FXCollections.observableArrayList();
+    private final Label poolLabel = new Label();
+    private final Timeline refresher = new Timeline(new KeyFrame(Duration.seconds(2), e -> refresh()));
+
+    private DiagnosticsWindow() {
+    }
+
+    /**
+     * Opens the window with Ctrl+Shift+D (Cmd+Shift+D on macOS) on the given
+     * window, whatever scene it is showing.
+     *
+     * @param window the main window
+     */
+    public static void installShortcut(Window window) {
+        window.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (SHORTCUT.match(event)) {
+                show(window);
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Shows the diagnostics window, or brings it to front if already open.
+     * Must be called on the FX thread.
+     *
+     * @param owner the owning window (may be null)
+     */
+    public static void show(Window owner) {
+        if (stage == null) {
+            stage = new DiagnosticsWindow().createStage(owner);
+        }
+        stage.show();
+        stage.toFront();
+    }
+
+    private Stage createStage(Window owner) {
+        TextField filterField = new TextField();
+        filterField.setPromptText("Filter metrics (e.g. db. or load.Students)");
+        FilteredList<Sample> filtered = new FilteredList<>(samples);
+        filterField.textProperty().addListener((obs, oldText, text) ->
+            filtered.setPredicate(sample -> TableFilter.containsIgnoreCase(sample.getName(), text)));
+
+        TableView<Sample> table = new TableView<>();
+        SortedList<Sample> sorted = new SortedList<>(filtered);
+        sorted.comparatorProperty().bind(table.comparatorProperty());
+        table.setItems(sorted);
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        table.getColumns().add(column("Metric", 280, Sample::getName));
+        table.getColumns().add(column("Type", 80, sample -> sample.getType().name().toLowerCase()));
+        table.getColumns().add(column("Count", 80, Sample::getCount));
+        table.getColumns().add(millisColumn("Mean ms", Sample::getMeanMillis));
+        table.getColumns().add(millisColumn("p50 ms", Sample::getP50Millis));
+        table.getColumns().add(millisColumn("p99 ms", Sample::getP99Millis));
+        table.getColumns().add(millisColumn("Max ms / value", Sample::getMax));
+        VBox.setVgrow(table, Priority.ALWAYS);
+
+        Button resetButton = new Button("Reset");
+        resetButton.setOnAction(e -> {
+            MetricsRegistry.getInstance().reset();
+            refresh();
+        });
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox toolbar = new HBox(10, filterField, spacer, resetButton);
+        toolbar.setAlignment(Pos.CENTER_LEFT);
+        HBox.setHgrow(filterField, Priority.ALWAYS);
+
+        poolLabel.setWrapText(true);
+        poolLabel.setStyle("-fx-font-family: monospace;");
+
+        VBox root = new VBox(10, toolbar, table, poolLabel);
+        root.setPadding(new Insets(12));
+
+        Stage window = new Stage();
+        window.initOwner(owner);
+        window.setTitle("Notif1ed - Diagnostics");
+        window.setScene(new Scene(root, 860, 560));
+        refresher.setCycleCount(Timeline.INDEFINITE);
+        window.setOnShown(e -> {
+            refresh();
+            refresher.play();
+        });
+        window.setOnHidden(e -> refresher.stop());
+        return window;
+    }
+
+    private void refresh() {
+        samples.setAll(MetricsRegistry.getInstance().snapshot());
+        try {
+            poolLabel.setText(DatabaseConnection.getPoolStatistics());
+        } catch (RuntimeException | LinkageError e) {
+            // The pool failed to start (e.g. database unreachable); the metrics are still useful
+            poolLabel.setText("Pool unavailable: " + e);
+        }
+    }
+
+    private static <T> TableColumn<Sample, T> column(String title, double width, Function<Sample, T> value) {
+        TableColumn<Sample, T> column = new TableColumn<>(title);
+        column.setPrefWidth(width);
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(value.apply(cell.getValue())));
+        return column;
+    }
+
+    private static TableColumn<Sample, Double> millisColumn(String title, Function<Sample, Double> value) {
+        TableColumn<Sample, Double> column = column(title, 90, value);
+        column.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : String.format("%.2f", item));
+                setAlignment(Pos.CENTER_RIGHT);
+            }
+        });
+        return column;
+    }
+}
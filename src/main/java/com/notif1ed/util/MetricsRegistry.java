@@ -0,0 +1,262 @@
+package com.notif1ed.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Application-wide timers, counters and gauges.
+ *
+ * Timers are {@link LatencyHistogram}s, so recording stays lock-free on any
+ * thread. Names are dot-separated by area: {@code db.<Caller>.<method>},
+ * {@code load.<Page>.<key>}, {@code fxml.<File>}, {@code email.*} and
+ * {@code job.*}. The shared instance is exported over JMX as
+ * {@code com.notif1ed:type=Metrics} and shown in the diagnostics window.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class MetricsRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final String OBJECT_NAME = "com.notif1ed:type=Metrics";
+    private static MetricsRegistry instance;
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the shared registry, exporting it over JMX on first use
+     * (unless metrics.jmx.enabled=false).
+     *
+     * @return the singleton instance
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+            if (AppConfig.getBoolean("metrics.jmx.enabled", true)) {
+                instance.registerMBean();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Gets or creates a timer.
+     *
+     * @param name the metric name
+     * @return the timer's histogram
+     */
+    public LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name the metric name
+     * @return the counter
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Increments a counter by one.
+     *
+     * @param name the metric name
+     */
+    public void increment(String name) {
+        counter(name).increment();
+    }
+
+    /**
+     * Registers (or replaces) a gauge read whenever metrics are displayed.
+     *
+     * @param name the metric name
+     * @param value supplies the current value; must be cheap and thread-safe
+     */
+    public void gauge(String name, Supplier<? extends Number> value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Takes a point-in-time view of every metric, sorted by name.
+     *
+     * @return one sample per metric
+     */
+    public List<Sample> snapshot() {
+        List<Sample> samples = new ArrayList<>(timers.size() + counters.size() + gauges.size());
+        timers.forEach((name, timer) -> samples.add(new Sample(name, Type.TIMER, timer.getCount(),
+            timer.getMeanMillis(), timer.getPercentileMillis(50), timer.getPercentileMillis(99), timer.getMaxMillis())));
+        counters.forEach((name, counter) -> samples.add(new Sample(name, Type.COUNTER, counter.sum(), 0, 0, 0, 0)));
+        gauges.forEach((name, gauge) -> samples.add(new Sample(name, Type.GAUGE, 0, 0, 0, 0, readGauge(name, gauge))));
+        samples.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return samples;
+    }
+
+    /**
+     * Clears every timer and counter, e.g. before reproducing a slow action.
+     * Gauges are live values and are not affected.
+     */
+    public void reset() {
+        timers.values().forEach(LatencyHistogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    private static double readGauge(String name, Supplier<? extends Number> gauge) {
+        try {
+            Number value = gauge.get();
+            return value != null ? value.doubleValue() : 0;
+        } catch (RuntimeException e) {
+            log.debug("Gauge {} could not be read", name, e);
+            return 0;
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(), new ObjectName(OBJECT_NAME));
+            log.info("Metrics exported over JMX as {}", OBJECT_NAME);
+        } catch (JMException e) {
+            log.warn("Could not export metrics over JMX", e);
+        }
+    }
+
+    /**
+     * Kind of metric.
+     */
+    public enum Type { TIMER, COUNTER, GAUGE }
+
+    /**
+     * Point-in-time value of one metric. Timers fill the latency fields,
+     * counters the count and gauges the value (reported as max).
+     */
+    public static class Sample {
+        private final String name;
+        private final Type type;
+        private final long count;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double max;
+
+        public Sample(String name, Type type, long count, double meanMillis, double p50Millis,
+                      double p99Millis, double max) {
+            this.name = name;
+            this.type = type;
+            this.count = count;
+            this.meanMillis = meanMillis;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.max = max;
+        }
+
+        public String getName() { return name; }
+        public Type getType() { return type; }
+        public long getCount() { return count; }
+        public double getMeanMillis() { return meanMillis; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP99Millis() { return p99Millis; }
+        /** Largest sample in ms for timers, current value for gauges. */
+        public double getMax() { return max; }
+    }
+
+    /**
+     * Exposes every metric as read-only attributes: timers as
+     * {@code <name>.count}, {@code .p50Millis}, {@code .p99Millis},
+     * {@code .meanMillis} and {@code .maxMillis}; counters and gauges under
+     * their own name. The attribute list follows the metrics as they appear.
+     */
+    private class MetricsMBean implements DynamicMBean {
+
+        private Map<String, Object> values() {
+            Map<String, Object> values = new TreeMap<>();
+            for (Sample sample : snapshot()) {
+                switch (sample.getType()) {
+                    case TIMER -> {
+                        values.put(sample.getName() + ".count", sample.getCount());
+                        values.put(sample.getName() + ".meanMillis", sample.getMeanMillis());
+                        values.put(sample.getName() + ".p50Millis", sample.getP50Millis());
+                        values.put(sample.getName() + ".p99Millis", sample.getP99Millis());
+                        values.put(sample.getName() + ".maxMillis", sample.getMax());
+                    }
+                    case COUNTER -> values.put(sample.getName(), sample.getCount());
+                    case GAUGE -> values.put(sample.getName(), sample.getMax());
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Object value = values().get(attribute);
+            if (value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Object> values = values();
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                if (values.containsKey(attribute)) {
+                    list.add(new Attribute(attribute, values.get(attribute)));
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) {
+            throw new UnsupportedOperationException("Metrics are read-only");
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            if (!"reset".equals(actionName)) {
+                throw new UnsupportedOperationException(actionName);
+            }
+            reset();
+            return null;
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            MBeanAttributeInfo[] attributes = values().entrySet().stream()
+                .map(value -> new MBeanAttributeInfo(value.getKey(), value.getValue().getClass().getName(),
+                    value.getKey(), true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+            MBeanOperationInfo[] operations = {
+                new MBeanOperationInfo("reset", "Clears all timers and counters", null, "void", MBeanOperationInfo.ACTION)
+            };
+            return new MBeanInfo(MetricsRegistry.class.getName(), "Notif1ed application metrics",
+                attributes, null, operations, null);
+        }
+    }
+}
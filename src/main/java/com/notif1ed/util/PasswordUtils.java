@@ -2,19 +2,35 @@ package com.notif1ed.util;
 
 import org.mindrot.jbcrypt.BCrypt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Utility class for secure password operations using BCrypt hashing.
  * 
  * BCrypt is a password hashing function designed to be slow, making brute-force
  * attacks computationally expensive. It automatically handles salt generation.
  * 
+ * Stored passwords are not all BCrypt: accounts created before hashing was
+ * introduced still hold plaintext. {@link #schemeOf(String)} tells them apart
+ * and flags values that look like a hash but are not a valid one,
+ * {@link #verifyPassword(String, String)} checks either kind and
+ * {@link #needsRehash(String)} reports rows that should be re-hashed at the
+ * configured cost (auth.bcrypt.cost) after a successful login.
+ * 
  * @author Notif1ed Development Team
  * @version 1.0.0
  */
 public class PasswordUtils {
     
-    // BCrypt work factor (12 = 2^12 iterations, good balance of security and performance)
-    private static final int WORK_FACTOR = 12;
+    // BCrypt work factor (12 = 2^12 iterations, good balance of security and performance).
+    // Each step doubles login time; benchmark with PasswordBenchmark before changing it.
+    private static final int WORK_FACTOR = Math.max(4, Math.min(30, AppConfig.getInt("auth.bcrypt.cost", 12)));
+    
+    // $2a$12$ + 22 salt characters + 31 hash characters; $2b$ and $2y$ come from other BCrypt libraries
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$(\\d{2})\\$[./A-Za-z0-9]{53}");
     
     /**
      * Private constructor to prevent instantiation of utility class.
@@ -34,7 +50,31 @@ public class PasswordUtils {
         if (plainPassword == null || plainPassword.isEmpty()) {
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(WORK_FACTOR));
+        return hashPassword(plainPassword, WORK_FACTOR);
+    }
+    
+    /**
+     * Hashes a plain text password using BCrypt at a given cost.
+     * 
+     * @param plainPassword the plain text password to hash
+     * @param workFactor the BCrypt cost (log2 of the rounds, 4 to 30)
+     * @return the hashed password with salt
+     * @throws IllegalArgumentException if plainPassword is null or empty, or the cost is out of range
+     */
+    public static String hashPassword(String plainPassword, int workFactor) {
+        if (plainPassword == null || plainPassword.isEmpty()) {
+            throw new IllegalArgumentException("Password cannot be null or empty");
+        }
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(workFactor));
+    }
+    
+    /**
+     * Gets the BCrypt cost used for new hashes (auth.bcrypt.cost).
+     * 
+     * @return the work factor
+     */
+    public static int getWorkFactor() {
+        return WORK_FACTOR;
     }
     
     /**
@@ -56,6 +96,64 @@ public class PasswordUtils {
         }
     }
     
+    /**
+     * Verifies a password against a stored value of any supported scheme.
+     * Plaintext values are compared in constant time. A malformed hash never
+     * matches, so typing a corrupted hash back in does not log anyone in.
+     * 
+     * @param plainPassword the plain text password to verify
+     * @param storedPassword the value from the users table
+     * @return true if the password matches, false otherwise
+     */
+    public static boolean verifyPassword(String plainPassword, String storedPassword) {
+        if (plainPassword == null || storedPassword == null) {
+            return false;
+        }
+        HashScheme scheme = schemeOf(storedPassword);
+        if (scheme == HashScheme.MALFORMED) {
+            return false;
+        }
+        if (scheme == HashScheme.PLAINTEXT) {
+            return MessageDigest.isEqual(plainPassword.getBytes(StandardCharsets.UTF_8),
+                storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        // jBCrypt only accepts the $2a$ prefix; $2b$ and $2y$ hashes are computed the same way
+        return checkPassword(plainPassword, "$2a$" + storedPassword.substring(storedPassword.indexOf('$', 1) + 1));
+    }
+    
+    /**
+     * Detects how a stored password was saved.
+     * 
+     * @param storedPassword the value from the users table
+     * @return BCRYPT for a well-formed BCrypt hash, MALFORMED for any other
+     *         value starting with '$', PLAINTEXT for anything else
+     */
+    public static HashScheme schemeOf(String storedPassword) {
+        if (storedPassword != null && BCRYPT_HASH.matcher(storedPassword).matches()) {
+            return HashScheme.BCRYPT;
+        }
+        return storedPassword != null && storedPassword.startsWith("$")
+            ? HashScheme.MALFORMED : HashScheme.PLAINTEXT;
+    }
+    
+    /**
+     * Checks whether a stored password should be replaced by a fresh hash:
+     * plaintext values, and BCrypt hashes made at a different cost.
+     * 
+     * @param storedPassword the value from the users table
+     * @return true if the password should be re-hashed after the next successful login
+     */
+    public static boolean needsRehash(String storedPassword) {
+        if (storedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(storedPassword);
+        if (!matcher.matches()) {
+            return schemeOf(storedPassword) == HashScheme.PLAINTEXT;
+        }
+        return Integer.parseInt(matcher.group(1)) != WORK_FACTOR;
+    }
+    
     /**
      * Checks if a password meets minimum security requirements.
      * 
@@ -77,4 +175,16 @@ public class PasswordUtils {
         
         return hasDigit && hasLetter;
     }
+    
+    /**
+     * How a password is stored in the users table.
+     */
+    public enum HashScheme {
+        /** BCrypt hash ($2a$, $2b$ or $2y$). */
+        BCRYPT,
+        /** Legacy plaintext, from accounts created before hashing was introduced. */
+        PLAINTEXT,
+        /** Starts with '$' but is not a valid hash (e.g. truncated); never verifies. */
+        MALFORMED
+    }
 }
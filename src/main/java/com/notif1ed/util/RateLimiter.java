@@ -0,0 +1,50 @@
+package com.notif1ed.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Smooth rate limiter that spaces permits evenly in time.
+ * Callers that exceed the rate are made to sleep until their slot arrives,
+ * so a burst is turned into a steady stream the downstream server accepts.
+ * 
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class RateLimiter {
+    
+    private final long intervalNanos;
+    private long nextFreeSlot;
+    
+    /**
+     * Creates a limiter.
+     * 
+     * @param permitsPerSecond the sustained rate; values of 0 or less disable limiting
+     */
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond <= 0 ? 0 : (long) (1_000_000_000L / permitsPerSecond);
+        this.nextFreeSlot = System.nanoTime();
+    }
+    
+    /**
+     * Blocks until a permit is available.
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeSlot);
+            nextFreeSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.notif1ed.util;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the main pages (home, students, subjects, records) built once per
+ * login and switches between them by swapping scenes, instead of parsing
+ * FXML, applying CSS and running initialize() again on every click.
+ *
+ * {@link #preload()} builds the pages one after another on a background
+ * thread while the user is signing in; {@link #show(Stage, String)} uses the
+ * cached scene, waiting for it if it is still being built. Page controllers
+ * therefore only set up their views in initialize() and do their work
+ * (session check, data load, change feed, clock) when the page is shown,
+ * through {@link BackgroundLoader#whenAttached}, which is also their refresh
+ * hook on later visits. Call {@link #clear()} when the user logs out.
+ *
+ * Other views (landing, login, forms, dialogs) are loaded fresh each time.
+ * Set ui.scene.cache=false to load every page fresh.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class SceneRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SceneRegistry.class);
+
+    // Preloaded in this order: the home page is needed first
+    private static final List<String> MAIN_PAGES =
+        List.of("Homepage.fxml", "StudentPage.fxml", "SubjectPage.fxml", "RecordsPage.fxml");
+
+    private static SceneRegistry instance;
+
+    private final boolean enabled = AppConfig.getBoolean("ui.scene.cache", true);
+    private final Map<String, CompletableFuture<Page>> pages = new ConcurrentHashMap<>();
+
+    // One thread: pages are built in order and never compete with each other for the CPU
+    private final ExecutorService preloader =
+        Executors.newSingleThreadExecutor(BackgroundLoader.daemonThreadFactory("notif1ed-preload"));
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private SceneRegistry() {
+    }
+
+    /**
+     * Gets the application-wide registry.
+     *
+     * @return the shared registry
+     */
+    public static synchronized SceneRegistry getInstance() {
+        if (instance == null) {
+            instance = new SceneRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts building every main page not built yet, in the background.
+     * The pages do no work until shown, so this is safe before the session exists.
+     */
+    public void preload() {
+        if (!enabled) {
+            return;
+        }
+        for (String page : MAIN_PAGES) {
+            pages.computeIfAbsent(page, fxmlFile -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return build(fxmlFile);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, preloader));
+        }
+    }
+
+    /**
+     * Shows a page in the stage, reusing its cached scene for main pages.
+     * Must be called on the FX thread.
+     *
+     * @param stage the window
+     * @param fxmlFile file name, e.g. "StudentPage.fxml"
+     * @param <T> controller type
+     * @return the page's controller
+     * @throws IOException if the FXML could not be loaded
+     */
+    public <T> T show(Stage stage, String fxmlFile) throws IOException {
+        Page page = page(fxmlFile);
+        stage.setScene(page.scene);
+        stage.show();
+        @SuppressWarnings("unchecked")
+        T controller = (T) page.controller;
+        return controller;
+    }
+
+    /**
+     * Drops every cached page, e.g. on logout, so the next user gets fresh ones.
+     */
+    public void clear() {
+        pages.clear();
+        log.debug("Scene cache cleared");
+    }
+
+    private Page page(String fxmlFile) throws IOException {
+        if (!enabled || !MAIN_PAGES.contains(fxmlFile)) {
+            return build(fxmlFile);
+        }
+        CompletableFuture<Page> cached = pages.get(fxmlFile);
+        if (cached != null) {
+            try {
+                // Usually done; otherwise only the rest of the preload is waited for
+                return cached.join();
+            } catch (CompletionException e) {
+                log.warn("Preloading {} failed, loading it again", fxmlFile, e.getCause());
+            }
+        }
+        Page page = build(fxmlFile);
+        pages.put(fxmlFile, CompletableFuture.completedFuture(page));
+        return page;
+    }
+
+    private static Page build(String fxmlFile) throws IOException {
+        FXMLLoader loader = ViewLoader.loader(fxmlFile);
+        Parent root = ViewLoader.load(loader);
+        return new Page(new Scene(root), loader.getController());
+    }
+
+    /**
+     * A built page: its scene and the controller behind it.
+     */
+    private static final class Page {
+        private final Scene scene;
+        private final Object controller;
+
+        Page(Scene scene, Object controller) {
+            this.scene = scene;
+            this.controller = controller;
+        }
+    }
+}
@@ -1,33 +1,86 @@
 package com.notif1ed.util;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
 /**
  * Session manager for handling user authentication state.
  * Implements Singleton pattern to maintain a single session across the application.
- * 
+ *
+ * The signed-in user is an immutable {@link Session} held in an
+ * {@link AtomicReference}, so any thread (page loaders, the outbox sender)
+ * reads a consistent snapshot without locking. Input anywhere in the main
+ * window calls {@link #touch()}; a scheduled check signs the user out after
+ * session.idle.timeout.minutes without input and notifies the listener set
+ * with {@link #setOnExpired(Runnable)}.
+ *
+ * With session.persist=true (off by default) the session is kept in an encrypted
+ * {@link SessionStore} file, and {@link #resume()} restores it on the next
+ * start if it is still within the idle timeout and session.resume.max.hours
+ * of the original login.
+ *
  * @author Notif1ed Development Team
- * @version 1.0.0
+ * @version 2.0.0
  */
 public class SessionManager {
-    
+
+    private static final Logger log = LoggerFactory.getLogger(SessionManager.class);
+
     private static SessionManager instance;
-    
-    private Integer userId;
-    private String userName;
-    private String userEmail;
-    private LocalDateTime loginTime;
-    
+
+    private final AtomicReference<Session> current = new AtomicReference<>();
+    private final AtomicLong lastActivity = new AtomicLong();
+    private final SessionStore store;
+    private final long idleTimeoutMillis;
+    private final long resumeMaxMillis;
+    private final LongSupplier clock;
+    // Guards the store, so a session is only written while it is still the current one
+    private final Object storeLock = new Object();
+
+    private volatile Runnable onExpired = () -> { };
+    // Last activity time written to the store, so idle checks only rewrite it when it moved
+    private volatile long savedActivity;
+    private ScheduledExecutorService scheduler;
+
     /**
      * Private constructor to enforce singleton pattern.
      */
     private SessionManager() {
-        // Private constructor
+        this(AppConfig.getBoolean("session.persist", false) ? new SessionStore() : null,
+            Duration.ofMinutes(AppConfig.getLong("session.idle.timeout.minutes", 30)),
+            Duration.ofHours(AppConfig.getLong("session.resume.max.hours", 12)),
+            System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor for testing.
+     *
+     * @param store where sessions are persisted (null to keep them in memory only)
+     * @param idleTimeout inactivity before sign-out (zero disables it)
+     * @param resumeMax longest time after login a saved session can be resumed
+     * @param clock wall-clock time source in milliseconds
+     */
+    SessionManager(SessionStore store, Duration idleTimeout, Duration resumeMax, LongSupplier clock) {
+        this.store = store;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.resumeMaxMillis = resumeMax.toMillis();
+        this.clock = clock;
     }
-    
+
     /**
      * Gets the singleton instance of SessionManager.
-     * 
+     *
      * @return the SessionManager instance
      */
     public static synchronized SessionManager getInstance() {
@@ -36,85 +89,268 @@ public class SessionManager {
         }
         return instance;
     }
-    
+
     /**
      * Logs in a user and stores their session information.
-     * 
+     *
      * @param userId the user's ID from the database
      * @param name the user's full name
      * @param email the user's email address
      */
     public void login(int userId, String name, String email) {
-        this.userId = userId;
-        this.userName = name;
-        this.userEmail = email;
-        this.loginTime = LocalDateTime.now();
+        Session session = new Session(userId, name, email, LocalDateTime.now());
+        lastActivity.set(clock.getAsLong());
+        current.set(session);
+        persist(session);
     }
-    
+
     /**
      * Logs out the current user and clears session data.
      */
     public void logout() {
-        this.userId = null;
-        this.userName = null;
-        this.userEmail = null;
-        this.loginTime = null;
+        synchronized (storeLock) {
+            current.set(null);
+            if (store != null) {
+                store.clear();
+            }
+        }
+    }
+
+    /**
+     * Restores the session saved by a previous run, if there is one that has
+     * not expired. Callers should still check that the account exists.
+     *
+     * @return true if a session was resumed
+     */
+    public boolean resume() {
+        if (store == null) {
+            return false;
+        }
+        Optional<SessionStore.Saved> saved = store.load();
+        if (saved.isEmpty()) {
+            return false;
+        }
+        long now = clock.getAsLong();
+        long idle = now - saved.get().getLastActivity().toEpochMilli();
+        long age = Duration.between(saved.get().getSession().getLoginTime(), LocalDateTime.now()).toMillis();
+        if ((idleTimeoutMillis > 0 && idle > idleTimeoutMillis) || age > resumeMaxMillis || idle < 0) {
+            log.info("Saved session of {} has expired", saved.get().getSession().getUserEmail());
+            store.clear();
+            return false;
+        }
+        lastActivity.set(now);
+        savedActivity = 0;
+        current.set(saved.get().getSession());
+        log.info("Resumed session of {}", saved.get().getSession().getUserEmail());
+        return true;
+    }
+
+    /**
+     * Records user activity, postponing the idle timeout. Cheap enough to call
+     * for every input event.
+     */
+    public void touch() {
+        lastActivity.lazySet(clock.getAsLong());
+    }
+
+    /**
+     * Sets what happens when the session is ended by the idle timeout or
+     * {@link #expire()}. Called on the session thread (or the caller's thread
+     * for expire()); hop to the FX thread to change the UI.
+     *
+     * @param listener the expiry handler
+     */
+    public void setOnExpired(Runnable listener) {
+        this.onExpired = listener != null ? listener : () -> { };
+    }
+
+    /**
+     * Starts the idle-timeout check. Does nothing if already running or if
+     * the timeout is disabled.
+     */
+    public synchronized void start() {
+        if (scheduler != null || idleTimeoutMillis <= 0) {
+            return;
+        }
+        long periodMillis = Math.max(1000, Math.min(TimeUnit.MINUTES.toMillis(1), idleTimeoutMillis / 4));
+        scheduler = Executors.newSingleThreadScheduledExecutor(BackgroundLoader.daemonThreadFactory("notif1ed-session"));
+        scheduler.scheduleWithFixedDelay(this::checkIdle, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        log.info("Session idle timeout: {} min", TimeUnit.MILLISECONDS.toMinutes(idleTimeoutMillis));
+    }
+
+    /**
+     * Stops the idle-timeout check, saving the latest activity time so the
+     * session can be resumed on the next start.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        Session session = current.get();
+        if (session != null) {
+            persist(session);
+        }
+    }
+
+    /**
+     * Ends the session immediately (e.g. the account no longer exists) and
+     * notifies the expiry listener.
+     */
+    public void expire() {
+        Session session = current.getAndSet(null);
+        if (session != null) {
+            ended(session);
+        }
     }
-    
+
+    /**
+     * Signs the user out if idle for longer than the timeout; otherwise keeps
+     * the saved activity time current. Run periodically by {@link #start()}.
+     */
+    void checkIdle() {
+        Session session = current.get();
+        if (session == null) {
+            return;
+        }
+        long idle = clock.getAsLong() - lastActivity.get();
+        if (idle > idleTimeoutMillis) {
+            // Only expire the session we looked at, not one started since
+            if (current.compareAndSet(session, null)) {
+                log.info("Session of {} expired after {} min idle", session.getUserEmail(),
+                    TimeUnit.MILLISECONDS.toMinutes(idle));
+                ended(session);
+            }
+        } else if (lastActivity.get() != savedActivity) {
+            persist(session);
+        }
+    }
+
+    private void ended(Session session) {
+        if (store != null) {
+            synchronized (storeLock) {
+                if (current.get() == null) {
+                    store.clear();
+                }
+            }
+        }
+        try {
+            onExpired.run();
+        } catch (RuntimeException e) {
+            log.error("Session expiry handler failed for {}", session.getUserEmail(), e);
+        }
+    }
+
+    private void persist(Session session) {
+        if (store == null) {
+            return;
+        }
+        synchronized (storeLock) {
+            // A logout or a new login since the caller read the session must not be undone
+            if (current.get() != session) {
+                return;
+            }
+            long activity = lastActivity.get();
+            store.save(session, Instant.ofEpochMilli(activity));
+            savedActivity = activity;
+        }
+    }
+
+    /**
+     * Gets the current session snapshot.
+     *
+     * @return the session, or null if not logged in
+     */
+    public Session getSession() {
+        return current.get();
+    }
+
     /**
      * Checks if a user is currently logged in.
-     * 
+     *
      * @return true if a user is logged in, false otherwise
      */
     public boolean isLoggedIn() {
-        return userId != null;
+        return current.get() != null;
     }
-    
+
     /**
      * Gets the current user's ID.
-     * 
+     *
      * @return the user ID, or null if not logged in
      */
     public Integer getUserId() {
-        return userId;
+        Session session = current.get();
+        return session != null ? session.getUserId() : null;
     }
-    
+
     /**
      * Gets the current user's name.
-     * 
+     *
      * @return the user name, or null if not logged in
      */
     public String getUserName() {
-        return userName;
+        Session session = current.get();
+        return session != null ? session.getUserName() : null;
     }
-    
+
     /**
      * Gets the current user's email.
-     * 
+     *
      * @return the user email, or null if not logged in
      */
     public String getUserEmail() {
-        return userEmail;
+        Session session = current.get();
+        return session != null ? session.getUserEmail() : null;
     }
-    
+
     /**
      * Gets the time when the user logged in.
-     * 
+     *
      * @return the login time, or null if not logged in
      */
     public LocalDateTime getLoginTime() {
-        return loginTime;
+        Session session = current.get();
+        return session != null ? session.getLoginTime() : null;
     }
-    
+
     /**
      * Gets the duration of the current session in minutes.
-     * 
+     *
      * @return session duration in minutes, or 0 if not logged in
      */
     public long getSessionDurationMinutes() {
+        LocalDateTime loginTime = getLoginTime();
         if (loginTime == null) {
             return 0;
         }
-        return java.time.Duration.between(loginTime, LocalDateTime.now()).toMinutes();
+        return Duration.between(loginTime, LocalDateTime.now()).toMinutes();
+    }
+
+    /**
+     * Immutable snapshot of a signed-in user.
+     */
+    public static class Session {
+        private final int userId;
+        private final String userName;
+        private final String userEmail;
+        private final LocalDateTime loginTime;
+
+        public Session(int userId, String userName, String userEmail, LocalDateTime loginTime) {
+            this.userId = userId;
+            this.userName = userName;
+            this.userEmail = userEmail;
+            this.loginTime = loginTime;
+        }
+
+        public int getUserId() { return userId; }
+        public String getUserName() { return userName; }
+        public String getUserEmail() { return userEmail; }
+        public LocalDateTime getLoginTime() { return loginTime; }
+
+        @Override
+        public String toString() {
+            return "Session{userId=" + userId + ", email=" + userEmail + ", since=" + loginTime + "}";
+        }
     }
 }
@@ -0,0 +1,222 @@
+package com.notif1ed.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Keeps the signed-in session on disk so a restart can resume it without a
+ * new password check.
+ *
+ * The file is encrypted and authenticated with AES-GCM under a random key
+ * kept next to it (session.key). Both files are created readable only by the
+ * OS user where the file system supports it, before any byte is written. A file that was altered, or written under another key,
+ * is discarded. This protects the session from other accounts on a shared
+ * lab PC, not from the same OS user.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class SessionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionStore.class);
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int KEY_BITS = 256;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final Path keyFile;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Creates a store using the session.file setting
+     * (default ~/.notif1ed/session.dat).
+     */
+    public SessionStore() {
+        this(Paths.get(AppConfig.getString("session.file",
+            Paths.get(System.getProperty("user.home"), ".notif1ed", "session.dat").toString())));
+    }
+
+    /**
+     * Creates a store at the given file; the key is kept beside it.
+     *
+     * @param file the session file
+     */
+    public SessionStore(Path file) {
+        this.file = file.toAbsolutePath();
+        this.keyFile = this.file.resolveSibling("session.key");
+    }
+
+    /**
+     * Writes the session, replacing any previous one.
+     *
+     * @param session the session to keep
+     * @param lastActivity time of the user's last input
+     */
+    public void save(SessionManager.Session session, Instant lastActivity) {
+        try {
+            ByteArrayOutputStream plain = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(plain)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(session.getUserId());
+                out.writeUTF(session.getUserName());
+                out.writeUTF(session.getUserEmail());
+                out.writeLong(session.getLoginTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                out.writeLong(lastActivity.toEpochMilli());
+            }
+
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] sealed = cipher.doFinal(plain.toByteArray());
+
+            byte[] content = new byte[iv.length + sealed.length];
+            System.arraycopy(iv, 0, content, 0, iv.length);
+            System.arraycopy(sealed, 0, content, iv.length, sealed.length);
+
+            // Write then rename, so a crash never leaves a half-written file
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.deleteIfExists(temp);
+            writeNew(temp, content);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Could not save session to {}", file, e);
+        }
+    }
+
+    /**
+     * Reads the saved session, if any. A damaged or foreign file is deleted.
+     *
+     * @return the session and the time of its last activity
+     */
+    public Optional<Saved> load() {
+        if (!Files.exists(file) || !Files.exists(keyFile)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            if (content.length <= IV_BYTES) {
+                throw new IOException("Session file is truncated");
+            }
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, content, 0, IV_BYTES));
+            byte[] plain = cipher.doFinal(content, IV_BYTES, content.length - IV_BYTES);
+
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(plain))) {
+                if (in.readInt() != FORMAT_VERSION) {
+                    throw new IOException("Unknown session file version");
+                }
+                int userId = in.readInt();
+                String name = in.readUTF();
+                String email = in.readUTF();
+                LocalDateTime loginTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneId.systemDefault());
+                Instant lastActivity = Instant.ofEpochMilli(in.readLong());
+                return Optional.of(new Saved(new SessionManager.Session(userId, name, email, loginTime), lastActivity));
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Discarding unreadable session file {}: {}", file, e.toString());
+            clear();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deletes the saved session. The key is kept for the next one.
+     */
+    public void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete session file {}", file, e);
+        }
+    }
+
+    private SecretKey key() throws IOException, GeneralSecurityException {
+        if (Files.exists(keyFile)) {
+            return new SecretKeySpec(Files.readAllBytes(keyFile), "AES");
+        }
+        Path dir = keyFile.getParent();
+        if (!Files.isDirectory(dir)) {
+            Files.createDirectories(dir, ownerOnly(dir, "rwx------"));
+        }
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(KEY_BITS, random);
+        SecretKey key = generator.generateKey();
+        try {
+            writeNew(keyFile, key.getEncoded());
+        } catch (FileAlreadyExistsException e) {
+            // Another instance created it first; use theirs
+            return new SecretKeySpec(Files.readAllBytes(keyFile), "AES");
+        }
+        return key;
+    }
+
+    /**
+     * Creates a file that must not exist yet with owner-only permissions and
+     * only then writes its content, so it is never readable by others.
+     */
+    private static void writeNew(Path path, byte[] content) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(path,
+                EnumSet.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), ownerOnly(path, "rw-------"))) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Path path, String permissions) {
+        if (!path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            // Not a POSIX file system (Windows): the file inherits the user profile's ACL
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions)) };
+    }
+
+    /**
+     * A session read back from disk.
+     */
+    public static class Saved {
+        private final SessionManager.Session session;
+        private final Instant lastActivity;
+
+        public Saved(SessionManager.Session session, Instant lastActivity) {
+            this.session = session;
+            this.lastActivity = lastActivity;
+        }
+
+        public SessionManager.Session getSession() { return session; }
+        public Instant getLastActivity() { return lastActivity; }
+    }
+}
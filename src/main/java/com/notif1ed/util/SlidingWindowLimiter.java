@@ -0,0 +1,184 @@
+package com.notif1ed.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Non-blocking attempt limiter with a sliding window per key.
+ *
+ * Unlike {@link RateLimiter}, which makes callers wait for their slot, this
+ * one answers immediately: an attempt is allowed if fewer than the limit were
+ * made in the last window, otherwise it is refused. The window slides using
+ * the usual two-bucket estimate (the previous fixed window's count, weighted
+ * by how much of it still overlaps, plus the current count), so each key
+ * costs three longs and every update is a single compare-and-set.
+ *
+ * Keys idle for two windows are dropped once more than {@code maxKeys} are
+ * tracked, so a script cycling through random emails cannot grow the map
+ * without bound.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class SlidingWindowLimiter {
+
+    private static final int DEFAULT_MAX_KEYS = 10_000;
+
+    private final int limit;
+    private final long windowNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final Map<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param limit attempts allowed per key per window; 0 or less disables limiting
+     * @param window the window length
+     */
+    public SlidingWindowLimiter(int limit, Duration window) {
+        this(limit, window, DEFAULT_MAX_KEYS, System::nanoTime);
+    }
+
+    /**
+     * Constructor for testing with a controllable clock.
+     *
+     * @param limit attempts allowed per key per window; 0 or less disables limiting
+     * @param window the window length
+     * @param maxKeys keys tracked before idle ones are dropped
+     * @param clock nanosecond time source
+     */
+    SlidingWindowLimiter(int limit, Duration window, int maxKeys, LongSupplier clock) {
+        this.limit = limit;
+        this.windowNanos = Math.max(1, window.toNanos());
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * Records an attempt for the key if it is within the limit.
+     *
+     * @param key what is being limited (e.g. an email address)
+     * @return true if the attempt is allowed, false if it must be refused
+     */
+    public boolean tryAcquire(String key) {
+        if (limit <= 0) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        AtomicReference<Window> state = windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(now, 0, 0)));
+        while (true) {
+            Window current = state.get();
+            Window rolled = current.roll(now, windowNanos);
+            if (rolled.estimate(now, windowNanos) >= limit) {
+                return false;
+            }
+            if (state.compareAndSet(current, rolled.plusOne())) {
+                if (windows.size() > maxKeys) {
+                    evictIdle(now);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks whether an attempt for the key would be allowed now, without
+     * recording one.
+     *
+     * @param key the limited key
+     * @return true if {@link #tryAcquire(String)} would currently succeed
+     */
+    public boolean wouldAllow(String key) {
+        AtomicReference<Window> state = windows.get(key);
+        if (limit <= 0 || state == null) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        return state.get().roll(now, windowNanos).estimate(now, windowNanos) < limit;
+    }
+
+    /**
+     * Estimates how long until the key's next attempt would be allowed.
+     *
+     * @param key the limited key
+     * @return zero if an attempt would be allowed now
+     */
+    public Duration retryAfter(String key) {
+        AtomicReference<Window> state = windows.get(key);
+        if (limit <= 0 || state == null) {
+            return Duration.ZERO;
+        }
+        long now = clock.getAsLong();
+        Window window = state.get().roll(now, windowNanos);
+        if (window.estimate(now, windowNanos) < limit) {
+            return Duration.ZERO;
+        }
+        // An attempt is allowed once previous * (1 - fraction) + current < limit
+        if (window.current >= limit) {
+            // Nothing frees up before this window ends; then its count becomes the weighted part
+            double fraction = Math.max(0, 1 - (double) limit / window.current);
+            return Duration.ofNanos(window.start + windowNanos + (long) (fraction * windowNanos) + 1 - now);
+        }
+        double fraction = 1 - (double) (limit - window.current) / window.previous;
+        return Duration.ofNanos(Math.max(0, window.start + (long) (fraction * windowNanos) + 1 - now));
+    }
+
+    /**
+     * Forgets a key's attempts, e.g. after a successful login.
+     *
+     * @param key the limited key
+     */
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * Gets the number of keys currently tracked.
+     *
+     * @return tracked keys
+     */
+    public int getTrackedKeys() {
+        return windows.size();
+    }
+
+    private void evictIdle(long now) {
+        windows.values().removeIf(state -> now - state.get().start >= 2 * windowNanos);
+    }
+
+    /**
+     * Counts for the fixed window starting at {@code start} and the one before it.
+     */
+    private static final class Window {
+        private final long start;
+        private final long previous;
+        private final long current;
+
+        Window(long start, long previous, long current) {
+            this.start = start;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        Window roll(long now, long windowNanos) {
+            long elapsed = (now - start) / windowNanos;
+            if (elapsed <= 0) {
+                return this;
+            }
+            long newStart = start + elapsed * windowNanos;
+            return new Window(newStart, elapsed == 1 ? current : 0, 0);
+        }
+
+        double estimate(long now, long windowNanos) {
+            double overlap = 1 - (double) (now - start) / windowNanos;
+            return previous * overlap + current;
+        }
+
+        Window plusOne() {
+            return new Window(start, previous, current + 1);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.notif1ed.util;
+
+import com.notif1ed.model.StudentEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Substring search over student number, first name, last name and email.
+ * Each student's searchable text is lowercased once when it is indexed, and
+ * every trigram of it is posted to an inverted index. A query intersects the
+ * posting lists of its own trigrams and only verifies the few candidates,
+ * instead of lowercasing every field of every student per keystroke.
+ * Queries shorter than three characters scan the precomputed keys.
+ *
+ * Students are identified by student number; {@link #put} replaces an
+ * existing entry. All methods are thread-safe.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class StudentSearchIndex {
+
+    private static final int GRAM = 3;
+    // Separates the fields so no trigram spans two of them
+    private static final char FIELD_SEPARATOR = '\n';
+    // Rebuild once removed slots outnumber this and the live ones
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final Map<String, Integer> slotByNumber = new HashMap<>();
+    // Slot -> normalized key and student number; null once the student is removed
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> numbers = new ArrayList<>();
+    // Trigram -> ascending slots (slots are only ever appended)
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private int removedSlots;
+
+    /**
+     * Replaces the whole index.
+     *
+     * @param students the students to index
+     */
+    public synchronized void rebuild(Collection<StudentEntry> students) {
+        clear();
+        for (StudentEntry student : students) {
+            put(student);
+        }
+    }
+
+    /**
+     * Adds a student, or re-indexes it if its student number is already indexed.
+     *
+     * @param student the student
+     */
+    public synchronized void put(StudentEntry student) {
+        String number = student.getStudentNumber();
+        if (number == null) {
+            return;
+        }
+        remove(number);
+        index(number, normalizedKey(student));
+    }
+
+    /**
+     * Removes a student.
+     *
+     * @param studentNumber the student number
+     * @return true if the student was indexed
+     */
+    public synchronized boolean remove(String studentNumber) {
+        Integer slot = slotByNumber.remove(studentNumber);
+        if (slot == null) {
+            return false;
+        }
+        keys.set(slot, null);
+        numbers.set(slot, null);
+        removedSlots++;
+        if (removedSlots > COMPACT_THRESHOLD && removedSlots > slotByNumber.size()) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * @return number of indexed students
+     */
+    public synchronized int size() {
+        return slotByNumber.size();
+    }
+
+    /**
+     * Finds the students whose number, names or email contain the query, ignoring case.
+     *
+     * @param query the search text
+     * @return student numbers of the matches, or null if the query is blank (everything matches)
+     */
+    public synchronized Set<String> search(String query) {
+        String needle = normalize(query);
+        if (needle.isEmpty()) {
+            return null;
+        }
+
+        Set<String> matches = new HashSet<>();
+        if (needle.length() < GRAM) {
+            for (int slot = 0; slot < keys.size(); slot++) {
+                String key = keys.get(slot);
+                if (key != null && key.contains(needle)) {
+                    matches.add(numbers.get(slot));
+                }
+            }
+            return matches;
+        }
+
+        for (int slot : candidates(needle)) {
+            String key = keys.get(slot);
+            if (key != null && key.contains(needle)) {
+                matches.add(numbers.get(slot));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a filter for a {@code FilteredList}, resolved once from the index.
+     * The filter reflects the index at the time of the call.
+     *
+     * @param query the search text
+     * @return a predicate matching students by student number
+     */
+    public Predicate<StudentEntry> filter(String query) {
+        Set<String> matches = search(query);
+        if (matches == null) {
+            return student -> true;
+        }
+        return student -> matches.contains(student.getStudentNumber());
+    }
+
+    private void index(String number, String key) {
+        int slot = keys.size();
+        keys.add(key);
+        numbers.add(number);
+        slotByNumber.put(number, slot);
+
+        for (long gram : grams(key)) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(slot);
+        }
+    }
+
+    /**
+     * Slots containing every trigram of the needle, by intersecting the
+     * posting lists from the shortest up.
+     */
+    private int[] candidates(String needle) {
+        List<IntList> lists = new ArrayList<>();
+        for (long gram : grams(needle)) {
+            IntList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int[] result = Arrays.copyOf(lists.get(0).values, lists.get(0).size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] sorted, IntList list) {
+        int[] out = new int[Math.min(sorted.length, list.size)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sorted.length && j < list.size) {
+            int a = sorted[i];
+            int b = list.values[j];
+            if (a == b) {
+                out[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            long gram = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            grams.add(gram);
+        }
+        return grams;
+    }
+
+    private void compact() {
+        List<String> liveNumbers = new ArrayList<>(slotByNumber.size());
+        List<String> liveKeys = new ArrayList<>(slotByNumber.size());
+        for (int slot = 0; slot < keys.size(); slot++) {
+            if (keys.get(slot) != null) {
+                liveNumbers.add(numbers.get(slot));
+                liveKeys.add(keys.get(slot));
+            }
+        }
+        clear();
+        for (int i = 0; i < liveKeys.size(); i++) {
+            index(liveNumbers.get(i), liveKeys.get(i));
+        }
+    }
+
+    private void clear() {
+        slotByNumber.clear();
+        keys.clear();
+        numbers.clear();
+        postings.clear();
+        removedSlots = 0;
+    }
+
+    private static String normalizedKey(StudentEntry student) {
+        return normalize(student.getStudentNumber()) + FIELD_SEPARATOR
+            + normalize(student.getFirstName()) + FIELD_SEPARATOR
+            + normalize(student.getLastName()) + FIELD_SEPARATOR
+            + normalize(student.getEmail());
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Growable int array, so posting lists do not box every slot.
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
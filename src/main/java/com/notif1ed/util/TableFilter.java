@@ -0,0 +1,147 @@
+package com.notif1ed.util;
+
+import javafx.animation.PauseTransition;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextInputControl;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Debounced search filtering for a table.
+ * Typing restarts a short timer (ui.filter.debounce.ms, default 200); when it
+ * fires, the predicate is built and evaluated on a background thread over a
+ * snapshot of the source list, and the matches replace the table's items in
+ * a single change. A newer query or source change cancels an evaluation still
+ * running, so typing never waits for filtering.
+ *
+ * With a blank query the table shows the source list itself. Source changes
+ * while a query is active re-run the filter.
+ *
+ * Must be created and used on the FX thread.
+ *
+ * @param <T> row type
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public class TableFilter<T> {
+
+    private static final Duration DEBOUNCE = Duration.millis(Math.max(0, AppConfig.getLong("ui.filter.debounce.ms", 200)));
+    // Rows between cancellation checks while filtering
+    private static final int CANCEL_CHECK_INTERVAL = 4096;
+
+    private final TableView<T> table;
+    private final ObservableList<T> source;
+    private final TextInputControl searchField;
+    private final Function<String, Predicate<? super T>> predicates;
+    private final ObservableList<T> matches = FXCollections.observableArrayList();
+    private final PauseTransition debounce = new PauseTransition(DEBOUNCE);
+    private final BackgroundLoader filterLoader = new BackgroundLoader("TableFilter");
+
+    private TableFilter(TableView<T> table, ObservableList<T> source, TextInputControl searchField,
+                        Function<String, Predicate<? super T>> predicates) {
+        this.table = table;
+        this.source = source;
+        this.searchField = searchField;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Attaches a filter to a table and shows the source list in it.
+     *
+     * @param table the table to fill
+     * @param source all rows
+     * @param searchField the field whose text is the query
+     * @param predicates builds the predicate for a non-blank query; called on a background thread
+     * @param <T> row type
+     * @return the attached filter
+     */
+    public static <T> TableFilter<T> attach(TableView<T> table, ObservableList<T> source, TextInputControl searchField,
+                                            Function<String, Predicate<? super T>> predicates) {
+        TableFilter<T> filter = new TableFilter<>(table, source, searchField, predicates);
+        filter.listen();
+        return filter;
+    }
+
+    // Wired after construction, so no listener can see a partly built filter
+    private void listen() {
+        table.setItems(source);
+        debounce.setOnFinished(e -> apply());
+        searchField.textProperty().addListener((obs, oldValue, newValue) -> debounce.playFromStart());
+        source.addListener((ListChangeListener<T>) change -> {
+            if (!isBlank(searchField.getText())) {
+                debounce.playFromStart();
+            }
+        });
+        filterLoader.cancelWhenDetached(table);
+    }
+
+    /**
+     * Applies the current query immediately, skipping the debounce delay.
+     */
+    public void apply() {
+        debounce.stop();
+        String query = searchField.getText();
+
+        if (isBlank(query)) {
+            filterLoader.cancelAll();
+            if (table.getItems() != source) {
+                table.setItems(source);
+            }
+            return;
+        }
+
+        List<T> snapshot = new ArrayList<>(source);
+        filterLoader.load("filter", () -> filter(snapshot, predicates.apply(query.trim())), result -> {
+            matches.setAll(result);
+            if (table.getItems() != matches) {
+                table.setItems(matches);
+            }
+        }, null);
+    }
+
+    private static <T> List<T> filter(List<T> rows, Predicate<? super T> predicate) {
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (i % CANCEL_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Filter superseded");
+            }
+            T row = rows.get(i);
+            if (predicate.test(row)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Case-insensitive substring test that does not allocate, for use in row predicates.
+     *
+     * @param text the text to search (may be null)
+     * @param query the text to find
+     * @return true if text contains query, ignoring case
+     */
+    public static boolean containsIgnoreCase(String text, String query) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - query.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+}
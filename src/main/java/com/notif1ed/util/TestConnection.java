@@ -1,24 +1,24 @@
 package com.notif1ed.util;
 
-import com.notif1ed.util.DatabaseConnectionn;
-
 import java.sql.Connection;
+import java.sql.SQLException;
 
 public class TestConnection {
     public static void main(String[] args) {
         System.out.println("Testing database connection...");
-        Connection conn = DatabaseConnectionn.connect();
         
-        if (conn != null) {
-            System.out.println("✅ Connection successful!");
-            try {
-                conn.close();
-                System.out.println("✅ Connection closed properly.");
-            } catch (Exception e) {
-                e.printStackTrace();
+        try (Connection conn = DatabaseConnection.connect()) {
+            if (conn.isValid(2)) {
+                System.out.println("✅ Connection successful!");
+            } else {
+                System.out.println("❌ Connection opened but did not respond within 2 s");
             }
-        } else {
+        } catch (SQLException e) {
             System.out.println("❌ Connection failed!");
+            e.printStackTrace();
         }
+        
+        System.out.println(DatabaseConnection.getPoolStatistics());
+        DatabaseConnection.closePool();
     }
 }
@@ -0,0 +1,67 @@
+package com.notif1ed.util;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Loads FXML views from /com/notif1ed/view/ and times each load as
+ * {@code fxml.<File>} in {@link MetricsRegistry}.
+ *
+ * @author Notif1ed Development Team
+ * @version 1.0.0
+ */
+public final class ViewLoader {
+
+    private static final String VIEW_ROOT = "/com/notif1ed/view/";
+
+    private ViewLoader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates a loader for a view, for callers that need its controller.
+     *
+     * @param fxmlFile file name, e.g. "StudentPage.fxml"
+     * @return an unloaded FXMLLoader
+     */
+    public static FXMLLoader loader(String fxmlFile) {
+        URL location = ViewLoader.class.getResource(VIEW_ROOT + fxmlFile);
+        if (location == null) {
+            throw new IllegalArgumentException("View not found: " + VIEW_ROOT + fxmlFile);
+        }
+        return new FXMLLoader(location);
+    }
+
+    /**
+     * Loads a view created by {@link #loader(String)}.
+     *
+     * @param loader the loader
+     * @param <T> root node type
+     * @return the root node
+     * @throws IOException if the FXML could not be loaded
+     */
+    public static <T> T load(FXMLLoader loader) throws IOException {
+        String path = loader.getLocation().getPath();
+        long start = System.nanoTime();
+        try {
+            return loader.load();
+        } finally {
+            MetricsRegistry.getInstance().timer("fxml." + path.substring(path.lastIndexOf('/') + 1))
+                .recordSince(start);
+        }
+    }
+
+    /**
+     * Loads a view when its controller is not needed.
+     *
+     * @param fxmlFile file name, e.g. "StudentPage.fxml"
+     * @return the root node
+     * @throws IOException if the FXML could not be loaded
+     */
+    public static Parent load(String fxmlFile) throws IOException {
+        return load(loader(fxmlFile));
+    }
+}
@@ -0,0 +1,53 @@
+package com.notif1ed.model;
+
+import javafx.beans.property.StringProperty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StudentEntry class.
+ * Tests that lazily created properties stay in step with the plain getters and setters.
+ */
+class StudentEntryTest {
+
+    @Test
+    @DisplayName("Should expose values set before and after the property is created")
+    void testLazyPropertySync() {
+        // Arrange
+        StudentEntry student = new StudentEntry("25-0001", "John", "Doe", "john@example.com");
+        student.setSection("BSIT-1A");
+
+        // Act
+        StringProperty section = student.sectionProperty();
+        student.setSection("BSIT-1B");
+        student.firstNameProperty().set("Johnny");
+
+        // Assert
+        assertEquals("BSIT-1B", section.get());
+        assertEquals("BSIT-1B", student.getSection());
+        assertEquals("Johnny", student.getFirstName());
+        assertSame(section, student.sectionProperty());
+        assertEquals("section", section.getName());
+    }
+
+    @Test
+    @DisplayName("Should format a record's display date on first read")
+    void testRecordCreatedAt() {
+        // Arrange
+        RecordEntry record = new RecordEntry(1, "25-0001", "Doe", "John", "john@example.com",
+            LocalDate.of(2025, 6, 1), LocalTime.of(8, 5), "ARRIVAL");
+        RecordEntry undated = new RecordEntry(2, "25-0001", "Doe", "John", "john@example.com", null, null, "ARRIVAL");
+
+        // Act & Assert
+        assertEquals(record.getCreatedAt(), record.createdAtProperty().get());
+        assertTrue(record.getCreatedAt().contains("01, 2025 08:05"));
+        assertEquals("N/A", undated.getCreatedAt());
+        assertEquals("Doe", record.getLastName());
+        assertEquals("ARRIVAL", record.recordTypeProperty().get());
+    }
+}
@@ -0,0 +1,86 @@
+package com.notif1ed.service;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.notif1ed.model.SubjectEntry;
+import com.notif1ed.repository.AttendanceRepository;
+import com.notif1ed.repository.AttendanceRepository.DailyAttendance;
+import com.notif1ed.repository.AttendanceRepository.Report;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttendanceReportService class.
+ * Uses Mockito to mock the AttendanceRepository dependency.
+ */
+class AttendanceReportServiceTest {
+
+    @Mock
+    private AttendanceRepository mockRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private AttendanceReportService reportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reportService = new AttendanceReportService(mockRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reports from the cache until invalidated")
+    void testReportCaching() throws Exception {
+        // Arrange
+        Report report = new Report(7, 30, List.of(new DailyAttendance(LocalDate.of(2025, 11, 10), 24, 20, 30)));
+        when(mockRepository.fetchReport(7)).thenReturn(report);
+
+        // Act
+        Report first = reportService.getReport(7);
+        Report second = reportService.getReport(7);
+        reportService.invalidate(7);
+        reportService.getReport(7);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(6, first.getDays().get(0).getAbsent());
+        assertEquals(80.0, first.getDays().get(0).getAttendanceRate(), 0.001);
+        verify(mockRepository, times(2)).fetchReport(7);
+    }
+
+    @Test
+    @DisplayName("Should render a multi-page PDF for a year-long report")
+    void testWritePdf() throws Exception {
+        // Arrange
+        List<DailyAttendance> days = new ArrayList<>();
+        LocalDate day = LocalDate.of(2025, 12, 31);
+        for (int i = 0; i < 365; i++) {
+            days.add(new DailyAttendance(day.minusDays(i), 25, 22, 30));
+        }
+        Report report = new Report(7, 30, days);
+        SubjectEntry subject = new SubjectEntry(7, "IT101", "Intro to Computing", 1, "BSIT-1A");
+        File file = tempDir.resolve("report.pdf").toFile();
+
+        // Act
+        reportService.writePdf(subject, report, file);
+
+        // Assert
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(file))) {
+            assertTrue(pdf.getNumberOfPages() > 1, "365 rows span several pages");
+        }
+    }
+}
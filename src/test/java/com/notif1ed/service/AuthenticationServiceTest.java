@@ -0,0 +1,236 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.UserRepository;
+import com.notif1ed.repository.UserRepository.User;
+import com.notif1ed.util.PasswordUtils;
+import com.notif1ed.util.SlidingWindowLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuthenticationService class.
+ * Uses Mockito to mock the UserRepository dependency; checks run on the calling thread.
+ */
+class AuthenticationServiceTest {
+
+    // Low work factor keeps the tests fast
+    private static final String HASH = BCrypt.hashpw("secret123", BCrypt.gensalt(4));
+
+    @Mock
+    private UserRepository mockRepository;
+
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        authenticationService = new AuthenticationService(mockRepository, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should return the user when the password matches")
+    void testAuthenticateSuccess() throws Exception {
+        // Arrange
+        User user = new User(7, "Teacher", "teacher@school.edu", HASH);
+        when(mockRepository.findByEmail("teacher@school.edu")).thenReturn(Optional.of(user));
+
+        // Act
+        Optional<User> result = authenticationService.authenticate("teacher@school.edu", "secret123").get();
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(7, result.get().getUserId());
+    }
+
+    @Test
+    @DisplayName("Should accept a legacy plaintext password and replace it with a hash")
+    void testAuthenticateRehashesPlaintext() throws Exception {
+        // Arrange
+        when(mockRepository.findByEmail("admin@notified.com"))
+            .thenReturn(Optional.of(new User(1, "Admin User", "admin@notified.com", "admin123")));
+        when(mockRepository.updatePassword(eq(1), eq("admin123"), anyString())).thenReturn(true);
+
+        // Act
+        Optional<User> result = authenticationService.authenticate("admin@notified.com", "admin123").get();
+
+        // Assert
+        assertTrue(result.isPresent());
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(mockRepository).updatePassword(eq(1), eq("admin123"), hash.capture());
+        assertEquals(PasswordUtils.HashScheme.BCRYPT, PasswordUtils.schemeOf(hash.getValue()));
+        assertFalse(PasswordUtils.needsRehash(hash.getValue()));
+        assertTrue(PasswordUtils.checkPassword("admin123", hash.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should not rehash after a failed login")
+    void testAuthenticateWrongPasswordKeepsStoredValue() throws Exception {
+        // Arrange
+        when(mockRepository.findByEmail("admin@notified.com"))
+            .thenReturn(Optional.of(new User(1, "Admin User", "admin@notified.com", "admin123")));
+
+        // Act
+        Optional<User> result = authenticationService.authenticate("admin@notified.com", "ADMIN123").get();
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(mockRepository, never()).updatePassword(anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should return empty for a wrong password or unknown email")
+    void testAuthenticateInvalidCredentials() throws Exception {
+        // Arrange
+        when(mockRepository.findByEmail("teacher@school.edu"))
+            .thenReturn(Optional.of(new User(7, "Teacher", "teacher@school.edu", HASH)));
+        when(mockRepository.findByEmail("nobody@school.edu")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(authenticationService.authenticate("teacher@school.edu", "wrong").get().isEmpty());
+        assertTrue(authenticationService.authenticate("nobody@school.edu", "secret123").get().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fail with the database error when the lookup fails")
+    void testAuthenticateDatabaseError() throws Exception {
+        // Arrange
+        SQLException failure = new SQLException("connection refused");
+        when(mockRepository.findByEmail(anyString())).thenThrow(failure);
+
+        // Act
+        CompletableFuture<Optional<User>> result = authenticationService.authenticate("teacher@school.edu", "secret123");
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, result::get);
+        assertSame(failure, error.getCause());
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the executor is saturated")
+    void testAuthenticateRejected() {
+        // Arrange
+        AuthenticationService saturated = new AuthenticationService(mockRepository, task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        // Act
+        CompletableFuture<Optional<User>> result = saturated.authenticate("teacher@school.edu", "secret123");
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        verifyNoInteractions(mockRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse attempts over the per-account limit before any lookup or hashing")
+    void testAuthenticateThrottledPerAccount() throws Exception {
+        // Arrange
+        AuthenticationService limited = new AuthenticationService(mockRepository, Runnable::run,
+            new SlidingWindowLimiter(2, Duration.ofMinutes(5)), new SlidingWindowLimiter(0, Duration.ofMinutes(1)));
+        when(mockRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        limited.authenticate("teacher@school.edu", "guess1").get();
+        limited.authenticate("Teacher@School.edu", "guess2").get();
+        CompletableFuture<Optional<User>> third = limited.authenticate("teacher@school.edu", "guess3");
+        CompletableFuture<Optional<User>> otherAccount = limited.authenticate("other@school.edu", "guess1");
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, third::get);
+        assertInstanceOf(AuthenticationService.ThrottledException.class, error.getCause());
+        assertTrue(((AuthenticationService.ThrottledException) error.getCause()).getRetryAfter().toSeconds() > 0);
+        assertTrue(otherAccount.get().isEmpty(), "Other accounts should not be throttled");
+        verify(mockRepository, times(3)).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Should refuse attempts over the workstation limit across accounts")
+    void testAuthenticateThrottledPerWorkstation() throws Exception {
+        // Arrange
+        AuthenticationService limited = new AuthenticationService(mockRepository, Runnable::run,
+            new SlidingWindowLimiter(0, Duration.ofMinutes(5)), new SlidingWindowLimiter(2, Duration.ofMinutes(1)));
+        when(mockRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        limited.authenticate("a@school.edu", "guess").get();
+        limited.authenticate("b@school.edu", "guess").get();
+        CompletableFuture<Optional<User>> third = limited.authenticate("c@school.edu", "guess");
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, third::get);
+        assertInstanceOf(AuthenticationService.ThrottledException.class, error.getCause());
+        verify(mockRepository, never()).findByEmail("c@school.edu");
+    }
+
+    @Test
+    @DisplayName("Should not charge the account limit for attempts the workstation limit refuses")
+    void testWorkstationRefusalKeepsAccountSlot() throws Exception {
+        // Arrange
+        SlidingWindowLimiter accountLimiter = new SlidingWindowLimiter(1, Duration.ofMinutes(5));
+        SlidingWindowLimiter workstationLimiter = new SlidingWindowLimiter(1, Duration.ofMinutes(1));
+        AuthenticationService limited = new AuthenticationService(mockRepository, Runnable::run,
+            accountLimiter, workstationLimiter);
+        when(mockRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act
+        limited.authenticate("a@school.edu", "guess").get();
+        CompletableFuture<Optional<User>> refused = limited.authenticate("b@school.edu", "guess");
+
+        // Assert
+        assertThrows(ExecutionException.class, refused::get);
+        assertTrue(accountLimiter.wouldAllow("b@school.edu"), "Refused attempt should not use the account's slot");
+    }
+
+    @Test
+    @DisplayName("Should run the accepted callback only for attempts the throttles let through")
+    void testAcceptedCallbackSkippedWhenThrottled() throws Exception {
+        // Arrange
+        AuthenticationService limited = new AuthenticationService(mockRepository, Runnable::run,
+            new SlidingWindowLimiter(0, Duration.ofMinutes(5)), new SlidingWindowLimiter(1, Duration.ofMinutes(1)));
+        when(mockRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        AtomicInteger accepted = new AtomicInteger();
+
+        // Act
+        limited.authenticate("a@school.edu", "guess", accepted::incrementAndGet).get();
+        CompletableFuture<Optional<User>> refused = limited.authenticate("b@school.edu", "guess", accepted::incrementAndGet);
+
+        // Assert
+        assertThrows(ExecutionException.class, refused::get);
+        assertEquals(1, accepted.get(), "Refused attempts should not start any prefetch");
+    }
+
+    @Test
+    @DisplayName("Should clear an account's failed attempts after a successful login")
+    void testAuthenticateSuccessResetsAccountLimit() throws Exception {
+        // Arrange
+        AuthenticationService limited = new AuthenticationService(mockRepository, Runnable::run,
+            new SlidingWindowLimiter(2, Duration.ofMinutes(5)), new SlidingWindowLimiter(0, Duration.ofMinutes(1)));
+        when(mockRepository.findByEmail("teacher@school.edu"))
+            .thenReturn(Optional.of(new User(7, "Teacher", "teacher@school.edu", HASH)));
+
+        // Act
+        limited.authenticate("teacher@school.edu", "wrong").get();
+        limited.authenticate("teacher@school.edu", "secret123").get();
+        Optional<User> next = limited.authenticate("teacher@school.edu", "secret123").get();
+
+        // Assert
+        assertTrue(next.isPresent());
+    }
+}
@@ -0,0 +1,131 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.ChangeStamp;
+import com.notif1ed.model.RecordEntry;
+import com.notif1ed.model.StudentEntry;
+import com.notif1ed.repository.RecordRepository;
+import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.repository.SubjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChangeFeed class.
+ * Uses Mockito to mock the polled repositories; polls are run directly.
+ */
+class ChangeFeedTest {
+
+    private static final ChangeStamp BASELINE = new ChangeStamp(2, Timestamp.valueOf("2025-06-01 08:00:00"));
+
+    @Mock
+    private RecordRepository mockRecordRepository;
+
+    @Mock
+    private StudentRepository mockStudentRepository;
+
+    @Mock
+    private SubjectRepository mockSubjectRepository;
+
+    private ChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        changeFeed = new ChangeFeed(mockRecordRepository, mockStudentRepository, mockSubjectRepository);
+    }
+
+    private static RecordEntry record(int id) {
+        return new RecordEntry(id, "25-0001", "Doe", "John", "john@example.com",
+            LocalDate.of(2025, 6, 1), LocalTime.of(8, 0), "ARRIVAL");
+    }
+
+    @Test
+    @DisplayName("Should deliver only records added after the subscription")
+    void testNewRecordsAfterBaseline() throws SQLException {
+        // Arrange
+        List<ChangeFeed.Delta<RecordEntry>> deltas = new ArrayList<>();
+        when(mockRecordRepository.findMaxRecordId()).thenReturn(40);
+        when(mockRecordRepository.findAfter(40, 500)).thenReturn(List.of(record(41), record(42)));
+        when(mockRecordRepository.findAfter(42, 500)).thenReturn(List.of());
+        changeFeed.subscribeRecords(deltas::add);
+
+        // Act
+        changeFeed.poll();
+        changeFeed.poll();
+        changeFeed.poll();
+
+        // Assert
+        assertEquals(1, deltas.size());
+        assertFalse(deltas.get(0).isReset());
+        assertEquals(List.of(41, 42), deltas.get(0).getRows().stream().map(RecordEntry::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should fetch changed students only when the stamp moves, and reset on deletes")
+    void testStudentStampChanges() throws SQLException {
+        // Arrange
+        List<ChangeFeed.Delta<StudentEntry>> deltas = new ArrayList<>();
+        ChangeStamp updated = new ChangeStamp(2, Timestamp.valueOf("2025-06-01 09:00:00"));
+        ChangeStamp deleted = new ChangeStamp(1, Timestamp.valueOf("2025-06-01 09:00:00"));
+        StudentEntry changed = new StudentEntry("25-0002", "Maria", "Santos", "maria@school.edu");
+        when(mockStudentRepository.fetchChangeStamp()).thenReturn(BASELINE, BASELINE, updated, deleted);
+        when(mockStudentRepository.findUpdatedSince(BASELINE.getLastUpdated(), 500)).thenReturn(List.of(changed));
+        changeFeed.subscribeStudents(deltas::add);
+
+        // Act
+        changeFeed.poll();
+        changeFeed.poll();
+        changeFeed.poll();
+        changeFeed.poll();
+
+        // Assert
+        assertEquals(2, deltas.size());
+        assertEquals(List.of(changed), deltas.get(0).getRows());
+        assertEquals(BASELINE, deltas.get(0).getPrevious());
+        assertEquals(updated, deltas.get(0).getCurrent());
+        assertTrue(deltas.get(1).isReset());
+        verify(mockStudentRepository, times(1)).findUpdatedSince(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not poll tables nobody is subscribed to")
+    void testUnwatchedTablesAreNotPolled() throws SQLException {
+        // Arrange
+        ChangeFeed.Subscription subscription = changeFeed.subscribeRecords(delta -> { });
+        subscription.close();
+
+        // Act
+        changeFeed.poll();
+
+        // Assert
+        verifyNoInteractions(mockRecordRepository, mockStudentRepository, mockSubjectRepository);
+    }
+
+    @Test
+    @DisplayName("Should merge delta rows into a sorted list, replacing existing ones")
+    void testApplyToSortedList() {
+        // Arrange
+        List<String> list = new ArrayList<>(List.of("IT101", "IT103"));
+        ChangeFeed.Delta<String> delta = new ChangeFeed.Delta<>(List.of("IT102", "IT103", "IT100"), false, null, null);
+
+        // Act
+        delta.applyTo(list, Comparator.naturalOrder());
+
+        // Assert
+        assertEquals(List.of("IT100", "IT101", "IT102", "IT103"), list);
+    }
+}
@@ -0,0 +1,86 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.EnrollmentRepository;
+import com.notif1ed.repository.EnrollmentRepository.Enrollment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EnrollmentService class.
+ * Uses Mockito to mock the repository, record and report dependencies.
+ */
+class EnrollmentServiceTest {
+
+    @Mock
+    private EnrollmentRepository mockRepository;
+
+    @Mock
+    private RecordService mockRecordService;
+
+    @Mock
+    private AttendanceReportService mockReportService;
+
+    private EnrollmentService enrollmentService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        enrollmentService = new EnrollmentService(mockRepository, mockRecordService, mockReportService);
+    }
+
+    @Test
+    @DisplayName("Should record a bulk enrollment in one batch and invalidate the report")
+    void testEnrollAllRecordsInOneBatch() throws SQLException {
+        // Arrange
+        List<String> numbers = List.of("25-0001", "25-0002");
+        List<Enrollment> enrolled = List.of(new Enrollment(1, "25-0001"), new Enrollment(2, "25-0002"));
+        when(mockRepository.enrollAll(5, numbers)).thenReturn(enrolled);
+
+        // Act
+        List<Enrollment> result = enrollmentService.enrollAll(5, "IT101", numbers);
+
+        // Assert
+        assertEquals(enrolled, result);
+        verify(mockRecordService, times(1)).recordEnrollments(5, "IT101", enrolled);
+        verify(mockReportService).invalidate(5);
+    }
+
+    @Test
+    @DisplayName("Should keep the enrollment when its records cannot be written")
+    void testEnrollSectionSurvivesRecordFailure() throws SQLException {
+        // Arrange
+        List<Enrollment> enrolled = List.of(new Enrollment(3, "25-0003"));
+        when(mockRepository.enrollSection(5, "BSIT-1A")).thenReturn(enrolled);
+        when(mockRecordService.recordEnrollments(anyInt(), anyString(), anyList())).thenThrow(new SQLException("down"));
+
+        // Act
+        List<Enrollment> result = enrollmentService.enrollSection(5, "IT101", "BSIT-1A");
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    @DisplayName("Should not write records when nobody was enrolled")
+    void testEnrollSectionNothingToEnroll() throws SQLException {
+        // Arrange
+        when(mockRepository.enrollSection(5, "BSIT-1A")).thenReturn(Collections.emptyList());
+
+        // Act
+        List<Enrollment> result = enrollmentService.enrollSection(5, "IT101", "BSIT-1A");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(mockRecordService, mockReportService);
+    }
+}
@@ -0,0 +1,116 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.ExportRepository;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExportService class.
+ * Uses Mockito to mock the ExportRepository and the streamed result set.
+ */
+class ExportServiceTest {
+
+    @Mock
+    private ExportRepository mockRepository;
+
+    @Mock
+    private ResultSet mockResultSet;
+
+    @Mock
+    private ResultSetMetaData mockMetaData;
+
+    @TempDir
+    Path tempDir;
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        exportService = new ExportService(mockRepository);
+
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(3);
+        when(mockResultSet.getObject(1)).thenReturn(42, 43);
+        when(mockResultSet.getObject(2)).thenReturn(Timestamp.valueOf("2025-11-10 07:30:00"));
+        when(mockResultSet.getObject(3)).thenReturn("Arrival", (Object) null);
+
+        // Two streamed rows
+        when(mockRepository.streamRecords(anyInt(), any())).thenAnswer(invocation -> {
+            ExportRepository.RowHandler handler = invocation.getArgument(1);
+            handler.row(mockResultSet);
+            handler.row(mockResultSet);
+            return 2L;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted(); // clear any flag left by the cancellation test
+    }
+
+    @Test
+    @DisplayName("Should write a header row and one row per streamed record")
+    void testExportRecords() throws Exception {
+        // Arrange
+        File file = tempDir.resolve("records.xlsx").toFile();
+        when(mockRepository.count(anyString())).thenReturn(2L);
+        long[] progress = new long[2];
+
+        // Act
+        long rows = exportService.export(ExportService.Dataset.RECORDS, file, (done, total) -> {
+            progress[0] = done;
+            progress[1] = total;
+        });
+
+        // Assert
+        assertEquals(2, rows);
+        assertArrayEquals(new long[]{2, 2}, progress);
+        try (Workbook workbook = new XSSFWorkbook(file)) {
+            Sheet sheet = workbook.getSheet("Records");
+            assertEquals("Record ID", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(42, sheet.getRow(1).getCell(0).getNumericCellValue());
+            assertEquals(2025, sheet.getRow(1).getCell(1).getLocalDateTimeCellValue().getYear());
+            assertEquals("Arrival", sheet.getRow(1).getCell(2).getStringCellValue());
+            assertEquals(43, sheet.getRow(2).getCell(0).getNumericCellValue());
+            assertNull(sheet.getRow(2).getCell(2), "Null values leave the cell empty");
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop and delete the file when the thread is interrupted")
+    void testExportCancelled() throws Exception {
+        // Arrange
+        File file = tempDir.resolve("cancelled.xlsx").toFile();
+        doAnswer(invocation -> {
+            ExportRepository.RowHandler handler = invocation.getArgument(1);
+            handler.row(mockResultSet);
+            Thread.currentThread().interrupt(); // cancelled mid-export
+            handler.row(mockResultSet);
+            return 2L;
+        }).when(mockRepository).streamRecords(anyInt(), any());
+
+        // Act & Assert
+        assertThrows(CancellationException.class,
+            () -> exportService.export(ExportService.Dataset.RECORDS, file, null));
+        assertFalse(file.exists());
+    }
+}
@@ -0,0 +1,128 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.NotificationRepository;
+import com.notif1ed.repository.NotificationRepository.Notification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationDispatcher class.
+ * Uses Mockito to mock the outbox repository and the email service.
+ */
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationRepository mockRepository;
+
+    @Mock
+    private EmailService mockEmailService;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(mockEmailService.getRelayHost()).thenReturn("test-relay");
+        when(mockEmailService.getPoolSize()).thenReturn(2);
+        when(mockRepository.claim(anyList(), anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+        dispatcher = new NotificationDispatcher(mockRepository, mockEmailService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("Should mark delivered notifications as sent")
+    void testDispatchMarksSent() throws Exception {
+        // Arrange
+        Notification first = new Notification(1, 10, "a@example.com", "Title", "Body", 0);
+        Notification second = new Notification(2, 11, "b@example.com", "Title", "Body", 0);
+        when(mockRepository.findDue(anyInt())).thenReturn(List.of(first, second));
+
+        // Act
+        int processed = dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(2, processed);
+        verify(mockEmailService).send("a@example.com", "Title", "Body");
+        verify(mockEmailService).send("b@example.com", "Title", "Body");
+        verify(mockRepository).markSent(argThat(ids -> ids.containsAll(List.of(1, 2)) && ids.size() == 2));
+        verify(mockRepository, never()).reschedule(anyInt(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reschedule transient failures with backoff")
+    void testDispatchReschedulesTransientFailure() throws Exception {
+        // Arrange
+        Notification notification = new Notification(5, 10, "a@example.com", "Title", "Body", 1);
+        when(mockRepository.findDue(anyInt())).thenReturn(List.of(notification));
+        doThrow(new MessagingException("Could not connect to SMTP host"))
+            .when(mockEmailService).send(anyString(), anyString(), anyString());
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        verify(mockRepository).reschedule(5, "Could not connect to SMTP host", NotificationDispatcher.backoffSeconds(2));
+        verify(mockRepository, never()).markFailed(anyInt(), any());
+        verify(mockRepository).markSent(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("Should fail rejected addresses without retrying")
+    void testDispatchFailsRejectedAddress() throws Exception {
+        // Arrange
+        Notification notification = new Notification(7, 10, "bad@example.com", "Title", "Body", 0);
+        when(mockRepository.findDue(anyInt())).thenReturn(List.of(notification));
+        doThrow(new SendFailedException("Invalid Addresses"))
+            .when(mockEmailService).send(anyString(), anyString(), anyString());
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        verify(mockRepository).markFailed(7, "Invalid Addresses");
+        verify(mockRepository, never()).reschedule(anyInt(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should skip notifications claimed by another dispatcher")
+    void testDispatchSkipsUnclaimed() throws Exception {
+        // Arrange
+        Notification notification = new Notification(9, 10, "a@example.com", "Title", "Body", 0);
+        when(mockRepository.findDue(anyInt())).thenReturn(List.of(notification));
+        when(mockRepository.claim(anyList(), anyInt())).thenReturn(Collections.emptyList());
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        verify(mockEmailService, never()).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should double the retry delay up to the maximum")
+    void testBackoff() {
+        long first = NotificationDispatcher.backoffSeconds(1);
+        long second = NotificationDispatcher.backoffSeconds(2);
+
+        assertEquals(first * 2, second);
+        assertTrue(NotificationDispatcher.backoffSeconds(100) >= second, "Backoff never shrinks");
+        assertEquals(NotificationDispatcher.backoffSeconds(100), NotificationDispatcher.backoffSeconds(200),
+            "Backoff is capped");
+    }
+}
@@ -0,0 +1,67 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.NotificationRepository;
+import com.notif1ed.repository.NotificationRepository.Guardian;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationService class.
+ * Uses Mockito to mock the outbox repository and the dispatcher.
+ */
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository mockRepository;
+
+    @Mock
+    private NotificationDispatcher mockDispatcher;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        notificationService = new NotificationService(mockRepository, mockDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should address attendance notifications to the guardian's email")
+    void testQueueAttendanceToGuardian() throws Exception {
+        // Arrange
+        when(mockRepository.findGuardian(3))
+            .thenReturn(Optional.of(new Guardian("Bob Johnson", "Alice Johnson", "alice@example.com")));
+
+        // Act
+        boolean queued = notificationService.queueAttendance(3, 7, "Arrival");
+
+        // Assert
+        assertTrue(queued);
+        verify(mockRepository).enqueue(eq(3), eq(7), eq("alice@example.com"), eq("Attendance Notification"),
+            argThat(message -> message.contains("Alice Johnson") && message.contains("Bob Johnson")), any());
+        verify(mockDispatcher).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should not queue attendance notifications without a guardian email")
+    void testQueueAttendanceWithoutGuardian() throws Exception {
+        // Arrange
+        when(mockRepository.findGuardian(4)).thenReturn(Optional.of(new Guardian("Juztyne", "Test", null)));
+
+        // Act
+        boolean queued = notificationService.queueAttendance(4, null, "Departure");
+
+        // Assert
+        assertFalse(queued);
+        verify(mockRepository, never()).enqueue(anyInt(), any(), any(), any(), any(), any());
+        verify(mockDispatcher, never()).wakeUp();
+    }
+}
@@ -0,0 +1,109 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.RecordEntry;
+import com.notif1ed.repository.RecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RecordService class.
+ * Uses Mockito to mock the RecordRepository dependency.
+ */
+class RecordServiceTest {
+
+    @Mock
+    private RecordRepository mockRepository;
+
+    @Mock
+    private NotificationService mockNotificationService;
+
+    private RecordService recordService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        recordService = new RecordService(mockRepository, mockNotificationService);
+    }
+
+    @Test
+    @DisplayName("Should queue a guardian notification for attendance records only")
+    void testAttendanceQueuesGuardianNotification() throws Exception {
+        // Arrange
+        when(mockRepository.save(anyInt(), any(), anyString(), any())).thenReturn(true);
+
+        // Act
+        boolean arrival = recordService.recordAttendance(3, 7, true);
+        recordService.addRecord(3, null, "EMAIL_SENT", "Email sent");
+
+        // Assert
+        assertTrue(arrival);
+        verify(mockNotificationService).queueAttendance(3, 7, "Arrival");
+        verify(mockNotificationService, never()).queueAttendance(anyInt(), any(), eq("EMAIL_SENT"));
+    }
+
+    @Test
+    @DisplayName("Should keep the attendance record when queueing the notification fails")
+    void testAttendanceSurvivesQueueFailure() throws Exception {
+        // Arrange
+        when(mockRepository.save(anyInt(), any(), anyString(), any())).thenReturn(true);
+        when(mockNotificationService.queueAttendance(anyInt(), any(), anyString()))
+            .thenThrow(new java.sql.SQLException("Connection refused"));
+
+        // Act
+        boolean saved = recordService.addRecord(3, null, "Departure", null);
+
+        // Assert
+        assertTrue(saved);
+    }
+
+    @Test
+    @DisplayName("Should request the first page without a cursor")
+    void testGetFirstRecordPage() throws Exception {
+        RecordEntry entry = new RecordEntry(10, "21-0001", "Doe", "John", "john@example.com",
+            LocalDate.of(2025, 11, 10), LocalTime.of(7, 30), "Arrival");
+        when(mockRepository.findPage(null, 0, 50)).thenReturn(List.of(entry));
+
+        List<RecordEntry> page = recordService.getRecordPage(null, 50);
+
+        assertEquals(1, page.size());
+        verify(mockRepository, times(1)).findPage(null, 0, 50);
+    }
+
+    @Test
+    @DisplayName("Should use the last entry's timestamp and ID as the keyset cursor")
+    void testGetNextRecordPage() throws Exception {
+        RecordEntry last = new RecordEntry(42, "21-0002", "Smith", "Mary", "mary@example.com",
+            LocalDate.of(2025, 11, 10), LocalTime.of(7, 45, 12), "Departure");
+        when(mockRepository.findPage(any(), anyInt(), anyInt())).thenReturn(Collections.emptyList());
+
+        recordService.getRecordPage(last, 50);
+
+        verify(mockRepository).findPage(LocalDateTime.of(2025, 11, 10, 7, 45, 12), 42, 50);
+    }
+
+    @Test
+    @DisplayName("Should search in the database with the trimmed query and the same cursor")
+    void testSearchRecordPage() throws Exception {
+        RecordEntry last = new RecordEntry(42, "21-0002", "Smith", "Mary", "mary@example.com",
+            LocalDate.of(2025, 11, 10), LocalTime.of(7, 45, 12), "Departure");
+        when(mockRepository.searchPage(any(), anyInt(), anyString(), anyInt())).thenReturn(Collections.emptyList());
+
+        recordService.getRecordPage(last, "  smith ", 50);
+        recordService.getRecordPage(null, " ", 50);
+
+        verify(mockRepository).searchPage(LocalDateTime.of(2025, 11, 10, 7, 45, 12), 42, "smith", 50);
+        verify(mockRepository).findPage(null, 0, 50);
+    }
+}
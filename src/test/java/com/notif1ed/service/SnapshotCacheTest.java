@@ -0,0 +1,202 @@
+package com.notif1ed.service;
+
+import com.notif1ed.model.ChangeStamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SnapshotCache class.
+ * Uses an in-memory table whose loads and probes are counted.
+ */
+class SnapshotCacheTest {
+
+    private final List<String> table = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger probes = new AtomicInteger();
+    private ChangeStamp stamp;
+    private boolean probeFails;
+    private boolean loadFails;
+
+    @BeforeEach
+    void setUp() {
+        table.clear();
+        table.add("IT101");
+        table.add("IT102");
+        stamp = new ChangeStamp(2, Timestamp.valueOf("2025-06-01 08:00:00"));
+        probeFails = false;
+        loadFails = false;
+    }
+
+    private SnapshotCache<String> cache(long probeIntervalMillis) {
+        return new SnapshotCache<>("test", () -> {
+            loads.incrementAndGet();
+            if (loadFails) {
+                throw new SQLException("down");
+            }
+            return new ArrayList<>(table);
+        }, () -> {
+            probes.incrementAndGet();
+            if (probeFails) {
+                throw new SQLException("down");
+            }
+            return stamp;
+        }, probeIntervalMillis, 100);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads within the probe interval without queries")
+    void testReadsWithinIntervalHitNoQueries() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(60_000);
+        cache.get();
+        int queries = loads.get() + probes.get();
+
+        // Act
+        SnapshotCache.Snapshot<String> snapshot = cache.get();
+        cache.get();
+
+        // Assert
+        assertEquals(List.of("IT101", "IT102"), snapshot.getItems());
+        assertEquals(queries, loads.get() + probes.get());
+    }
+
+    @Test
+    @DisplayName("Should reload only when the change probe reports a different stamp")
+    void testReloadOnChangedStamp() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(0);
+        long first = cache.get().getVersion();
+
+        // Act
+        long unchanged = cache.get().getVersion();
+        table.add("IT103");
+        stamp = new ChangeStamp(3, Timestamp.valueOf("2025-06-01 09:00:00"));
+        SnapshotCache.Snapshot<String> changed = cache.get();
+
+        // Assert
+        assertEquals(first, unchanged);
+        assertTrue(changed.getVersion() > first);
+        assertEquals(3, changed.getItems().size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should apply patches without loading and reload after invalidation")
+    void testPatchAndInvalidate() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(60_000);
+        long first = cache.get().getVersion();
+
+        // Act
+        long patched = cache.patch(items -> {
+            items.remove("IT101");
+            return items;
+        });
+        List<String> afterPatch = cache.get().getItems();
+        cache.invalidate();
+        List<String> afterInvalidate = cache.get().getItems();
+
+        // Assert
+        assertTrue(patched > first);
+        assertEquals(List.of("IT102"), afterPatch);
+        assertEquals(List.of("IT101", "IT102"), afterInvalidate);
+        assertEquals(2, loads.get());
+        assertThrows(UnsupportedOperationException.class, () -> afterPatch.add("IT999"));
+    }
+
+    @Test
+    @DisplayName("Should keep serving the cached list when the probe fails")
+    void testProbeFailureServesCachedList() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(0);
+        cache.get();
+        probeFails = true;
+        table.clear();
+
+        // Act
+        List<String> items = cache.get().getItems();
+
+        // Assert
+        assertEquals(List.of("IT101", "IT102"), items);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should advance to a newer stamp with delta changes, and drop the list if counts disagree")
+    void testAdvance() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(0);
+        ChangeStamp from = stamp;
+        cache.get();
+        ChangeStamp added = new ChangeStamp(3, Timestamp.valueOf("2025-06-01 09:00:00"));
+        ChangeStamp missedDelete = new ChangeStamp(3, Timestamp.valueOf("2025-06-01 10:00:00"));
+
+        // Act
+        long advanced = cache.advance(from, added, items -> {
+            items.add("IT103");
+            return items;
+        });
+        stamp = added;
+        List<String> afterAdvance = cache.get().getItems();
+        long mismatched = cache.advance(added, missedDelete, items -> {
+            items.add("IT104");
+            return items;
+        });
+
+        // Assert
+        assertTrue(advanced > 0);
+        assertEquals(List.of("IT101", "IT102", "IT103"), afterAdvance);
+        assertEquals(0, mismatched);
+        assertEquals(1, loads.get());
+        cache.get();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache a failed first load, so the next read loads again")
+    void testFailedLoadIsNotCached() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(60_000);
+        loadFails = true;
+
+        // Act
+        assertThrows(SQLException.class, cache::get);
+        loadFails = false;
+        SnapshotCache.Snapshot<String> snapshot = cache.get();
+
+        // Assert
+        assertEquals(List.of("IT101", "IT102"), snapshot.getItems());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the previous list when a reload fails and retry on the next read")
+    void testFailedReloadKeepsPreviousList() throws Exception {
+        // Arrange
+        SnapshotCache<String> cache = cache(0);
+        long first = cache.get().getVersion();
+        table.add("IT103");
+        stamp = new ChangeStamp(3, Timestamp.valueOf("2025-06-01 09:00:00"));
+        loadFails = true;
+
+        // Act
+        SnapshotCache.Snapshot<String> duringOutage = cache.get();
+        loadFails = false;
+        SnapshotCache.Snapshot<String> recovered = cache.get();
+
+        // Assert
+        assertEquals(first, duringOutage.getVersion());
+        assertEquals(List.of("IT101", "IT102"), duringOutage.getItems());
+        assertEquals(3, recovered.getItems().size());
+        assertEquals(3, loads.get());
+    }
+}
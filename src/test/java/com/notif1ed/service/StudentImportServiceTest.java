@@ -0,0 +1,106 @@
+package com.notif1ed.service;
+
+import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.repository.StudentRepository.ImportRow;
+import com.notif1ed.repository.StudentRepository.RowError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StudentImportService class.
+ * Uses Mockito to mock the StudentRepository dependency.
+ */
+class StudentImportServiceTest {
+
+    @Mock
+    private StudentRepository mockRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private StudentImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        importService = new StudentImportService(mockRepository);
+    }
+
+    @Test
+    @DisplayName("Should accept complete rows and reject rows with missing fields")
+    void testParseRowValidation() {
+        // Arrange
+        List<RowError> errors = new ArrayList<>();
+
+        // Act
+        ImportRow valid = importService.parseRow(2, List.of("25-0001", "John", "Doe", "BSIT-1A", "john@example.com", "Jane Doe", "jane@example.com"), errors);
+        ImportRow missing = importService.parseRow(3, List.of("25-0002", "Mary", "", "BSIT-1A", "mary@example.com", "Bob Smith", "bob@example.com"), errors);
+        ImportRow blank = importService.parseRow(4, List.of("", "", "", "", "", "", ""), errors);
+
+        // Assert
+        assertNotNull(valid);
+        assertEquals("25-0001", valid.getStudent().getStudentNumber());
+        assertEquals("Jane Doe", valid.getStudent().getGuardianName());
+        assertEquals("BSIT-1A", valid.getStudent().getSection());
+        assertNull(missing);
+        assertNull(blank);
+        assertEquals(1, errors.size(), "Blank rows are skipped silently");
+        assertEquals("Row 3: Missing required fields", errors.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should stream .xlsx rows with row numbers, numeric cells and gaps")
+    void testReadRowsStreaming() throws Exception {
+        // Arrange
+        File file = tempDir.resolve("students.xlsx").toFile();
+        try (Workbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Students");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Student Number");
+            header.createCell(1).setCellValue("First Name");
+
+            Row first = sheet.createRow(1);
+            first.createCell(0).setCellValue(250001);          // numeric student number
+            first.createCell(1).setCellValue("John");
+            first.createCell(6).setCellValue("jane@example.com"); // columns 2-5 left empty
+
+            Row third = sheet.createRow(3);                     // row 2 missing entirely
+            third.createCell(0).setCellValue("25-0003");
+            workbook.write(out);
+        }
+        List<Integer> rowNumbers = new ArrayList<>();
+        List<List<String>> rows = new ArrayList<>();
+        long[] lastProgress = {0, 0};
+
+        // Act
+        importService.readRows(file, (rowNumber, values) -> {
+            rowNumbers.add(rowNumber);
+            rows.add(values);
+        }, (done, total) -> {
+            lastProgress[0] = done;
+            lastProgress[1] = total;
+        });
+
+        // Assert
+        assertEquals(List.of(2, 4), rowNumbers);
+        assertEquals(List.of("250001", "John", "", "", "", "", "jane@example.com"), rows.get(0));
+        assertEquals("25-0003", rows.get(1).get(0));
+        assertTrue(lastProgress[0] > 0, "Progress is reported at the end of the sheet");
+    }
+}
@@ -2,6 +2,7 @@ package com.notif1ed.service;
 
 import com.notif1ed.model.StudentEntry;
 import com.notif1ed.repository.StudentRepository;
+import com.notif1ed.util.StudentSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -34,7 +35,7 @@ class StudentServiceTest {
 
     @Test
     @DisplayName("Should retrieve all students")
-    void testGetAllStudents() {
+    void testGetAllStudents() throws Exception {
         // Arrange
         StudentEntry student1 = new StudentEntry("21-0001", "John", "Doe", "john@example.com");
         student1.setGuardianName("Jane Doe");
@@ -48,7 +49,7 @@ class StudentServiceTest {
         
         List<StudentEntry> expectedStudents = Arrays.asList(student1, student2);
         
-        when(mockRepository.findAll()).thenReturn(expectedStudents);
+        when(mockRepository.fetchAll()).thenReturn(expectedStudents);
         
         // Act
         List<StudentEntry> actualStudents = studentService.getAllStudents();
@@ -56,7 +57,7 @@ class StudentServiceTest {
         // Assert
         assertEquals(2, actualStudents.size());
         assertEquals(expectedStudents, actualStudents);
-        verify(mockRepository, times(1)).findAll();
+        verify(mockRepository, times(1)).fetchAll();
     }
 
     @Test
@@ -175,15 +176,37 @@ class StudentServiceTest {
 
     @Test
     @DisplayName("Should handle empty list when no students exist")
-    void testGetAllStudents_EmptyList() {
+    void testGetAllStudents_EmptyList() throws Exception {
         // Arrange
-        when(mockRepository.findAll()).thenReturn(Arrays.asList());
+        when(mockRepository.fetchAll()).thenReturn(Arrays.asList());
         
         // Act
         List<StudentEntry> students = studentService.getAllStudents();
         
         // Assert
         assertTrue(students.isEmpty());
-        verify(mockRepository, times(1)).findAll();
+        verify(mockRepository, times(1)).fetchAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads and local writes from the cache")
+    void testGetAllStudents_CachedAndPatched() throws Exception {
+        // Arrange
+        StudentEntry existing = new StudentEntry("25-0002", "Mary", "Smith", "mary@example.com");
+        when(mockRepository.fetchAll()).thenReturn(Arrays.asList(existing));
+        when(mockRepository.save(any(StudentEntry.class), anyString(), anyString(), anyString())).thenReturn(true);
+        studentService = new StudentService(mockRepository, new StudentSearchIndex(),
+            new SnapshotCache<>("students", mockRepository::fetchAll, mockRepository::fetchChangeStamp, 60_000, 1000));
+        studentService.getAllStudents();
+        
+        // Act
+        StudentEntry added = new StudentEntry("25-0001", "John", "Doe", "john@example.com");
+        studentService.addStudent(added, "Jane Doe", "jane@example.com", "A");
+        List<StudentEntry> students = studentService.getAllStudents();
+        
+        // Assert
+        assertEquals(Arrays.asList(added, existing), students);
+        assertTrue(studentService.searchFilter("john").test(added));
+        verify(mockRepository, times(1)).fetchAll();
     }
 }
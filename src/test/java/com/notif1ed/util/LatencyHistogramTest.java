@@ -0,0 +1,59 @@
+package com.notif1ed.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram class.
+ * Tests sample recording and percentile estimation.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report zeros when empty")
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram("Empty");
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanMillis());
+        assertEquals(0, histogram.getPercentileMillis(99));
+    }
+
+    @Test
+    @DisplayName("Should count samples and track mean and max")
+    void testCountMeanMax() {
+        LatencyHistogram histogram = new LatencyHistogram("Basic");
+        histogram.record(1_000_000);  // 1ms
+        histogram.record(3_000_000);  // 3ms
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(2.0, histogram.getMeanMillis(), 0.001);
+        assertEquals(3.0, histogram.getMaxMillis(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should separate p50 from p99 for skewed samples")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram("Skewed");
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100_000);      // 0.1ms
+        }
+        histogram.record(500_000_000);      // 500ms outlier
+
+        assertTrue(histogram.getPercentileMillis(50) < 1.0, "p50 should stay in the fast bucket");
+        assertTrue(histogram.getPercentileMillis(100) >= 500.0 - 0.001, "p100 should reach the outlier");
+        assertTrue(histogram.getPercentileMillis(100) <= histogram.getMaxMillis(), "Percentile never exceeds max");
+    }
+
+    @Test
+    @DisplayName("Should clear samples on reset")
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram("Reset");
+        histogram.record(5_000_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxMillis());
+    }
+}
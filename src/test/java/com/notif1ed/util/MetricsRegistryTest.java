@@ -0,0 +1,79 @@
+package com.notif1ed.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.notif1ed.util.MetricsRegistry.Sample;
+import com.notif1ed.util.MetricsRegistry.Type;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for MetricsRegistry class.
+ * Tests metric creation, snapshots and reset.
+ */
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("Should return the same timer and counter for the same name")
+    void testSameInstancePerName() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        assertSame(registry.timer("db.StudentRepository.findAll"), registry.timer("db.StudentRepository.findAll"));
+        assertSame(registry.counter("email.sent"), registry.counter("email.sent"));
+    }
+
+    @Test
+    @DisplayName("Should snapshot timers, counters and gauges sorted by name")
+    void testSnapshot() {
+        // Arrange
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer("load.Students.students").record(2_000_000);  // 2ms
+        registry.increment("email.sent");
+        registry.increment("email.sent");
+        AtomicInteger active = new AtomicInteger(3);
+        registry.gauge("db.pool.active", active::get);
+
+        // Act
+        List<Sample> samples = registry.snapshot();
+
+        // Assert
+        assertEquals(List.of("db.pool.active", "email.sent", "load.Students.students"),
+            samples.stream().map(Sample::getName).toList());
+        assertEquals(Type.GAUGE, samples.get(0).getType());
+        assertEquals(3.0, samples.get(0).getMax());
+        assertEquals(2, samples.get(1).getCount());
+        assertEquals(1, samples.get(2).getCount());
+        assertEquals(2.0, samples.get(2).getMax(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should read gauges live and survive a failing gauge")
+    void testGauges() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicInteger waiting = new AtomicInteger(0);
+        registry.gauge("db.pool.waiting", waiting::get);
+        registry.gauge("broken", () -> { throw new IllegalStateException("pool closed"); });
+
+        waiting.set(5);
+        List<Sample> samples = registry.snapshot();
+
+        assertEquals(0.0, samples.get(0).getMax(), "Failing gauge reads as zero");
+        assertEquals(5.0, samples.get(1).getMax());
+    }
+
+    @Test
+    @DisplayName("Should clear timers and counters on reset but keep the metrics")
+    void testReset() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer("fxml.StudentPage.fxml").record(1_000_000);
+        registry.increment("email.failed");
+
+        registry.reset();
+
+        assertEquals(0, registry.timer("fxml.StudentPage.fxml").getCount());
+        assertEquals(0, registry.counter("email.failed").sum());
+        assertEquals(2, registry.snapshot().size());
+    }
+}
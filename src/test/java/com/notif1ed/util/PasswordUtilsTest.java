@@ -89,4 +89,46 @@ class PasswordUtilsTest {
         assertFalse(PasswordUtils.isPasswordStrong(null), 
                     "Null password should not be strong");
     }
+
+    @Test
+    @DisplayName("Should tell BCrypt hashes from legacy plaintext and malformed hashes")
+    void testSchemeOf() {
+        assertEquals(PasswordUtils.HashScheme.BCRYPT,
+                     PasswordUtils.schemeOf("$2a$12$30xSEIZScZ.lNu.mRl1Ki.N888xAPGSabMU0yi3wxxhsgA.gJ8oK."));
+        assertEquals(PasswordUtils.HashScheme.PLAINTEXT, PasswordUtils.schemeOf("admin123"));
+        assertEquals(PasswordUtils.HashScheme.MALFORMED, PasswordUtils.schemeOf("$2a$12$truncated"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed hashes instead of comparing them as plaintext")
+    void testVerifyPasswordMalformedHash() {
+        String truncated = "$2a$12$truncated";
+
+        assertFalse(PasswordUtils.verifyPassword(truncated, truncated),
+                    "A malformed hash should not match itself");
+        assertFalse(PasswordUtils.needsRehash(truncated));
+    }
+
+    @Test
+    @DisplayName("Should verify legacy plaintext and $2b$/$2y$ hashes")
+    void testVerifyPasswordAnyScheme() {
+        String hash = PasswordUtils.hashPassword("secret123", 4);
+
+        assertTrue(PasswordUtils.verifyPassword("admin123", "admin123"));
+        assertFalse(PasswordUtils.verifyPassword("admin124", "admin123"));
+        assertTrue(PasswordUtils.verifyPassword("secret123", hash));
+        assertTrue(PasswordUtils.verifyPassword("secret123", "$2y$" + hash.substring(4)),
+                   "$2y$ hashes from other libraries should verify");
+        assertFalse(PasswordUtils.verifyPassword("secret124", "$2b$" + hash.substring(4)));
+    }
+
+    @Test
+    @DisplayName("Should request a rehash for plaintext and other costs only")
+    void testNeedsRehash() {
+        assertTrue(PasswordUtils.needsRehash("123"), "Plaintext should be re-hashed");
+        assertTrue(PasswordUtils.needsRehash(PasswordUtils.hashPassword("secret123", 4)),
+                   "Hash at another cost should be re-hashed");
+        assertFalse(PasswordUtils.needsRehash(PasswordUtils.hashPassword("secret123")),
+                    "Hash at the configured cost should be kept");
+    }
 }
@@ -0,0 +1,157 @@
+package com.notif1ed.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SessionManager class.
+ * Uses a manual clock and a store in a temporary directory.
+ */
+class SessionManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+    private SessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SessionStore(dir.resolve("session.dat"));
+    }
+
+    private SessionManager manager() {
+        return new SessionManager(store, Duration.ofMinutes(30), Duration.ofHours(12), now::get);
+    }
+
+    private void advanceMinutes(long minutes) {
+        now.addAndGet(TimeUnit.MINUTES.toMillis(minutes));
+    }
+
+    @Test
+    @DisplayName("Should expose the signed-in user as one snapshot")
+    void testLoginLogout() {
+        // Arrange
+        SessionManager sessions = manager();
+
+        // Act
+        sessions.login(4, "Test User", "test2@admin.com");
+        SessionManager.Session session = sessions.getSession();
+
+        // Assert
+        assertTrue(sessions.isLoggedIn());
+        assertEquals(4, session.getUserId());
+        assertEquals("test2@admin.com", sessions.getUserEmail());
+
+        sessions.logout();
+        assertFalse(sessions.isLoggedIn());
+        assertNull(sessions.getUserId());
+        assertEquals(4, session.getUserId(), "Snapshots taken earlier should stay intact");
+    }
+
+    @Test
+    @DisplayName("Should expire the session after the idle timeout and notify once")
+    void testIdleTimeout() {
+        // Arrange
+        SessionManager sessions = manager();
+        AtomicInteger expired = new AtomicInteger();
+        sessions.setOnExpired(expired::incrementAndGet);
+        sessions.login(4, "Test User", "test2@admin.com");
+
+        // Act
+        advanceMinutes(20);
+        sessions.touch();
+        advanceMinutes(20);
+        sessions.checkIdle();
+        boolean activeAfterTouch = sessions.isLoggedIn();
+        advanceMinutes(11);
+        sessions.checkIdle();
+        sessions.checkIdle();
+
+        // Assert
+        assertTrue(activeAfterTouch, "Activity should postpone the timeout");
+        assertFalse(sessions.isLoggedIn());
+        assertEquals(1, expired.get());
+        assertFalse(manager().resume(), "An expired session should not be resumable");
+    }
+
+    @Test
+    @DisplayName("Should resume a saved session after a restart")
+    void testResume() {
+        // Arrange
+        SessionManager first = manager();
+        first.login(4, "Test User", "test2@admin.com");
+        advanceMinutes(5);
+        first.stop();
+
+        // Act
+        advanceMinutes(10);
+        SessionManager restarted = manager();
+        boolean resumed = restarted.resume();
+
+        // Assert
+        assertTrue(resumed);
+        assertEquals(4, restarted.getUserId());
+        assertEquals("Test User", restarted.getUserName());
+    }
+
+    @Test
+    @DisplayName("Should not resume a session that was idle too long, too old, or logged out")
+    void testResumeRejected() {
+        // Arrange
+        manager().login(4, "Test User", "test2@admin.com");
+
+        // Act & Assert: idle past the timeout since the last save
+        advanceMinutes(31);
+        assertFalse(manager().resume());
+
+        // Older than the resume limit, though recently active
+        store.save(new SessionManager.Session(4, "Test User", "test2@admin.com", LocalDateTime.now().minusHours(13)),
+            Instant.ofEpochMilli(now.get()));
+        assertFalse(manager().resume());
+
+        // Logged out
+        SessionManager sessions = manager();
+        sessions.login(4, "Test User", "test2@admin.com");
+        sessions.logout();
+        assertFalse(manager().resume());
+    }
+
+    @Test
+    @DisplayName("Should not write a session back to disk after a logout that raced the idle check")
+    void testLogoutDuringIdleCheck() {
+        // Arrange: the idle check reads the clock after the session, so logging out from the clock
+        // lands between the two
+        AtomicInteger reads = new AtomicInteger();
+        SessionManager[] holder = new SessionManager[1];
+        SessionManager sessions = new SessionManager(store, Duration.ofMinutes(30), Duration.ofHours(12), () -> {
+            if (reads.incrementAndGet() == 3) {
+                holder[0].logout();
+            }
+            return now.get();
+        });
+        holder[0] = sessions;
+        sessions.login(4, "Test User", "test2@admin.com");
+        advanceMinutes(1);
+        sessions.touch();
+
+        // Act
+        sessions.checkIdle();
+
+        // Assert
+        assertFalse(sessions.isLoggedIn());
+        assertTrue(store.load().isEmpty(), "The ended session should not be saved again");
+    }
+}
@@ -0,0 +1,115 @@
+package com.notif1ed.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for SessionStore class.
+ * Uses a temporary directory for the session and key files.
+ */
+class SessionStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final SessionManager.Session session =
+        new SessionManager.Session(4, "Test User", "test2@admin.com", LocalDateTime.of(2025, 11, 10, 7, 52, 57));
+
+    @Test
+    @DisplayName("Should read back a saved session")
+    void testSaveAndLoad() {
+        // Arrange
+        SessionStore store = new SessionStore(dir.resolve("session.dat"));
+        Instant activity = Instant.ofEpochMilli(1_762_760_000_000L);
+
+        // Act
+        store.save(session, activity);
+        Optional<SessionStore.Saved> saved = new SessionStore(dir.resolve("session.dat")).load();
+
+        // Assert
+        assertTrue(saved.isPresent());
+        assertEquals(4, saved.get().getSession().getUserId());
+        assertEquals("Test User", saved.get().getSession().getUserName());
+        assertEquals("test2@admin.com", saved.get().getSession().getUserEmail());
+        assertEquals(session.getLoginTime(), saved.get().getSession().getLoginTime());
+        assertEquals(activity, saved.get().getLastActivity());
+    }
+
+    @Test
+    @DisplayName("Should not store the session in readable form")
+    void testEncrypted() throws Exception {
+        // Arrange
+        Path file = dir.resolve("session.dat");
+
+        // Act
+        new SessionStore(file).save(session, Instant.now());
+
+        // Assert
+        String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        assertFalse(content.contains("test2@admin.com"));
+        assertFalse(content.contains("Test User"));
+    }
+
+    @Test
+    @DisplayName("Should discard a tampered file or one written under another key")
+    void testRejectsTamperedFile() throws Exception {
+        // Arrange
+        Path file = dir.resolve("session.dat");
+        SessionStore store = new SessionStore(file);
+        store.save(session, Instant.now());
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 1] ^= 1;
+        Files.write(file, content);
+
+        // Act & Assert
+        assertTrue(store.load().isEmpty());
+        assertFalse(Files.exists(file), "Damaged file should be deleted");
+
+        store.save(session, Instant.now());
+        Files.write(dir.resolve("session.key"), new byte[32]);
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should load nothing after clear")
+    void testClear() {
+        // Arrange
+        SessionStore store = new SessionStore(dir.resolve("session.dat"));
+        store.save(session, Instant.now());
+
+        // Act
+        store.clear();
+
+        // Assert
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the session and key files readable by the owner only")
+    void testOwnerOnlyPermissions() throws Exception {
+        // Arrange
+        assumeTrue(dir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path file = dir.resolve("notif1ed").resolve("session.dat");
+
+        // Act
+        new SessionStore(file).save(session, Instant.now());
+        new SessionStore(file).save(session, Instant.now());
+
+        // Assert
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(dir.resolve("notif1ed").resolve("session.key"))));
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file.getParent())));
+    }
+}
@@ -0,0 +1,134 @@
+package com.notif1ed.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SlidingWindowLimiter class.
+ * Uses a manual clock so window boundaries are exact.
+ */
+class SlidingWindowLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private SlidingWindowLimiter limiter(int limit, int maxKeys) {
+        return new SlidingWindowLimiter(limit, Duration.ofSeconds(60), maxKeys, now::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("Should allow up to the limit per key and refuse the rest")
+    void testLimitPerKey() {
+        // Arrange
+        SlidingWindowLimiter limiter = limiter(3, 100);
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("a@school.edu"));
+        assertTrue(limiter.tryAcquire("a@school.edu"));
+        assertTrue(limiter.tryAcquire("a@school.edu"));
+        assertFalse(limiter.tryAcquire("a@school.edu"), "Fourth attempt should be refused");
+        assertTrue(limiter.tryAcquire("b@school.edu"), "Other keys should be unaffected");
+        assertTrue(limiter.retryAfter("a@school.edu").compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    @DisplayName("Should report whether an attempt would be allowed without recording it")
+    void testWouldAllow() {
+        // Arrange
+        SlidingWindowLimiter limiter = limiter(2, 100);
+
+        // Act
+        boolean before = limiter.wouldAllow("key");
+        limiter.wouldAllow("key");
+        limiter.tryAcquire("key");
+        boolean afterOne = limiter.wouldAllow("key");
+        limiter.tryAcquire("key");
+
+        // Assert
+        assertTrue(before);
+        assertTrue(afterOne, "Checking should not have used up a slot");
+        assertFalse(limiter.wouldAllow("key"));
+        assertEquals(1, limiter.getTrackedKeys(), "Checking should not track new keys");
+    }
+
+    @Test
+    @DisplayName("Should let earlier attempts age out gradually as the window slides")
+    void testSlidingWindow() {
+        // Arrange
+        SlidingWindowLimiter limiter = limiter(4, 100);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire("key"));
+        }
+
+        // Act: halfway into the next window, half of the previous window still counts
+        advanceSeconds(90);
+
+        // Assert
+        assertTrue(limiter.tryAcquire("key"));
+        assertTrue(limiter.tryAcquire("key"));
+        assertFalse(limiter.tryAcquire("key"), "2 weighted + 2 new attempts should reach the limit");
+
+        advanceSeconds(120);
+        assertEquals(Duration.ZERO, limiter.retryAfter("key"));
+        assertTrue(limiter.tryAcquire("key"), "Attempts should be allowed after two idle windows");
+    }
+
+    @Test
+    @DisplayName("Should predict when the next attempt is allowed")
+    void testRetryAfter() {
+        // Arrange
+        SlidingWindowLimiter limiter = limiter(2, 100);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+
+        // Act
+        Duration wait = limiter.retryAfter("key");
+        now.addAndGet(wait.toNanos() - TimeUnit.SECONDS.toNanos(1));
+        boolean early = limiter.tryAcquire("key");
+        advanceSeconds(1);
+        boolean onTime = limiter.tryAcquire("key");
+
+        // Assert
+        assertFalse(early);
+        assertTrue(onTime);
+    }
+
+    @Test
+    @DisplayName("Should forget a key on reset and drop idle keys when over capacity")
+    void testResetAndEviction() {
+        // Arrange
+        SlidingWindowLimiter limiter = limiter(1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // Act
+        limiter.reset("a");
+        boolean allowedAfterReset = limiter.tryAcquire("a");
+        advanceSeconds(150);
+        limiter.tryAcquire("c");
+
+        // Assert
+        assertTrue(allowedAfterReset);
+        assertEquals(1, limiter.getTrackedKeys(), "Idle keys should be evicted once over capacity");
+    }
+
+    @Test
+    @DisplayName("Should never refuse when disabled")
+    void testDisabled() {
+        SlidingWindowLimiter limiter = limiter(0, 100);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(limiter.tryAcquire("key"));
+        }
+        assertEquals(0, limiter.getTrackedKeys());
+    }
+}
@@ -0,0 +1,84 @@
+package com.notif1ed.util;
+
+import com.notif1ed.model.StudentEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StudentSearchIndex class.
+ * Tests trigram and short-query matching and incremental updates.
+ */
+class StudentSearchIndexTest {
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentSearchIndex();
+        index.rebuild(List.of(
+            new StudentEntry("25-0001", "John", "Doe", "john.doe@example.com"),
+            new StudentEntry("25-0002", "Maria", "Santos", "maria@school.edu"),
+            new StudentEntry("24-0100", "Jonathan", "Reyes", "jreyes@example.com")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should match substrings of any field, ignoring case")
+    void testSubstringSearch() {
+        assertEquals(Set.of("25-0001"), index.search("JOHN"));
+        assertEquals(Set.of("24-0100"), index.search("Nathan"));
+        assertEquals(Set.of("25-0002"), index.search("santos"));
+        assertEquals(Set.of("25-0001", "24-0100"), index.search("example.com"));
+        assertEquals(Set.of("24-0100"), index.search("4-01"));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should scan keys for short queries and match everything when blank")
+    void testShortAndBlankQueries() {
+        assertEquals(Set.of("25-0001", "24-0100"), index.search("jo"));
+        assertNull(index.search("   "));
+        assertTrue(index.filter("").test(new StudentEntry("99-9999", "Any", "One", "x@y.z")));
+    }
+
+    @Test
+    @DisplayName("Should not match text spanning two fields")
+    void testNoCrossFieldMatch() {
+        assertTrue(index.search("johndoe").isEmpty());
+        assertTrue(index.search("0001john").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reflect added, updated and removed students")
+    void testIncrementalUpdates() {
+        index.put(new StudentEntry("25-0003", "Ana", "Cruz", "ana@school.edu"));
+        index.put(new StudentEntry("25-0001", "Johnny", "Doe", "jd@school.edu"));
+        index.remove("25-0002");
+
+        assertEquals(Set.of("25-0003", "25-0001"), index.search("school"));
+        assertEquals(Set.of("24-0100"), index.search("example"));
+        assertTrue(index.search("santos").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Should stay correct after many removals compact the index")
+    void testCompaction() {
+        for (int i = 0; i < 3000; i++) {
+            index.put(new StudentEntry(String.format("30-%04d", i), "Temp", "Student", "temp@example.com"));
+        }
+        for (int i = 0; i < 3000; i++) {
+            index.remove(String.format("30-%04d", i));
+        }
+
+        assertEquals(3, index.size());
+        assertEquals(Set.of("25-0002"), index.search("maria"));
+        assertTrue(index.search("temp").isEmpty());
+    }
+}